@@ -0,0 +1,36 @@
+package com.trading.lob.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler on, so
+ * every result also reports allocation rate
+ * (gc.alloc.rate.norm = bytes allocated per op).
+ *
+ * Usage:
+ * java -jar target/benchmarks.jar              → everything
+ * java -jar target/benchmarks.jar Matching     → classes matching a regex
+ *
+ * Results also go to target/jmh-result.json for
+ * comparing runs before and after a change.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "";
+
+        Options options = new OptionsBuilder()
+            .include(BenchmarkRunner.class.getPackageName() + ".*" + include)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result("target/jmh-result.json")
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,114 @@
+package com.trading.lob.jmh;
+
+import com.trading.lob.book.BookSideType;
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.book.TradeSink;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MatchingEngine.submitOrder on the allocation-free
+ * sink path. Each benchmark puts the book back the
+ * way it found it, so every op sees the same book:
+ *
+ * submitResting → non-crossing limit that rests,
+ *                 then is cancelled
+ * submitCrossing→ buy 100 that fills one resting ask,
+ *                 then a new ask replaces it
+ * submitSweeping→ market buy through sweepLevels ask
+ *                 levels, then the levels are refilled
+ *
+ * Refill orders are part of the measured op; compare
+ * results within a benchmark, not across them.
+ * Each submitted order is one new Order object.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+AlwaysPreTouch"})
+@State(Scope.Thread)
+public class MatchingEngineBenchmark {
+
+    static final long BEST_ASK = 250_100;
+    static final long BEST_BID = 250_000;
+
+    @Param({"TREE", "ARRAY"})
+    BookSideType sideType;
+
+    @Param({"1", "10"})
+    int sweepLevels;
+
+    MatchingEngine engine;
+    TradeSink sink;
+    long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        engine = new MatchingEngine(new OrderBook("RELIANCE",
+            OrderBookBenchmark.config(sideType)));
+        sink = (buyId, sellId, price, qty) -> blackhole.consume(qty);
+
+        // Bids below, asks above: 10 levels × 10 orders each
+        for (int level = 0; level < 10; level++) {
+            for (int i = 0; i < 10; i++) {
+                rest(OrderSide.BID, BEST_BID - level);
+                rest(OrderSide.ASK, BEST_ASK + level + sweepLevels);
+            }
+        }
+        // Sweep target: one 100-lot per level at the touch
+        refillSweepLevels();
+    }
+
+    private void rest(OrderSide side, long price) {
+        engine.submitOrder(new Order(++nextId, "RELIANCE", side,
+            OrderType.LIMIT, price, 100), sink);
+    }
+
+    private void refillSweepLevels() {
+        for (int level = 0; level < sweepLevels; level++) {
+            rest(OrderSide.ASK, BEST_ASK + level);
+        }
+    }
+
+    @Benchmark
+    public boolean submitResting() {
+        long id = ++nextId;
+        engine.submitOrder(new Order(id, "RELIANCE", OrderSide.BID,
+            OrderType.LIMIT, BEST_BID - 5, 100), sink);
+        return engine.cancelOrder(id);
+    }
+
+    @Benchmark
+    public int submitCrossing() {
+        // Rest first so the buy always finds an ask at the touch
+        rest(OrderSide.ASK, BEST_ASK);
+        return engine.submitOrder(new Order(++nextId, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, BEST_ASK, 100), sink);
+    }
+
+    @Benchmark
+    public int submitSweeping() {
+        int fills = engine.submitOrder(new Order(++nextId, "RELIANCE",
+            OrderSide.BID, OrderType.MARKET, 0, sweepLevels * 100), sink);
+        refillSweepLevels();
+        return fills;
+    }
+}
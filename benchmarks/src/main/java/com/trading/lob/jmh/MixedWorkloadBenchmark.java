@@ -0,0 +1,126 @@
+package com.trading.lob.jmh;
+
+import com.trading.lob.book.BookSideType;
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.book.TradeSink;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A realistic message mix, one message per op:
+ *
+ * 60% passive limit 1-20 ticks behind the touch
+ * 30% cancel of a recent order (may already be gone)
+ * 10% marketable limit a few ticks through the touch
+ *
+ * Orders live for at most RECENT newer orders: an add
+ * that reuses a recent-ID slot first cancels the order
+ * still in it. That keeps the book near a steady few
+ * thousand orders instead of growing for the whole run.
+ *
+ * The message stream is generated up front (not timed)
+ * from a fixed seed and replayed in a loop, so every
+ * run and every change sees the same traffic.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+AlwaysPreTouch"})
+@State(Scope.Thread)
+public class MixedWorkloadBenchmark {
+
+    static final int  STREAM = 1 << 16;
+    static final int  RECENT = 1 << 12;
+    static final long MID    = 250_000;
+
+    static final byte ADD    = 0;
+    static final byte CANCEL = 1;
+    static final byte CROSS  = 2;
+
+    @Param({"TREE", "ARRAY"})
+    BookSideType sideType;
+
+    // Pre-generated messages
+    final byte[]    kinds  = new byte[STREAM];
+    final boolean[] bids   = new boolean[STREAM];
+    final long[]    prices = new long[STREAM];
+    final int[]     qtys   = new int[STREAM];
+    final int[]     picks  = new int[STREAM];   // cancel target slot
+
+    // Recently added IDs, for cancels
+    final long[] recent = new long[RECENT];
+
+    MatchingEngine engine;
+    TradeSink sink;
+    long nextId;
+    int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        SplittableRandom random = new SplittableRandom(2024);
+        for (int i = 0; i < STREAM; i++) {
+            int roll = random.nextInt(100);
+            bids[i]  = random.nextBoolean();
+            qtys[i]  = 1 + random.nextInt(500);
+            picks[i] = random.nextInt(RECENT);
+            if (roll < 60) {
+                kinds[i]  = ADD;
+                long away = 1 + random.nextInt(20);
+                prices[i] = bids[i] ? MID - away : MID + away;
+            } else if (roll < 90) {
+                kinds[i]  = CANCEL;
+            } else {
+                kinds[i]  = CROSS;
+                prices[i] = bids[i] ? MID + 5 : MID - 5;
+            }
+        }
+
+        engine = new MatchingEngine(new OrderBook("RELIANCE",
+            OrderBookBenchmark.config(sideType)));
+        sink = (buyId, sellId, price, qty) -> blackhole.consume(qty);
+
+        // Start with a populated book
+        for (int i = 0; i < 2_000; i++) {
+            next();
+        }
+    }
+
+    @Benchmark
+    public int next() {
+        int i = cursor;
+        cursor = (cursor + 1) & (STREAM - 1);
+
+        if (kinds[i] == CANCEL) {
+            return engine.cancelOrder(recent[picks[i]]) ? 1 : 0;
+        }
+
+        long id   = ++nextId;
+        int  slot = (int) id & (RECENT - 1);
+        if (recent[slot] != 0) {
+            engine.cancelOrder(recent[slot]);   // age out
+        }
+        recent[slot] = id;
+        return engine.submitOrder(new Order(id, "RELIANCE",
+            bids[i] ? OrderSide.BID : OrderSide.ASK, OrderType.LIMIT,
+            prices[i], qtys[i]), sink);
+    }
+}
@@ -0,0 +1,127 @@
+package com.trading.lob.jmh;
+
+import com.trading.lob.book.BookConfig;
+import com.trading.lob.book.BookSideType;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderBook on its own - no matching.
+ *
+ * addOrder       → BATCH non-crossing orders into an
+ *                  empty book, ±50 ticks around 2500.00
+ * cancelAndReAdd → cancel a random order from one level
+ *                  of queueDepth orders, then re-add it
+ *                  (keeps the depth constant)
+ *
+ * Both run on TREE and ARRAY book sides.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+AlwaysPreTouch"})
+public class OrderBookBenchmark {
+
+    static final int BATCH = 1024;
+    static final long MID  = 250_000;
+
+    static BookConfig config(BookSideType sideType) {
+        return sideType == BookSideType.ARRAY
+            ? BookConfig.defaults().withArrayLadder(2048)
+            : BookConfig.defaults().withTreeSides();
+    }
+
+    // ─────────────────────────────────────────────────
+    // addOrder - fresh book and orders per batch
+    // (setup is not timed)
+    // ─────────────────────────────────────────────────
+    @State(Scope.Thread)
+    public static class AddState {
+
+        @Param({"TREE", "ARRAY"})
+        BookSideType sideType;
+
+        final SplittableRandom random = new SplittableRandom(42);
+        OrderBook book;
+        Order[] orders;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            book   = new OrderBook("RELIANCE", config(sideType));
+            orders = new Order[BATCH];
+            for (int i = 0; i < BATCH; i++) {
+                boolean bid  = random.nextBoolean();
+                long offset  = 1 + random.nextInt(50);
+                orders[i] = new Order(i + 1, "RELIANCE",
+                    bid ? OrderSide.BID : OrderSide.ASK, OrderType.LIMIT,
+                    bid ? MID - offset : MID + offset,
+                    1 + random.nextInt(1_000));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public OrderBook addOrder(AddState s) {
+        for (Order order : s.orders) {
+            s.book.addOrder(order);
+        }
+        return s.book;
+    }
+
+    // ─────────────────────────────────────────────────
+    // cancelOrder at a given queue depth
+    // ─────────────────────────────────────────────────
+    @State(Scope.Thread)
+    public static class CancelState {
+
+        @Param({"TREE", "ARRAY"})
+        BookSideType sideType;
+
+        @Param({"1", "100", "10000"})
+        int queueDepth;
+
+        final SplittableRandom random = new SplittableRandom(7);
+        OrderBook book;
+        Order[] orders;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            book = new OrderBook("RELIANCE", config(sideType)
+                .withExpectedOrders(queueDepth));
+            orders = new Order[queueDepth];
+            for (int i = 0; i < queueDepth; i++) {
+                orders[i] = new Order(i + 1, "RELIANCE", OrderSide.BID,
+                    OrderType.LIMIT, MID, 100);
+                book.addOrder(orders[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean cancelAndReAdd(CancelState s) {
+        Order order = s.orders[s.random.nextInt(s.queueDepth)];
+        boolean cancelled = s.book.cancelOrder(order.getOrderId());
+        s.book.addOrder(order);
+        return cancelled;
+    }
+}
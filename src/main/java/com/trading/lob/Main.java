@@ -3,9 +3,11 @@ package com.trading.lob;
 import com.trading.lob.book.MatchingEngine;
 import com.trading.lob.book.OrderBook;
 import com.trading.lob.display.BookDisplay;
+import com.trading.lob.event.ConsoleEngineListener;
 import com.trading.lob.model.Order;
 import com.trading.lob.model.OrderSide;
 import com.trading.lob.model.OrderType;
+import com.trading.lob.model.PriceScale;
 import com.trading.lob.model.Trade;
 
 import java.util.List;
@@ -32,8 +34,11 @@ public class Main {
             "==========================================");
 
         // Create order book for RELIANCE stock
+        // Console listener prints each trade as it happens
         OrderBook book    = new OrderBook("RELIANCE");
-        MatchingEngine me = new MatchingEngine(book);
+        PriceScale scale  = book.getPriceScale();
+        MatchingEngine me = new MatchingEngine(
+            book, new ConsoleEngineListener(scale));
 
         // ── SCENARIO 1: Build the Book ─────────────
         System.out.println("\n--- SCENARIO 1: Building the Book ---");
@@ -41,28 +46,34 @@ public class Main {
         // Add BID (buy) orders
         List<Trade> t1 = me.submitOrder(new Order(
             me.getNextOrderId(), "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2500.00, 500));
+            OrderSide.BID, OrderType.LIMIT,
+            scale.toTicks(2500.00), 500));
 
         List<Trade> t2 = me.submitOrder(new Order(
             me.getNextOrderId(), "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2499.00, 1000));
+            OrderSide.BID, OrderType.LIMIT,
+            scale.toTicks(2499.00), 1000));
 
         List<Trade> t3 = me.submitOrder(new Order(
             me.getNextOrderId(), "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2498.00, 750));
+            OrderSide.BID, OrderType.LIMIT,
+            scale.toTicks(2498.00), 750));
 
         // Add ASK (sell) orders
         List<Trade> t4 = me.submitOrder(new Order(
             me.getNextOrderId(), "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.ASK, OrderType.LIMIT,
+            scale.toTicks(2501.00), 300));
 
         List<Trade> t5 = me.submitOrder(new Order(
             me.getNextOrderId(), "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2502.00, 500));
+            OrderSide.ASK, OrderType.LIMIT,
+            scale.toTicks(2502.00), 500));
 
         List<Trade> t6 = me.submitOrder(new Order(
             me.getNextOrderId(), "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2503.00, 200));
+            OrderSide.ASK, OrderType.LIMIT,
+            scale.toTicks(2503.00), 200));
 
         System.out.println("Book built with 6 orders:");
         BookDisplay.printBook(book);
@@ -78,7 +89,7 @@ public class Main {
         List<Trade> trades2 = me.submitOrder(new Order(
             me.getNextOrderId(), "RELIANCE",
             OrderSide.BID, OrderType.LIMIT,
-            2501.00, 300));
+            scale.toTicks(2501.00), 300));
 
         System.out.println(
             "Book after full match:");
@@ -96,7 +107,7 @@ public class Main {
         List<Trade> trades3 = me.submitOrder(new Order(
             me.getNextOrderId(), "RELIANCE",
             OrderSide.BID, OrderType.LIMIT,
-            2502.00, 700));
+            scale.toTicks(2502.00), 700));
 
         System.out.println(
             "Book after partial match:");
@@ -113,7 +124,7 @@ public class Main {
         List<Trade> trades4 = me.submitOrder(new Order(
             me.getNextOrderId(), "RELIANCE",
             OrderSide.ASK, OrderType.MARKET,
-            0.0, 200));
+            0, 200));
 
         System.out.println(
             "Book after market order:");
@@ -137,7 +148,7 @@ public class Main {
         // ── TRADE HISTORY ──────────────────────────
         System.out.println(
             "\n--- ALL TRADES EXECUTED ---");
-        BookDisplay.printTrades(me.getTradeHistory());
+        BookDisplay.printTrades(me.getTradeHistory(), scale);
 
         System.out.println(
             "==========================================");
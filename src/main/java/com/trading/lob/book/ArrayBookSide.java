@@ -0,0 +1,326 @@
+package com.trading.lob.book;
+
+import com.trading.lob.model.OrderSide;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Book side backed by an array "ladder" of price slots.
+ *
+ * Slot i holds the level at price (basePrice + i):
+ *
+ *   basePrice = 249872 (₹2498.72)
+ *   ┌──────┬──────┬──────┬──────┬──────┐
+ *   │ null │ L    │ null │ L    │ L    │ ...
+ *   └──────┴──────┴──────┴──────┴──────┘
+ *     +0     +1     +2     +3     +4
+ *
+ * → Level lookup is an array index, no tree walk
+ * → Best level index is cached, so best price is O(1)
+ * → A BitSet of occupied slots gives a fast scan
+ *   to the next non-empty level when the best empties
+ *
+ * Prices outside the window go to a sparse TreeMap.
+ * The window follows the touch: whenever the best
+ * price would land outside it, or within EDGE_MARGIN
+ * of either end, it recentres on the best price -
+ * levels that fall outside move to the sparse map,
+ * sparse levels that now fit move in:
+ *
+ *   best 1009, window [992..1007], stale level at 995
+ *   → recentre: window [1001..1016], 995 → sparse
+ *
+ * So a stale level far from the touch never pins the
+ * window, and every sparse level is worse than every
+ * window level.
+ *
+ * Levels removed from the window stay in their slot
+ * and are reused if that price comes back.
+ */
+public class ArrayBookSide implements BookSide {
+
+    private final OrderSide side;
+
+    // ASK side: lower price is better
+    // BID side: higher price is better
+    private final boolean ascending;
+
+    // Price window: slot i ↔ price basePrice + i
+    private final PriceLevel[] slots;
+    private final BitSet occupied;
+    private long basePrice;
+    private boolean anchored;
+
+    // Non-empty levels inside the window
+    private int windowCount;
+
+    // Cached index of the best slot, -1 if window empty
+    private int bestIndex = -1;
+
+    // Far-from-touch levels, sorted best first
+    private final TreeMap<Long, PriceLevel> sparse;
+
+    // Cached best level in the sparse map
+    private PriceLevel sparseBest;
+
+    // Recentre when the best is this close to an end
+    private final int edgeMargin;
+
+    public ArrayBookSide(OrderSide side, int ladderSize) {
+        if (ladderSize <= 0) {
+            throw new IllegalArgumentException(
+                "Ladder size must be positive: " + ladderSize
+            );
+        }
+        this.side      = side;
+        this.ascending = side == OrderSide.ASK;
+        this.slots     = new PriceLevel[ladderSize];
+        this.occupied  = new BitSet(ladderSize);
+        this.sparse    = ascending
+            ? new TreeMap<>()
+            : new TreeMap<>(Collections.reverseOrder());
+        this.edgeMargin = ladderSize / 8;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Slot index for a price, or -1 if outside window
+    // ─────────────────────────────────────────────────
+    private int indexOf(long price) {
+        if (!anchored) return -1;
+        long offset = price - basePrice;
+        if (offset < 0 || offset >= slots.length) return -1;
+        return (int) offset;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Is price a better than price b on this side?
+    // ─────────────────────────────────────────────────
+    private boolean isBetter(long a, long b) {
+        return ascending ? a < b : a > b;
+    }
+
+    @Override
+    public PriceLevel getLevel(long price) {
+        int index = indexOf(price);
+        if (index >= 0) {
+            return occupied.get(index) ? slots[index] : null;
+        }
+        return sparse.get(price);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Find or create a level
+    // O(1) inside the window
+    // ─────────────────────────────────────────────────
+    @Override
+    public PriceLevel getOrCreateLevel(long price) {
+        int index = indexOf(price);
+
+        // A new best outside or near the edge moves the
+        // window; so does anything on an empty window
+        boolean newBest = bestIndex < 0
+            || isBetter(price, slots[bestIndex].getPrice());
+        if (index < 0 ? newBest || windowCount == 0
+                      : newBest && nearEdge(index)) {
+            recenter(price);
+            index = indexOf(price);
+        }
+
+        if (index < 0) {
+            PriceLevel level = sparse.get(price);
+            if (level == null) {
+                level = new PriceLevel(price);
+                sparse.put(price, level);
+                if (sparseBest == null
+                        || isBetter(price, sparseBest.getPrice())) {
+                    sparseBest = level;
+                }
+            }
+            return level;
+        }
+
+        PriceLevel level = slots[index];
+        if (level == null) {
+            level = new PriceLevel(price);
+            slots[index] = level;
+        }
+        if (!occupied.get(index)) {
+            occupy(index);
+        }
+        return level;
+    }
+
+    private boolean nearEdge(int index) {
+        return index < edgeMargin || index >= slots.length - edgeMargin;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Mark a slot non-empty and update cached best
+    // ─────────────────────────────────────────────────
+    private void occupy(int index) {
+        occupied.set(index);
+        windowCount++;
+        if (bestIndex < 0
+                || (ascending ? index < bestIndex : index > bestIndex)) {
+            bestIndex = index;
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Remove an empty level
+    // O(1) unless it was the best, then a BitSet scan
+    // ─────────────────────────────────────────────────
+    @Override
+    public void removeLevel(PriceLevel level) {
+        long price = level.getPrice();
+        int index  = indexOf(price);
+
+        if (index >= 0) {
+            if (slots[index] != level || !occupied.get(index)) {
+                return;
+            }
+            occupied.clear(index);
+            windowCount--;
+            if (index == bestIndex) {
+                bestIndex = ascending
+                    ? occupied.nextSetBit(index + 1)
+                    : occupied.previousSetBit(index - 1);
+            }
+        } else {
+            if (!sparse.remove(price, level)) {
+                return;
+            }
+            if (level == sparseBest) {
+                sparseBest = sparse.isEmpty()
+                    ? null
+                    : sparse.get(sparse.firstKey());
+            }
+        }
+
+        // Window drained but far levels remain, or the
+        // best slid near an end: follow the new best
+        if (windowCount == 0) {
+            if (sparseBest != null) {
+                recenter(sparseBest.getPrice());
+            }
+        } else if (nearEdge(bestIndex)) {
+            recenter(slots[bestIndex].getPrice());
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Move the window so price sits in the middle
+    // O(ladder size): only when the touch has moved
+    // about half a window since the last one
+    // ─────────────────────────────────────────────────
+    private void recenter(long price) {
+        // Park every window level in the sparse map;
+        // those that still fit come straight back
+        for (int i = occupied.nextSetBit(0); i >= 0;
+             i = occupied.nextSetBit(i + 1)) {
+            sparse.put(slots[i].getPrice(), slots[i]);
+        }
+        occupied.clear();
+        windowCount = 0;
+
+        basePrice  = price - slots.length / 2;
+        anchored   = true;
+        bestIndex  = -1;
+        Arrays.fill(slots, null);
+
+        // Pull sparse levels that now fit in the window
+        Map<Long, PriceLevel> inWindow = ascending
+            ? sparse.subMap(basePrice, true,
+                            basePrice + slots.length - 1, true)
+            : sparse.subMap(basePrice + slots.length - 1, true,
+                            basePrice, true);
+        for (PriceLevel level : inWindow.values()) {
+            int index = (int) (level.getPrice() - basePrice);
+            slots[index] = level;
+            occupy(index);
+        }
+        inWindow.clear();
+        sparseBest = sparse.isEmpty()
+            ? null
+            : sparse.get(sparse.firstKey());
+    }
+
+    // ─────────────────────────────────────────────────
+    // Best level: better of window best and sparse best
+    // ─────────────────────────────────────────────────
+    @Override
+    public PriceLevel getBestLevel() {
+        PriceLevel windowBest = bestIndex >= 0 ? slots[bestIndex] : null;
+        if (windowBest == null) return sparseBest;
+        if (sparseBest == null) return windowBest;
+        return isBetter(sparseBest.getPrice(), windowBest.getPrice())
+            ? sparseBest
+            : windowBest;
+    }
+
+    @Override
+    public long getBestPrice() {
+        PriceLevel best = getBestLevel();
+        return best == null ? 0 : best.getPrice();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Next level after price in priority order
+    // Scans the BitSet, then the sparse map only if it
+    // can hold something better
+    // ─────────────────────────────────────────────────
+    @Override
+    public PriceLevel nextLevel(long price) {
+        PriceLevel windowNext = null;
+        if (windowCount > 0) {
+            long offset = price - basePrice;
+            int index;
+            if (ascending) {
+                index = offset < 0
+                    ? occupied.nextSetBit(0)
+                    : offset >= slots.length - 1
+                        ? -1
+                        : occupied.nextSetBit((int) offset + 1);
+            } else {
+                index = offset >= slots.length
+                    ? occupied.previousSetBit(slots.length - 1)
+                    : offset <= 0
+                        ? -1
+                        : occupied.previousSetBit((int) offset - 1);
+            }
+            if (index >= 0) windowNext = slots[index];
+        }
+
+        // Nothing in sparse beats its best: skip the lookup
+        if (windowNext != null && (sparseBest == null
+                || isBetter(windowNext.getPrice(), sparseBest.getPrice()))) {
+            return windowNext;
+        }
+
+        // higherEntry follows the comparator (next worse price)
+        Map.Entry<Long, PriceLevel> sparseEntry = sparse.higherEntry(price);
+        PriceLevel sparseNext = sparseEntry == null ? null : sparseEntry.getValue();
+
+        if (windowNext == null) return sparseNext;
+        if (sparseNext == null) return windowNext;
+        return isBetter(sparseNext.getPrice(), windowNext.getPrice())
+            ? sparseNext
+            : windowNext;
+    }
+
+    // Is price inside the array window right now?
+    public boolean isInWindow(long price) {
+        return indexOf(price) >= 0;
+    }
+
+    @Override
+    public boolean isEmpty()   { return windowCount == 0 && sparse.isEmpty(); }
+    @Override
+    public int size()          { return windowCount + sparse.size();         }
+    @Override
+    public OrderSide getSide() { return side;                                }
+}
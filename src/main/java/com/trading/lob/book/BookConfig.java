@@ -0,0 +1,104 @@
+package com.trading.lob.book;
+
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.PriceScale;
+
+/**
+ * Per-symbol settings for an OrderBook.
+ *
+ * Immutable. Start from defaults() and override
+ * what you need; each with...() returns a copy.
+ *
+ * Example:
+ * BookConfig cfg = BookConfig.defaults()
+ *     .withPriceScale(new PriceScale(0.05))
+ *     .withArrayLadder(2048)
+ *     .withExpectedOrders(100_000);
+ * OrderBook book = new OrderBook("RELIANCE", cfg);
+ */
+public class BookConfig {
+
+    // Slots in the array ladder: ±1024 ticks around the touch
+    public static final int DEFAULT_LADDER_SIZE = 2048;
+
+    // Resting orders the order index is sized for
+    public static final int DEFAULT_EXPECTED_ORDERS = 4096;
+
+    private static final BookConfig DEFAULTS = new BookConfig(
+        PriceScale.DEFAULT, BookSideType.ARRAY,
+        DEFAULT_LADDER_SIZE, DEFAULT_EXPECTED_ORDERS
+    );
+
+    private final PriceScale priceScale;
+    private final BookSideType sideType;
+    private final int ladderSize;
+    private final int expectedOrders;
+
+    private BookConfig(PriceScale priceScale,
+                       BookSideType sideType,
+                       int ladderSize,
+                       int expectedOrders) {
+        if (ladderSize <= 0) {
+            throw new IllegalArgumentException(
+                "Ladder size must be positive: " + ladderSize
+            );
+        }
+        if (expectedOrders < 0) {
+            throw new IllegalArgumentException(
+                "Expected orders must not be negative: " +
+                expectedOrders
+            );
+        }
+        this.priceScale     = priceScale;
+        this.sideType       = sideType;
+        this.ladderSize     = ladderSize;
+        this.expectedOrders = expectedOrders;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Defaults: ₹0.01 tick, array ladder sides
+    // (2048 slots, no boxing near the touch),
+    // index sized for 4096 resting orders
+    // ─────────────────────────────────────────────────
+    public static BookConfig defaults() {
+        return DEFAULTS;
+    }
+
+    public BookConfig withPriceScale(PriceScale priceScale) {
+        return new BookConfig(priceScale, sideType,
+                              ladderSize, expectedOrders);
+    }
+
+    public BookConfig withTreeSides() {
+        return new BookConfig(priceScale, BookSideType.TREE,
+                              ladderSize, expectedOrders);
+    }
+
+    public BookConfig withArrayLadder(int ladderSize) {
+        return new BookConfig(priceScale, BookSideType.ARRAY,
+                              ladderSize, expectedOrders);
+    }
+
+    // Peak resting orders expected in one session;
+    // the order index is preallocated for this many
+    public BookConfig withExpectedOrders(int expectedOrders) {
+        return new BookConfig(priceScale, sideType,
+                              ladderSize, expectedOrders);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Build one side of the book from this config
+    // ─────────────────────────────────────────────────
+    BookSide newSide(OrderSide side) {
+        if (sideType == BookSideType.ARRAY) {
+            return new ArrayBookSide(side, ladderSize);
+        }
+        return new TreeBookSide(side);
+    }
+
+    // Getters
+    public PriceScale getPriceScale()   { return priceScale; }
+    public BookSideType getSideType()   { return sideType;   }
+    public int getLadderSize()          { return ladderSize; }
+    public int getExpectedOrders()      { return expectedOrders; }
+}
@@ -0,0 +1,51 @@
+package com.trading.lob.book;
+
+import com.trading.lob.model.OrderSide;
+
+/**
+ * One side of the order book (all bids or all asks).
+ *
+ * Holds the PriceLevels of that side and knows their
+ * priority order:
+ * BID side → highest price first
+ * ASK side → lowest price first
+ *
+ * Implementations:
+ * TreeBookSide  → TreeMap, O(log n) everywhere
+ * ArrayBookSide → array ladder indexed by tick,
+ *                 O(1) best price near the touch
+ *
+ * Levels returned by this interface are never empty;
+ * callers remove a level once its last order leaves.
+ */
+public interface BookSide {
+
+    // Which side this is (BID or ASK)
+    OrderSide getSide();
+
+    // Level at this price, or null if none
+    PriceLevel getLevel(long price);
+
+    // Level at this price, created if missing
+    PriceLevel getOrCreateLevel(long price);
+
+    // Remove a level that has become empty
+    void removeLevel(PriceLevel level);
+
+    // Best level (highest bid / lowest ask), or null
+    PriceLevel getBestLevel();
+
+    // Best price in ticks, or 0 if side is empty
+    long getBestPrice();
+
+    // Next level after this price in priority order,
+    // or null if there is none. Walk the side with:
+    // for (l = getBestLevel(); l != null; l = nextLevel(l.getPrice()))
+    PriceLevel nextLevel(long price);
+
+    // True if no levels on this side
+    boolean isEmpty();
+
+    // Number of price levels on this side
+    int size();
+}
@@ -0,0 +1,18 @@
+package com.trading.lob.book;
+
+/**
+ * Which data structure backs each side of a book.
+ *
+ * ARRAY = Array ladder indexed by tick offset
+ *         O(1) best price and level insert/delete
+ *         near the touch, sparse map far from it
+ *         The default: no boxing on the hot path
+ *
+ * TREE  = TreeMap of price levels
+ *         Any price range, O(log n) per operation,
+ *         boxes a Long key per lookup
+ */
+public enum BookSideType {
+    TREE,   // TreeBookSide
+    ARRAY   // ArrayBookSide
+}
@@ -0,0 +1,88 @@
+package com.trading.lob.book;
+
+/**
+ * Top-of-side depth, cached until the side changes.
+ *
+ * OrderBook keeps one per side and calls invalidate()
+ * on every level change. The next depth query walks
+ * the side once and caches the top levels in
+ * parallel primitive arrays; queries after that copy
+ * straight out of the arrays until the next change:
+ *
+ *  change → version++
+ *  query  → version == builtVersion ?
+ *             yes: copy cached arrays
+ *             no : walk best → worse, then copy
+ *
+ * Arrays grow to the deepest query ever made and are
+ * reused after that.
+ */
+final class DepthCache {
+
+    private final BookSide side;
+
+    // Bumped on every change to the side
+    private long version;
+    private long builtVersion = -1;
+
+    private long[] prices      = new long[0];
+    private int[]  volumes     = new int[0];
+    private int[]  orderCounts = new int[0];
+
+    private int builtDepth;      // Levels asked for
+    private int levels;          // Levels found (<= builtDepth)
+
+    DepthCache(BookSide side) {
+        this.side = side;
+    }
+
+    void invalidate() {
+        version++;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Copy up to maxLevels best-first levels into the
+    // caller's arrays; returns how many were copied
+    // ─────────────────────────────────────────────────
+    int copy(int maxLevels, long[] outPrices, int[] outVolumes,
+             int[] outOrderCounts) {
+        ensure(maxLevels);
+        int n = Math.min(levels, maxLevels);
+        System.arraycopy(prices, 0, outPrices, 0, n);
+        System.arraycopy(volumes, 0, outVolumes, 0, n);
+        System.arraycopy(orderCounts, 0, outOrderCounts, 0, n);
+        return n;
+    }
+
+    // Rebuild if the side changed, or if a deeper
+    // query may find levels the cache stopped short of
+    private void ensure(int maxLevels) {
+        boolean stale      = builtVersion != version;
+        boolean tooShallow = maxLevels > builtDepth && levels == builtDepth;
+        if (!stale && !tooShallow) {
+            return;
+        }
+
+        int depth = Math.max(maxLevels, builtDepth);
+        if (depth > prices.length) {
+            prices      = new long[depth];
+            volumes     = new int[depth];
+            orderCounts = new int[depth];
+        }
+
+        int n = 0;
+        for (PriceLevel level = side.getBestLevel();
+             level != null && n < depth;
+             level = side.nextLevel(level.getPrice())) {
+            prices[n]      = level.getPrice();
+            volumes[n]     = level.getTotalVolume();
+            orderCounts[n] = level.getOrderCount();
+            n++;
+        }
+        levels       = n;
+        builtDepth   = depth;
+        builtVersion = version;
+    }
+
+    long getVersion() { return version; }
+}
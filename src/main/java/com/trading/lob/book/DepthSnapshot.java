@@ -0,0 +1,82 @@
+package com.trading.lob.book;
+
+/**
+ * Level-2 (aggregated) depth for both sides of one
+ * book, in preallocated primitive arrays.
+ *
+ * Create one per consumer and refill it as often as
+ * needed - refills never allocate:
+ *
+ * DepthSnapshot depth = new DepthSnapshot(10);
+ * if (book.getDepth(depth)) {           // changed?
+ *     for (int i = 0; i < depth.getBidLevels(); i++)
+ *         publish(depth.getBidPrice(i),
+ *                 depth.getBidVolume(i),
+ *                 depth.getBidOrderCount(i));
+ * }
+ *
+ * Index 0 is the best level on each side. Prices are
+ * ticks. getDepth() returns false, and copies
+ * nothing, when the book has not changed since this
+ * snapshot was last filled from it.
+ */
+public class DepthSnapshot {
+
+    private final int depth;
+
+    private final long[] bidPrices;
+    private final int[]  bidVolumes;
+    private final int[]  bidOrderCounts;
+    private final long[] askPrices;
+    private final int[]  askVolumes;
+    private final int[]  askOrderCounts;
+
+    private int bidLevels;
+    private int askLevels;
+
+    // Book and version this was filled from
+    private OrderBook source;
+    private long version = -1;
+
+    public DepthSnapshot(int depth) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException(
+                "Depth must be positive: " + depth
+            );
+        }
+        this.depth          = depth;
+        this.bidPrices      = new long[depth];
+        this.bidVolumes     = new int[depth];
+        this.bidOrderCounts = new int[depth];
+        this.askPrices      = new long[depth];
+        this.askVolumes     = new int[depth];
+        this.askOrderCounts = new int[depth];
+    }
+
+    // ─────────────────────────────────────────────────
+    // Filled by OrderBook.getDepth(DepthSnapshot)
+    // ─────────────────────────────────────────────────
+    boolean isCurrent(OrderBook book, long bookVersion) {
+        return source == book && version == bookVersion;
+    }
+
+    void fill(OrderBook book, long bookVersion,
+              DepthCache bids, DepthCache asks) {
+        bidLevels = bids.copy(depth, bidPrices, bidVolumes, bidOrderCounts);
+        askLevels = asks.copy(depth, askPrices, askVolumes, askOrderCounts);
+        source    = book;
+        version   = bookVersion;
+    }
+
+    // Getters - i from 0 (best) to get...Levels() - 1
+    public int getDepth()                 { return depth;             }
+    public int getBidLevels()             { return bidLevels;         }
+    public int getAskLevels()             { return askLevels;         }
+    public long getBidPrice(int i)        { return bidPrices[i];      }
+    public int getBidVolume(int i)        { return bidVolumes[i];     }
+    public int getBidOrderCount(int i)    { return bidOrderCounts[i]; }
+    public long getAskPrice(int i)        { return askPrices[i];      }
+    public int getAskVolume(int i)        { return askVolumes[i];     }
+    public int getAskOrderCount(int i)    { return askOrderCounts[i]; }
+    public long getVersion()              { return version;           }
+}
@@ -1,8 +1,19 @@
 package com.trading.lob.book;
 
+import com.trading.lob.event.EngineListener;
+import com.trading.lob.history.TradeHistory;
+import com.trading.lob.ingress.CommandType;
+import com.trading.lob.journal.Journal;
+import com.trading.lob.marketdata.MarketByOrderFeed;
+import com.trading.lob.marketdata.TopOfBookSlot;
+import com.trading.lob.metrics.EngineMetrics;
 import com.trading.lob.model.Order;
 import com.trading.lob.model.OrderSide;
 import com.trading.lob.model.OrderType;
+import com.trading.lob.model.PostOnly;
+import com.trading.lob.model.RejectReason;
+import com.trading.lob.model.SelfTradePrevention;
+import com.trading.lob.model.TimeInForce;
 import com.trading.lob.model.Trade;
 
 import java.util.ArrayList;
@@ -27,168 +38,529 @@ import java.util.List;
  * New:  BUY  500 @ ₹2502
  * → Match! Trade 300 @ ₹2501
  * → Remaining 200 BUY goes into book
+ *
+ * Two ways to submit:
+ * submitOrder(order)       → returns a List of Trade objects
+ * submitOrder(order, sink) → fills go to a TradeSink as
+ *                            primitives, nothing allocated
+ *
+ * Time in force decides what happens to the unfilled
+ * part: DAY, GTC and GTD limit orders rest; IOC drops
+ * it; FOK is sized against the book first and killed
+ * (NOT_FILLABLE) before it trades if it cannot fill
+ * in full. expireOrders removes DAY and GTD orders
+ * whose time is up.
+ *
+ * Iceberg orders (display quantity > 0) rest showing
+ * one slice; each time it trades away the next slice
+ * comes from the hidden reserve and joins the back of
+ * the level. Depth and feeds see shown size only.
+ *
+ * STOP and STOP_LIMIT orders wait in a StopBook, off
+ * the book. A fill that reaches a stop's price marks
+ * it; once the current command is done the triggered
+ * stops run, in trigger order, as market / limit
+ * orders - and any stops those reach run after them.
+ *
+ * PEG_PRIMARY, PEG_MID and PEG_MARKET orders rest at
+ * a price derived from the touch (see PegBook). After
+ * each command, if the non-peg best bid or ask moved,
+ * every peg is repriced in one pass - moved to the
+ * back of its new level, never crossing, never
+ * journaled (replay re-derives the same moves).
+ *
+ * A post-only order that would trade on arrival is
+ * rejected (WOULD_CROSS) or slid one tick short of
+ * the other side. An order with a self-trade
+ * prevention mode and an owner ID is checked against
+ * the owner of each resting order it meets, inline
+ * in the match loop - one compare per fill, and none
+ * at all for orders without a mode.
+ *
+ * replaceOrder(id, price, qty) amends a resting order:
+ * a quantity cut at the same price keeps its place in
+ * the queue, anything else goes to the back of the
+ * new level (and trades first if it now crosses).
+ *
+ * Trades from submitOrder(order) are kept in a
+ * fixed-size TradeHistory ring (last N in memory,
+ * older ones optionally spilled to disk), so memory
+ * stays flat however long the session runs.
+ *
+ * With a Journal attached, every submit, cancel and
+ * replace is appended to it before it is applied, so
+ * the book can be rebuilt by replay (see
+ * Journal.rebuild).
+ *
+ * With EngineMetrics attached, the service time of
+ * every submit, cancel and replace is recorded in a
+ * latency histogram. Without it nothing is timed.
+ *
+ * With a MarketByOrderFeed attached, every rest,
+ * execution, cancel and replace of a resting order is
+ * encoded as a level 3 message keyed by order ID.
+ *
+ * With a TopOfBookSlot attached, best bid/ask, their
+ * sizes and the last trade are published to it after
+ * every command that changed them (conflated, never
+ * blocks on readers).
+ *
+ * Nothing is printed here. Every accept, fill, rest,
+ * cancel and level change goes to an EngineListener
+ * (NO_OP unless one is passed in).
  */
 public class MatchingEngine {
 
     private final OrderBook orderBook;
 
-    // All executed trades stored here
-    private final List<Trade> tradeHistory;
+    // Synchronous event callbacks
+    private final EngineListener listener;
+
+    // Trades kept in memory when no history is passed in
+    public static final int DEFAULT_HISTORY_CAPACITY = 4096;
+
+    // Recent executed trades, bounded
+    private final TradeHistory tradeHistory;
+
+    // Records fills into tradeHistory
+    private final TradeSink historySink;
+
+    // Every fill, whichever submit path produced it
+    private long totalTrades;
+
+    // Write-ahead log, null when not journaling
+    private Journal journal;
+
+    // Latency histograms, null when not measuring
+    private EngineMetrics metrics;
+
+    // Level 3 feed, null when not publishing
+    private MarketByOrderFeed orderFeed;
+
+    // Conflated best prices, null when not publishing
+    private TopOfBookSlot topOfBook;
+
+    // Most recent fill
+    private long lastTradePrice;
+    private int  lastTradeQuantity;
+
+    // Stop orders waiting for their trigger
+    private final StopBook stopBook = new StopBook();
+
+    // A fill reached a parked stop; run triggerStops
+    private boolean stopsPending;
+
+    // Pegged orders, repriced when the touch moves
+    private final PegBook pegBook = new PegBook();
 
     // Auto incrementing order ID
     private long nextOrderId = 1;
 
     public MatchingEngine(OrderBook orderBook) {
+        this(orderBook, EngineListener.NO_OP);
+    }
+
+    public MatchingEngine(OrderBook orderBook,
+                          EngineListener listener) {
+        this(orderBook, listener, new TradeHistory(
+            orderBook.getSymbol(), DEFAULT_HISTORY_CAPACITY));
+    }
+
+    // Pass a TradeHistory with a spill file to keep
+    // every trade on disk
+    public MatchingEngine(OrderBook orderBook,
+                          EngineListener listener,
+                          TradeHistory tradeHistory) {
         this.orderBook    = orderBook;
-        this.tradeHistory = new ArrayList<>();
+        this.listener     = listener;
+        this.tradeHistory = tradeHistory;
+        this.historySink  = tradeHistory::record;
+        orderBook.setListener(listener);
     }
 
     // ─────────────────────────────────────────────────
     // SUBMIT new order to the engine
     // This is the main entry point
+    //
+    // Records each fill in trade history and builds
+    // a Trade for it.
     // ─────────────────────────────────────────────────
     public List<Trade> submitOrder(Order order) {
 
         List<Trade> newTrades = new ArrayList<>();
 
-        if (order.getType() == OrderType.MARKET) {
-            // Market order: match immediately
-            newTrades = matchMarketOrder(order);
-        } else {
-            // Limit order: try to match first
-            newTrades = matchLimitOrder(order);
+        submitOrder(order, (buyId, sellId, price, qty) -> {
+            tradeHistory.record(buyId, sellId, price, qty);
+            newTrades.add(tradeHistory.getLast());
+        });
 
-            // If not fully filled: add to book
-            if (!order.isFilled()) {
-                orderBook.addOrder(order);
-            }
-        }
-
-        // Store all new trades in history
-        tradeHistory.addAll(newTrades);
         return newTrades;
     }
 
     // ─────────────────────────────────────────────────
-    // MATCH a limit order
+    // SUBMIT with a caller-supplied sink
     //
-    // BUY limit order matches if:
-    // buy price >= best ask price
+    // Allocation-free once warmed up: no lists, no
+    // Trade objects. Fills are counted in
+    // getTotalTrades() but not kept in trade history;
+    // the sink owns them.
     //
-    // SELL limit order matches if:
-    // sell price <= best bid price
+    // Returns the number of fills.
     // ─────────────────────────────────────────────────
-    private List<Trade> matchLimitOrder(Order order) {
+    public int submitOrder(Order order, TradeSink sink) {
 
-        List<Trade> trades = new ArrayList<>();
+        long startNanos = metrics == null ? 0 : System.nanoTime();
 
-        if (order.getSide() == OrderSide.BID) {
-            // BUY order - match against asks
-            while (!order.isFilled() && orderBook.hasAsks()) {
+        if (journal != null) {
+            journal.appendNew(order.getOrderId(), order.getSide(),
+                order.getType(), order.getPrice(), order.getQuantity(),
+                order.getTimeInForce(), order.getExpireTime(),
+                order.getDisplayQuantity(), order.getStopPrice(),
+                order.getPegOffset(), order.getOwnerId(),
+                order.getPostOnly(), order.getSelfTrade());
+        }
 
-                double bestAsk = orderBook.getBestAsk();
+        int fills;
+        if (order.getType().isStop()) {
+            // Parked off the book until a trade reaches it
+            listener.onOrderAccepted(order.getOrderId(), order.getSide(),
+                order.getType(), order.getPrice(), order.getQuantity());
+            stopBook.add(order);
+            stopsPending = lastTradePrice > 0
+                && stopBook.isTriggered(lastTradePrice);
+            fills = 0;
+        } else if (order.getType().isPegged()) {
+            restPeg(order);
+            fills = 0;
+        } else {
+            fills = execute(order, sink);
+        }
+        fills += triggerStops(sink);
 
-                // Check if prices match
-                // BUY price must be >= SELL price
-                if (order.getPrice() < bestAsk) {
-                    break; // No match possible
-                }
+        totalTrades += fills;
+        repricePegs();
 
-                // Execute trade at ask price
-                Trade trade = executeTrade(
-                    order,
-                    orderBook.getBestAskLevel().peek(),
-                    bestAsk
-                );
+        if (topOfBook != null) {
+            publishTopOfBook();
+        }
 
-                if (trade != null) {
-                    trades.add(trade);
-                    // Clean up empty levels
-                    orderBook.cleanEmptyLevel(
-                        OrderSide.ASK, bestAsk);
-                }
+        record(CommandType.NEW, startNanos);
+        return fills;
+    }
+
+    // ─────────────────────────────────────────────────
+    // EXECUTE a market or limit order: match, then
+    // rest what is left (limit, non-immediate only)
+    // Returns the number of fills
+    // ─────────────────────────────────────────────────
+    private int execute(Order order, TradeSink sink) {
+
+        // Fill or kill: killed before anything trades
+        if (order.getTimeInForce() == TimeInForce.FOK && !canFill(order)) {
+            listener.onOrderRejected(order.getOrderId(),
+                RejectReason.NOT_FILLABLE);
+            return 0;
+        }
+
+        // Post-only: never takes, slides or is refused
+        if (order.getPostOnly() != PostOnly.NONE) {
+            long price = postOnlyPrice(order.getSide(), order.getPrice(),
+                                       order.getPostOnly());
+            if (price == 0) {
+                listener.onOrderRejected(order.getOrderId(),
+                    RejectReason.WOULD_CROSS);
+                return 0;
             }
-        } else {
-            // SELL order - match against bids
-            while (!order.isFilled() && orderBook.hasBids()) {
+            order.reprice(price);
+        }
 
-                double bestBid = orderBook.getBestBid();
+        listener.onOrderAccepted(order.getOrderId(), order.getSide(),
+            order.getType(), order.getPrice(), order.getQuantity());
+
+        // Market and limit orders share one match loop
+        int fills = matchOrder(order, sink);
+
+        // Limit order not fully filled: add to book
+        // Market, IOC and FOK remainders are dropped
+        if (order.getType() == OrderType.LIMIT && !order.isFilled()
+                && !order.getTimeInForce().isImmediate()) {
+            listener.onOrderRested(order.getOrderId(), order.getSide(),
+                order.getPrice(), order.getQuantity());
+            orderBook.addOrder(order);
+            if (orderFeed != null) {
+                orderFeed.add(order.getOrderId(), order.getSide(),
+                    order.getPrice(), order.getQuantity());
+            }
+        }
+        return fills;
+    }
 
-                // Check if prices match
-                // SELL price must be <= BUY price
-                if (order.getPrice() > bestBid) {
-                    break; // No match possible
-                }
+    // ─────────────────────────────────────────────────
+    // REST a new pegged order at its peg price
+    // Pegs never take liquidity: priced one tick short
+    // of the other side, they always rest. Rejected
+    // (NO_PEG_PRICE) if there is nothing to peg to.
+    // ─────────────────────────────────────────────────
+    private void restPeg(Order order) {
+        pegBook.refresh(orderBook);
+        long price = pegBook.priceFor(order, orderBook);
+        if (price == 0) {
+            listener.onOrderRejected(order.getOrderId(),
+                RejectReason.NO_PEG_PRICE);
+            return;
+        }
+        order.reprice(price);
+
+        listener.onOrderAccepted(order.getOrderId(), order.getSide(),
+            order.getType(), order.getPrice(), order.getQuantity());
+        listener.onOrderRested(order.getOrderId(), order.getSide(),
+            order.getPrice(), order.getQuantity());
+        orderBook.addOrder(order);
+        if (orderFeed != null) {
+            orderFeed.add(order.getOrderId(), order.getSide(),
+                order.getPrice(), order.getQuantity());
+        }
+        pegBook.add(order);
+    }
 
-                // Execute trade at bid price
-                Trade trade = executeTrade(
-                    orderBook.getBestBidLevel().peek(),
-                    order,
-                    bestBid
-                );
+    // ─────────────────────────────────────────────────
+    // REPRICE every peg, if a reference price moved
+    //
+    // One pass in order ID order; a peg whose price
+    // changed goes to the back of its new level (one
+    // REPLACE on the feed). Nothing trades, so no
+    // stops can trigger.
+    // ─────────────────────────────────────────────────
+    private void repricePegs() {
+        if (pegBook.size() == 0 || !pegBook.refresh(orderBook)) {
+            return;
+        }
+        pegBook.prune();
+        for (int i = 0; i < pegBook.size(); i++) {
+            Order peg = pegBook.get(i);
+            long price = pegBook.priceFor(peg, orderBook);
+            if (price == 0 || price == peg.getPrice()) {
+                continue;   // Nothing to peg to: stays put
+            }
+            orderBook.moveOrder(peg, price);
+            listener.onOrderRepriced(peg.getOrderId(), peg.getSide(), price);
+            if (orderFeed != null && peg.isIceberg()) {
+                orderFeed.delete(peg.getOrderId());
+                orderFeed.add(peg.getOrderId(), peg.getSide(),
+                    price, peg.getQuantity());
+            } else if (orderFeed != null) {
+                orderFeed.replace(peg.getOrderId(), price, peg.getQuantity());
+            }
+        }
+    }
 
-                if (trade != null) {
-                    trades.add(trade);
-                    // Clean up empty levels
-                    orderBook.cleanEmptyLevel(
-                        OrderSide.BID, bestBid);
-                }
+    // ─────────────────────────────────────────────────
+    // ACTIVATE every stop the last trade has reached
+    //
+    // Each activated stop runs as a market / limit
+    // order with the same ID and may trade, moving the
+    // last price on and triggering further stops: the
+    // cascade is this loop, never recursion.
+    // Returns the number of fills
+    // ─────────────────────────────────────────────────
+    private int triggerStops(TradeSink sink) {
+        int fills = 0;
+        while (stopsPending) {
+            Order stop = stopBook.pollTriggered(lastTradePrice);
+            if (stop == null) {
+                stopsPending = false;
+                break;
             }
+            listener.onStopTriggered(stop.getOrderId(), stop.getSide(),
+                lastTradePrice);
+            fills += execute(new Order(stop.getOrderId(), stop.getSymbol(),
+                stop.getSide(), stop.getType().triggered(), stop.getPrice(),
+                stop.getQuantity(), stop.getTimeInForce(),
+                stop.getExpireTime(), stop.getDisplayQuantity(), 0, 0,
+                stop.getOwnerId(), stop.getPostOnly(), stop.getSelfTrade()),
+                sink);
         }
+        return fills;
+    }
 
-        return trades;
+    // ─────────────────────────────────────────────────
+    // FOK pre-check: enough volume at acceptable prices?
+    //
+    // Adds up level totals (shown + iceberg reserves)
+    // best-first and stops at the order's limit - reads
+    // only PriceLevel volumes, touches no order, so a
+    // kill needs no rollback. Owners are not looked
+    // at: a FOK with self-trade prevention can still
+    // end short if it meets its own orders
+    // ─────────────────────────────────────────────────
+    private boolean canFill(Order order) {
+        BookSide opposite = orderBook.getSide(order.getSide().opposite());
+        boolean  isMarket = order.getType() == OrderType.MARKET;
+
+        long needed = order.getQuantity();
+        for (PriceLevel level = opposite.getBestLevel(); level != null;
+             level = opposite.nextLevel(level.getPrice())) {
+            if (!isMarket && !crosses(order, level.getPrice())) {
+                return false;
+            }
+            needed -= level.getTotalVolume() + level.getHiddenVolume();
+            if (needed <= 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // ─────────────────────────────────────────────────
-    // MATCH a market order
-    // Executes at whatever price is available
+    // MATCH an order against the opposite side
+    //
+    // MARKET order: matches at any price
+    //
+    // BUY limit order matches if:
+    // buy price >= best ask price
+    //
+    // SELL limit order matches if:
+    // sell price <= best bid price
     // ─────────────────────────────────────────────────
-    private List<Trade> matchMarketOrder(Order order) {
+    private int matchOrder(Order order, TradeSink sink) {
 
-        List<Trade> trades = new ArrayList<>();
+        OrderSide restingSide = order.getSide().opposite();
+        BookSide opposite = orderBook.getSide(restingSide);
+        boolean  isMarket = order.getType() == OrderType.MARKET;
 
-        if (order.getSide() == OrderSide.BID) {
-            // Market BUY - eat through ask levels
-            while (!order.isFilled() && orderBook.hasAsks()) {
+        // 0 = no self-trade check: the loop pays one
+        // compare on a local, nothing else
+        long owner = order.getSelfTrade() == SelfTradePrevention.NONE
+            ? 0 : order.getOwnerId();
 
-                double bestAsk = orderBook.getBestAsk();
-                Trade trade = executeTrade(
-                    order,
-                    orderBook.getBestAskLevel().peek(),
-                    bestAsk
-                );
+        int fills = 0;
+        while (!order.isFilled()) {
 
-                if (trade != null) {
-                    trades.add(trade);
-                    orderBook.cleanEmptyLevel(
-                        OrderSide.ASK, bestAsk);
-                }
+            PriceLevel level = opposite.getBestLevel();
+            if (level == null) {
+                break; // Nothing left to match against
             }
-        } else {
-            // Market SELL - eat through bid levels
-            while (!order.isFilled() && orderBook.hasBids()) {
-
-                double bestBid = orderBook.getBestBid();
-                Trade trade = executeTrade(
-                    orderBook.getBestBidLevel().peek(),
-                    order,
-                    bestBid
-                );
 
-                if (trade != null) {
-                    trades.add(trade);
-                    orderBook.cleanEmptyLevel(
-                        OrderSide.BID, bestBid);
-                }
+            // Check if prices match
+            if (!isMarket && !crosses(order, level.getPrice())) {
+                break; // No match possible
             }
+
+            // Own order at the front: prevent, then look again
+            if (owner != 0 && level.peek().getOwnerId() == owner) {
+                preventSelfTrade(order, level.peek());
+                continue;
+            }
+
+            // Execute trade at resting price; also drops
+            // the level if the trade emptied it
+            executeTrade(order, level, sink);
+            fills++;
+        }
+
+        return fills;
+    }
+
+    // ─────────────────────────────────────────────────
+    // SELF-TRADE: incoming met a resting order of the
+    // same owner. Nothing trades; the incoming order's
+    // mode decides who gives way
+    // ─────────────────────────────────────────────────
+    private void preventSelfTrade(Order incoming, Order resting) {
+        int quantity = Math.min(incoming.getQuantity(),
+                                resting.getRemainingQuantity());
+        listener.onSelfTradePrevented(incoming.getOrderId(),
+            resting.getOrderId(), quantity);
+
+        switch (incoming.getSelfTrade()) {
+            case CANCEL_NEWEST:
+                cancelIncoming(incoming);
+                break;
+            case CANCEL_OLDEST:
+                cancelResting(resting);
+                break;
+            case CANCEL_BOTH:
+                cancelResting(resting);
+                cancelIncoming(incoming);
+                break;
+            case DECREMENT:
+                if (quantity == resting.getRemainingQuantity()) {
+                    cancelResting(resting);
+                } else {
+                    orderBook.reduceOrder(resting,
+                        resting.getRemainingQuantity() - quantity);
+                    if (orderFeed != null) {
+                        orderFeed.replace(resting.getOrderId(),
+                            resting.getPrice(), resting.getQuantity());
+                    }
+                }
+                // Reaching zero ends it: nothing left to rest
+                incoming.reduceTo(incoming.getQuantity() - quantity);
+                break;
+            default:
+                throw new IllegalStateException(
+                    "No self-trade mode on #" + incoming.getOrderId()
+                );
         }
+    }
+
+    // Remainder of the incoming order is dropped: the
+    // match loop ends and nothing rests
+    private void cancelIncoming(Order incoming) {
+        listener.onOrderCancelled(incoming.getOrderId(), incoming.getSide(),
+            incoming.getPrice(), incoming.getQuantity());
+        incoming.reduceTo(0);
+    }
+
+    private void cancelResting(Order resting) {
+        orderBook.cancelOrder(resting);
+        if (orderFeed != null) {
+            orderFeed.delete(resting.getOrderId());
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Does a limit order cross a resting price?
+    // BUY:  price >= ask
+    // SELL: price <= bid
+    // ─────────────────────────────────────────────────
+    private static boolean crosses(Order order, long restingPrice) {
+        return crosses(order.getSide(), order.getPrice(), restingPrice);
+    }
 
-        return trades;
+    private static boolean crosses(OrderSide side, long price,
+                                   long restingPrice) {
+        return side == OrderSide.BID
+            ? price >= restingPrice
+            : price <= restingPrice;
+    }
+
+    // ─────────────────────────────────────────────────
+    // POST-ONLY price: unchanged if it would not trade,
+    // else one tick short of the other side's best
+    // (SLIDE) - 0 means refuse (REJECT, or no price
+    // left to slide to)
+    // ─────────────────────────────────────────────────
+    private long postOnlyPrice(OrderSide side, long price, PostOnly mode) {
+        PriceLevel best = orderBook.getSide(side.opposite()).getBestLevel();
+        if (best == null || !crosses(side, price, best.getPrice())) {
+            return price;
+        }
+        if (mode == PostOnly.REJECT) {
+            return 0;
+        }
+        long slid = side == OrderSide.BID
+            ? best.getPrice() - 1 : best.getPrice() + 1;
+        return slid > 0 ? slid : 0;
     }
 
     // ─────────────────────────────────────────────────
     // EXECUTE a single trade between two orders
     //
+    // The incoming order trades against the order at
+    // the front of the resting level, at that level's
+    // price.
+    //
     // Determines fill quantity:
     // fillQty = min(buyQty, sellQty)
     //
@@ -198,92 +570,374 @@ public class MatchingEngine {
     // fillQty = min(500, 300) = 300
     // After: BUY has 200 remaining, SELL is done
     // ─────────────────────────────────────────────────
-    private Trade executeTrade(Order buyOrder,
-                                Order sellOrder,
-                                double tradePrice) {
+    private void executeTrade(Order incoming,
+                              PriceLevel restingLevel,
+                              TradeSink sink) {
 
-        if (buyOrder == null || sellOrder == null) {
-            return null;
-        }
+        Order resting = restingLevel.peek();
 
         // Fill quantity = minimum of both orders
         int fillQty = Math.min(
-            buyOrder.getQuantity(),
-            sellOrder.getQuantity()
+            incoming.getQuantity(),
+            resting.getQuantity()
         );
 
-        if (fillQty <= 0) return null;
+        long tradePrice = restingLevel.getPrice();
+        long buyId  = incoming.getSide() == OrderSide.BID
+            ? incoming.getOrderId() : resting.getOrderId();
+        long sellId = incoming.getSide() == OrderSide.BID
+            ? resting.getOrderId() : incoming.getOrderId();
+
+        // Shown quantity left on the resting order
+        int leaves = resting.getQuantity() - fillQty;
+
+        // Fill both orders before any callback runs, so a
+        // throwing sink or listener cannot leave one side
+        // filled and the other not. The book fills the
+        // resting one: level volume, queue unlink and
+        // order index stay in sync
+        incoming.fill(fillQty);
+        orderBook.applyFill(restingLevel, resting, fillQty);
+
+        lastTradePrice    = tradePrice;
+        lastTradeQuantity = fillQty;
+
+        // Two compares; the stops run once this order is done
+        if (!stopsPending && stopBook.isTriggered(tradePrice)) {
+            stopsPending = true;
+        }
 
-        // Fill both orders
-        buyOrder.fill(fillQty);
-        sellOrder.fill(fillQty);
+        if (orderFeed != null) {
+            orderFeed.execute(resting.getOrderId(), fillQty, tradePrice,
+                              leaves);
+            // Iceberg showed its next slice at the back
+            if (leaves == 0 && resting.getLevel() != null) {
+                orderFeed.add(resting.getOrderId(), resting.getSide(),
+                    tradePrice, resting.getQuantity());
+            }
+        }
 
-        // Update price level volumes
-        PriceLevel level;
-        if (sellOrder.isFilled()) {
-            // Remove fully filled order from ask level
-            level = orderBook.getAsks().get(tradePrice);
-            if (level != null) {
-                level.poll(); // Remove from front of queue
+        // Trade first, then the level it emptied or shrank;
+        // an empty level leaves the side even if a
+        // callback threw
+        try {
+            sink.onFill(buyId, sellId, tradePrice, fillQty);
+            listener.onTrade(buyId, sellId, incoming.getSide(),
+                             tradePrice, fillQty);
+        } finally {
+            orderBook.reportFill(restingLevel, resting.getSide());
+            orderBook.cleanEmptyLevel(resting.getSide(), restingLevel);
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Best levels + last trade → top-of-book slot
+    // The slot skips the write if nothing changed
+    // ─────────────────────────────────────────────────
+    private void publishTopOfBook() {
+        PriceLevel bid = orderBook.getBestBidLevel();
+        PriceLevel ask = orderBook.getBestAskLevel();
+        topOfBook.publish(
+            bid == null ? 0 : bid.getPrice(),
+            bid == null ? 0 : bid.getTotalVolume(),
+            ask == null ? 0 : ask.getPrice(),
+            ask == null ? 0 : ask.getTotalVolume(),
+            lastTradePrice, lastTradeQuantity, totalTrades);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Generate next unique order ID
+    // ─────────────────────────────────────────────────
+    public long getNextOrderId() {
+        return nextOrderId++;
+    }
+
+    // The ID getNextOrderId() would return, unused
+    public long peekNextOrderId() {
+        return nextOrderId;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Cancel an existing order
+    // ─────────────────────────────────────────────────
+    public boolean cancelOrder(long orderId) {
+        long startNanos = metrics == null ? 0 : System.nanoTime();
+
+        if (journal != null) {
+            journal.appendCancel(orderId);
+        }
+
+        // Parked stop: never reached the book or the feed
+        Order stop = stopBook.remove(orderId);
+        if (stop != null) {
+            listener.onOrderCancelled(orderId, stop.getSide(),
+                stop.getPrice(), stop.getQuantity());
+            record(CommandType.CANCEL, startNanos);
+            return true;
+        }
+
+        boolean cancelled = orderBook.cancelOrder(orderId);
+        if (cancelled && orderFeed != null) {
+            orderFeed.delete(orderId);
+        }
+        if (cancelled) {
+            repricePegs();
+        }
+        if (cancelled && topOfBook != null) {
+            publishTopOfBook();
+        }
+
+        record(CommandType.CANCEL, startNanos);
+        return cancelled;
+    }
+
+    // ─────────────────────────────────────────────────
+    // EXPIRE resting and parked stop orders whose time
+    // is up
+    // GTD: expireTime <= now (caller's clock)
+    // DAY: only when endOfSession is true
+    // GTC: never
+    //
+    // Each one goes through cancelOrder (journal, feed,
+    // listener). Returns the number expired.
+    // ─────────────────────────────────────────────────
+    public int expireOrders(long now, boolean endOfSession) {
+        List<Order> expired = new ArrayList<>();
+        for (OrderSide side : OrderSide.values()) {
+            BookSide bookSide = orderBook.getSide(side);
+            for (PriceLevel level = bookSide.getBestLevel(); level != null;
+                 level = bookSide.nextLevel(level.getPrice())) {
+                for (Order o = level.peek(); o != null; o = o.getNextInLevel()) {
+                    if (isExpired(o, now, endOfSession)) {
+                        expired.add(o);
+                    }
+                }
             }
-        } else {
-            // Partially filled - just reduce volume
-            level = orderBook.getAsks().get(tradePrice);
-            if (level != null) {
-                level.reduceVolume(0); // Already updated via fill
+        }
+        stopBook.forEach(o -> {
+            if (isExpired(o, now, endOfSession)) {
+                expired.add(o);
             }
+        });
+        for (Order o : expired) {
+            cancelOrder(o.getOrderId());
         }
+        return expired.size();
+    }
 
-        // Remove fully filled buy order from book
-        if (buyOrder.isFilled()) {
-            orderBook.getOrderMap().remove(
-                buyOrder.getOrderId()
-            );
+    private static boolean isExpired(Order order, long now,
+                                     boolean endOfSession) {
+        switch (order.getTimeInForce()) {
+            case DAY: return endOfSession;
+            case GTD: return order.getExpireTime() <= now;
+            default:  return false;
         }
+    }
 
-        // Remove fully filled sell order from book
-        if (sellOrder.isFilled()) {
-            orderBook.getOrderMap().remove(
-                sellOrder.getOrderId()
+    // ─────────────────────────────────────────────────
+    // REPLACE a resting order's price and quantity
+    // newQuantity is the new remaining quantity (shown
+    // + hidden for an iceberg)
+    //
+    // Same price, quantity cut (or unchanged)
+    // → amended in place, keeps its queue position
+    // New price or more quantity
+    // → back of the new level; if the new price crosses
+    //   it trades first, like a new order, and only the
+    //   remainder rests
+    //
+    // A pegged order keeps its peg price: only the
+    // quantity is amended, newPrice is ignored. A
+    // post-only order's new price is checked like a
+    // new order's: slid, or the replace is refused
+    // (WOULD_CROSS) and the order left as it was.
+    //
+    // Fills are recorded in trade history. Returns
+    // false (and reports UNKNOWN_ORDER) if the order
+    // is not resting.
+    // ─────────────────────────────────────────────────
+    public boolean replaceOrder(long orderId, long newPrice,
+                                int newQuantity) {
+        return replaceOrder(orderId, newPrice, newQuantity, historySink);
+    }
+
+    // Same, fills go to the sink only
+    public boolean replaceOrder(long orderId, long newPrice,
+                                int newQuantity, TradeSink sink) {
+        if (newQuantity <= 0) {
+            throw new IllegalArgumentException(
+                "Replace quantity must be positive: " + newQuantity
             );
         }
+        long startNanos = metrics == null ? 0 : System.nanoTime();
 
-        // Create trade record
-        Trade trade = new Trade(
-            orderBook.getSymbol(),
-            buyOrder.getOrderId(),
-            sellOrder.getOrderId(),
-            tradePrice,
-            fillQty
-        );
+        if (journal != null) {
+            journal.appendReplace(orderId, newPrice, newQuantity);
+        }
 
-        System.out.printf(
-            "  TRADE EXECUTED: %d shares @ %.2f " +
-            "(Buy#%d vs Sell#%d)%n",
-            fillQty, tradePrice,
-            buyOrder.getOrderId(),
-            sellOrder.getOrderId()
-        );
+        Order order = orderBook.getOrderMap().get(orderId);
+        if (order == null) {
+            listener.onOrderRejected(orderId, RejectReason.UNKNOWN_ORDER);
+            record(CommandType.REPLACE, startNanos);
+            return false;
+        }
+
+        long price = order.getType().isPegged() ? order.getPrice() : newPrice;
+        if (order.getPostOnly() != PostOnly.NONE) {
+            price = postOnlyPrice(order.getSide(), price, order.getPostOnly());
+            if (price == 0) {
+                listener.onOrderRejected(orderId, RejectReason.WOULD_CROSS);
+                record(CommandType.REPLACE, startNanos);
+                return false;
+            }
+        }
+        boolean inPlace = OrderBook.keepsPriority(order, price, newQuantity);
+        listener.onOrderReplaced(orderId, order.getSide(),
+            price, newQuantity, inPlace);
+
+        if (inPlace) {
+            orderBook.reduceOrder(order, newQuantity);
+            if (orderFeed != null) {
+                orderFeed.replace(orderId, price, order.getQuantity());
+            }
+        } else {
+            orderBook.detachOrder(order);
+            order.amend(price, newQuantity);
+            requeue(order, sink);
+            totalTrades += triggerStops(sink);
+        }
+        repricePegs();
 
-        return trade;
+        if (topOfBook != null) {
+            publishTopOfBook();
+        }
+        record(CommandType.REPLACE, startNanos);
+        return true;
     }
 
     // ─────────────────────────────────────────────────
-    // Generate next unique order ID
+    // Put a detached order back with its new terms
+    // Not crossing → back of the level, one REPLACE
+    // Crossing     → DELETE, executions, then ADD for
+    //                whatever is left
     // ─────────────────────────────────────────────────
-    public long getNextOrderId() {
-        return nextOrderId++;
+    private void requeue(Order order, TradeSink sink) {
+        PriceLevel best = orderBook.getSide(order.getSide().opposite())
+                                   .getBestLevel();
+
+        if (best == null || !crosses(order, best.getPrice())) {
+            orderBook.addOrder(order);
+            if (orderFeed != null && order.isIceberg()) {
+                // Feed never saw the reserve: a REPLACE of
+                // the shown slice could look like a cut
+                orderFeed.delete(order.getOrderId());
+                orderFeed.add(order.getOrderId(), order.getSide(),
+                    order.getPrice(), order.getQuantity());
+            } else if (orderFeed != null) {
+                orderFeed.replace(order.getOrderId(), order.getPrice(),
+                                  order.getQuantity());
+            }
+            return;
+        }
+
+        if (orderFeed != null) {
+            orderFeed.delete(order.getOrderId());
+        }
+        totalTrades += matchOrder(order, sink);
+
+        if (!order.isFilled()) {
+            listener.onOrderRested(order.getOrderId(), order.getSide(),
+                order.getPrice(), order.getQuantity());
+            orderBook.addOrder(order);
+            if (orderFeed != null) {
+                orderFeed.add(order.getOrderId(), order.getSide(),
+                    order.getPrice(), order.getQuantity());
+            }
+        }
+    }
+
+    // Service time since startNanos, if measuring
+    private void record(CommandType type, long startNanos) {
+        if (metrics != null) {
+            metrics.record(type, System.nanoTime() - startNanos);
+        }
     }
 
     // ─────────────────────────────────────────────────
-    // Cancel an existing order
+    // Make sure getNextOrderId() never hands out an ID
+    // up to and including maxUsedId (after a replay)
     // ─────────────────────────────────────────────────
-    public boolean cancelOrder(long orderId) {
-        return orderBook.cancelOrder(orderId);
+    public void reserveOrderIds(long maxUsedId) {
+        nextOrderId = Math.max(nextOrderId, maxUsedId + 1);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Last trade price from a snapshot, so stops keep
+    // triggering exactly as they would have live
+    // ─────────────────────────────────────────────────
+    public void restoreLastTrade(long price, int quantity) {
+        this.lastTradePrice    = price;
+        this.lastTradeQuantity = quantity;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Start journaling every accepted command
+    // null stops journaling
+    // ─────────────────────────────────────────────────
+    public void setJournal(Journal journal) {
+        this.journal = journal;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Start timing every command; null stops it
+    // ─────────────────────────────────────────────────
+    public void setMetrics(EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Publish a level 3 feed of resting-order changes
+    // null stops publishing
+    // ─────────────────────────────────────────────────
+    public void setOrderFeed(MarketByOrderFeed orderFeed) {
+        this.orderFeed = orderFeed;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Publish conflated top of book; null stops it
+    // Publishes the current state straight away
+    // ─────────────────────────────────────────────────
+    public void setTopOfBook(TopOfBookSlot topOfBook) {
+        this.topOfBook = topOfBook;
+        if (topOfBook != null) {
+            publishTopOfBook();
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Recent trades still in memory, oldest first
+    // At most the history capacity; see TradeHistory
+    // for spilled ones
+    // ─────────────────────────────────────────────────
+    public List<Trade> getTradeHistory() {
+        return tradeHistory.getRetained();
+    }
+
+    public List<Trade> getTradeHistory(int lastN) {
+        return tradeHistory.getRecent(lastN);
     }
 
     // Getters
-    public List<Trade> getTradeHistory() { return tradeHistory; }
-    public OrderBook getOrderBook()      { return orderBook;    }
-    public int getTotalTrades()          { return tradeHistory.size(); }
-}
\ No newline at end of file
+    public TradeHistory getHistory()        { return tradeHistory;      }
+    public Journal getJournal()             { return journal;           }
+    public EngineMetrics getMetrics()       { return metrics;           }
+    public MarketByOrderFeed getOrderFeed() { return orderFeed;         }
+    public TopOfBookSlot getTopOfBook()     { return topOfBook;         }
+    public OrderBook getOrderBook()         { return orderBook;         }
+    public EngineListener getListener()     { return listener;          }
+    public StopBook getStopBook()           { return stopBook;          }
+    public PegBook getPegBook()             { return pegBook;           }
+    public long getLastTradePrice()         { return lastTradePrice;    }
+    public int getLastTradeQuantity()       { return lastTradeQuantity; }
+    public long getTotalTrades()            { return totalTrades;       }
+}
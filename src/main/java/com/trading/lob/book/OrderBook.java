@@ -1,11 +1,12 @@
 package com.trading.lob.book;
 
+import com.trading.lob.event.EngineListener;
+import com.trading.lob.marketdata.LevelAction;
+import com.trading.lob.marketdata.LevelUpdateListener;
 import com.trading.lob.model.Order;
 import com.trading.lob.model.OrderSide;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
+import com.trading.lob.model.PriceScale;
+import com.trading.lob.model.RejectReason;
 
 /**
  * The core Order Book data structure.
@@ -27,134 +28,294 @@ import java.util.TreeMap;
  * └──────────────────┘
  *
  * Data structures used:
- * TreeMap → keeps prices sorted automatically
- * HashMap → instant order lookup by ID O(1)
+ * BookSide   → keeps prices sorted automatically
+ *              (TreeMap or array ladder, see BookConfig)
+ * OrderIndex → instant order lookup by ID O(1)
+ *              (primitive long keys, no boxing)
+ *
+ * All prices are long ticks. The book's PriceScale
+ * converts to and from decimal prices at the edges.
+ *
+ * Book changes (level volume, cancels, cancel misses)
+ * are reported to an EngineListener - no printing.
+ * Level changes also go out as a sequenced
+ * market-by-price stream (LevelUpdateListener).
+ *
+ * Depth reads (getDepth) come from a per-side cache
+ * that is rebuilt only after that side changes.
  */
 public class OrderBook {
 
     private final String symbol;
 
+    // Tick size for this symbol
+    private final PriceScale priceScale;
+
     // BID side: sorted HIGH to LOW
-    // TreeMap with reverseOrder = highest price first
-    private final TreeMap<Double, PriceLevel> bids;
+    // highest price first
+    private final BookSide bids;
 
     // ASK side: sorted LOW to HIGH
-    // TreeMap with natural order = lowest price first
-    private final TreeMap<Double, PriceLevel> asks;
+    // lowest price first
+    private final BookSide asks;
 
     // Fast lookup: orderId → Order object
     // Enables O(1) cancel operation
-    private final HashMap<Long, Order> orderMap;
+    private final OrderIndex orderMap;
+
+    // Top levels per side, rebuilt after a change
+    private final DepthCache bidDepth;
+    private final DepthCache askDepth;
+
+    // Receives level, cancel and reject events
+    private EngineListener listener = EngineListener.NO_OP;
+
+    // Sequenced market-by-price updates
+    private LevelUpdateListener levelUpdates = LevelUpdateListener.NO_OP;
+    private long levelSequence;
 
     public OrderBook(String symbol) {
-        this.symbol   = symbol;
-        this.bids     = new TreeMap<>(java.util.Collections.reverseOrder());
-        this.asks     = new TreeMap<>();
-        this.orderMap = new HashMap<>();
+        this(symbol, BookConfig.defaults());
+    }
+
+    public OrderBook(String symbol, PriceScale priceScale) {
+        this(symbol, BookConfig.defaults().withPriceScale(priceScale));
+    }
+
+    public OrderBook(String symbol, BookConfig config) {
+        this.symbol     = symbol;
+        this.priceScale = config.getPriceScale();
+        this.bids       = config.newSide(OrderSide.BID);
+        this.asks       = config.newSide(OrderSide.ASK);
+        this.orderMap   = new OrderIndex(config.getExpectedOrders());
+        this.bidDepth   = new DepthCache(bids);
+        this.askDepth   = new DepthCache(asks);
     }
 
     // ─────────────────────────────────────────────────
     // ADD order to the book
-    // O(log n) for TreeMap insertion
+    // O(log n) for TreeMap sides, O(1) for array ladder
     // ─────────────────────────────────────────────────
     public void addOrder(Order order) {
 
-        // Store in hashmap for fast cancel
+        // Store in index for fast cancel
         orderMap.put(order.getOrderId(), order);
 
-        // Add to correct side
-        if (order.getSide() == OrderSide.BID) {
-            // Add to bid side
-            bids.computeIfAbsent(
-                order.getPrice(),
-                p -> new PriceLevel(p)
-            ).addOrder(order);
-        } else {
-            // Add to ask side
-            asks.computeIfAbsent(
-                order.getPrice(),
-                p -> new PriceLevel(p)
-            ).addOrder(order);
-        }
+        // Iceberg: only the first slice shows
+        order.hideReserve();
+
+        enqueue(order);
+    }
+
+    // Back of the level at the order's price
+    private void enqueue(Order order) {
+        PriceLevel level = getSide(order.getSide())
+            .getOrCreateLevel(order.getPrice());
+        level.addOrder(order);
+        levelChanged(order.getSide(), level,
+            level.getOrderCount() == 1 ? LevelAction.NEW : LevelAction.CHANGE);
     }
 
     // ─────────────────────────────────────────────────
     // CANCEL order from the book
-    // O(1) lookup + O(n) removal from level
+    // O(1) lookup + O(1) unlink from its level
     // ─────────────────────────────────────────────────
     public boolean cancelOrder(long orderId) {
 
         // Find the order instantly
         Order order = orderMap.get(orderId);
         if (order == null) {
-            System.out.println(
-                "Order #" + orderId + " not found!"
-            );
+            listener.onOrderRejected(
+                orderId, RejectReason.UNKNOWN_ORDER);
             return false;
         }
 
-        // Remove from correct side
-        if (order.getSide() == OrderSide.BID) {
-            removeFromLevel(bids, order);
-        } else {
-            removeFromLevel(asks, order);
+        cancelOrder(order);
+        return true;
+    }
+
+    // Same, when the caller already holds the resting
+    // order (self-trade prevention in the match loop)
+    public void cancelOrder(Order order) {
+
+        // Remove from its level (no price lookup needed)
+        removeFromLevel(order);
+
+        // Remove from index
+        orderMap.remove(order.getOrderId());
+
+        listener.onOrderCancelled(order.getOrderId(), order.getSide(),
+            order.getPrice(), order.getRemainingQuantity());
+    }
+
+    // ─────────────────────────────────────────────────
+    // REPLACE keeps queue priority only when the price
+    // is unchanged and the quantity does not grow
+    // ─────────────────────────────────────────────────
+    public static boolean keepsPriority(Order order, long newPrice,
+                                        int newQuantity) {
+        return newPrice == order.getPrice()
+            && newQuantity <= order.getRemainingQuantity();
+    }
+
+    // ─────────────────────────────────────────────────
+    // REDUCE a resting order in place
+    // Same level, same place in the queue
+    // ─────────────────────────────────────────────────
+    public void reduceOrder(Order order, int newQuantity) {
+        PriceLevel level = order.getLevel();
+        if (level == null) {
+            throw new IllegalStateException(
+                "Order #" + order.getOrderId() + " is not resting"
+            );
+        }
+        int shown = order.getQuantity();
+        level.reduce(order, newQuantity);
+        // An iceberg cut from reserve changes nothing shown
+        if (order.getQuantity() != shown) {
+            levelChanged(order.getSide(), level);
         }
+    }
 
-        // Remove from hashmap
-        orderMap.remove(orderId);
-        return true;
+    // ─────────────────────────────────────────────────
+    // DETACH a resting order for a requeue
+    // Leaves level and index like a cancel, but reports
+    // no cancel: addOrder puts it back at the back of
+    // its (new) level
+    // ─────────────────────────────────────────────────
+    public void detachOrder(Order order) {
+        removeFromLevel(order);
+        orderMap.remove(order.getOrderId());
     }
 
     // ─────────────────────────────────────────────────
-    // Remove order from price level
+    // MOVE a resting order to a new price (peg
+    // reprice). Back of the new level; stays in the
+    // index, reports no cancel
+    // ─────────────────────────────────────────────────
+    public void moveOrder(Order order, long newPrice) {
+        if (order.getLevel() == null) {
+            throw new IllegalStateException(
+                "Order #" + order.getOrderId() + " is not resting"
+            );
+        }
+        removeFromLevel(order);
+        order.reprice(newPrice);
+        enqueue(order);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Remove order from its price level
     // Clean up empty levels
     // ─────────────────────────────────────────────────
-    private void removeFromLevel(
-            TreeMap<Double, PriceLevel> side, Order order) {
+    private void removeFromLevel(Order order) {
 
-        PriceLevel level = side.get(order.getPrice());
+        PriceLevel level = order.getLevel();
         if (level != null) {
             level.removeOrder(order);
+            levelChanged(order.getSide(), level);
             // Remove empty price level
             if (level.isEmpty()) {
-                side.remove(order.getPrice());
+                removeLevel(order.getSide(), level);
             }
         }
     }
 
     // ─────────────────────────────────────────────────
-    // Remove empty level after matching
+    // Fill a resting order during matching
+    // Keeps level volume, order index and listeners
+    // in sync. Empty level is left for cleanEmptyLevel.
+    //
+    // An iceberg whose shown slice is gone shows the
+    // next one from its reserve, at the back of the
+    // level (resting.getLevel() != null afterwards)
     // ─────────────────────────────────────────────────
-    public void cleanEmptyLevel(OrderSide side, double price) {
-        if (side == OrderSide.BID) {
-            PriceLevel level = bids.get(price);
-            if (level != null && level.isEmpty()) {
-                bids.remove(price);
-            }
-        } else {
-            PriceLevel level = asks.get(price);
-            if (level != null && level.isEmpty()) {
-                asks.remove(price);
+    public void fillResting(PriceLevel level, Order resting,
+                            int fillQty) {
+        applyFill(level, resting, fillQty);
+        levelChanged(resting.getSide(), level);
+    }
+
+    // ─────────────────────────────────────────────────
+    // fillResting in two halves, for the engine: the
+    // book is put right first, the level reported after
+    // trade callbacks (which may throw) have run
+    // ─────────────────────────────────────────────────
+    public void applyFill(PriceLevel level, Order resting, int fillQty) {
+        level.fill(resting, fillQty);
+
+        if (resting.isFilled()) {
+            if (resting.getReserveQuantity() > 0) {
+                resting.replenish();
+                level.addOrder(resting);
+            } else {
+                // Remove fully filled resting order from book
+                orderMap.remove(resting.getOrderId());
             }
         }
+        depthCache(resting.getSide()).invalidate();
+    }
+
+    public void reportFill(PriceLevel level, OrderSide side) {
+        levelChanged(side, level);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Report a level's new totals (0 / 0 = removed)
+    // An empty level is a DELETE even though the side
+    // drops it a moment later (cleanEmptyLevel)
+    // ─────────────────────────────────────────────────
+    private void levelChanged(OrderSide side, PriceLevel level) {
+        levelChanged(side, level,
+            level.isEmpty() ? LevelAction.DELETE : LevelAction.CHANGE);
+    }
+
+    private void levelChanged(OrderSide side, PriceLevel level,
+                              LevelAction action) {
+        depthCache(side).invalidate();
+        listener.onLevelChanged(side, level.getPrice(),
+            level.getTotalVolume(), level.getOrderCount());
+        levelUpdates.onLevelUpdate(++levelSequence, action, side,
+            level.getPrice(), level.getTotalVolume(), level.getOrderCount());
+    }
+
+    // ─────────────────────────────────────────────────
+    // Remove empty level after matching
+    // ─────────────────────────────────────────────────
+    public void cleanEmptyLevel(OrderSide side, long price) {
+        PriceLevel level = getSide(side).getLevel(price);
+        if (level != null) {
+            cleanEmptyLevel(side, level);
+        }
+    }
+
+    // Same, when the caller already holds the level
+    // (no price lookup on the match path)
+    public void cleanEmptyLevel(OrderSide side, PriceLevel level) {
+        if (level.isEmpty()) {
+            removeLevel(side, level);
+        }
+    }
+
+    private void removeLevel(OrderSide side, PriceLevel level) {
+        getSide(side).removeLevel(level);
+        depthCache(side).invalidate();
     }
 
     // ─────────────────────────────────────────────────
     // Get BEST BID (highest buy price)
-    // O(1) - TreeMap keeps it sorted
+    // O(1) for array ladder, O(log n) for TreeMap
     // ─────────────────────────────────────────────────
-    public double getBestBid() {
-        if (bids.isEmpty()) return 0.0;
-        return bids.firstKey();
+    public long getBestBid() {
+        return bids.getBestPrice();
     }
 
     // ─────────────────────────────────────────────────
     // Get BEST ASK (lowest sell price)
-    // O(1) - TreeMap keeps it sorted
+    // O(1) for array ladder, O(log n) for TreeMap
     // ─────────────────────────────────────────────────
-    public double getBestAsk() {
-        if (asks.isEmpty()) return 0.0;
-        return asks.firstKey();
+    public long getBestAsk() {
+        return asks.getBestPrice();
     }
 
     // ─────────────────────────────────────────────────
@@ -162,14 +323,15 @@ public class OrderBook {
     // Tight spread = liquid market
     // Wide spread = illiquid market
     // ─────────────────────────────────────────────────
-    public double getSpread() {
-        if (bids.isEmpty() || asks.isEmpty()) return 0.0;
+    public long getSpread() {
+        if (bids.isEmpty() || asks.isEmpty()) return 0;
         return getBestAsk() - getBestBid();
     }
 
     // ─────────────────────────────────────────────────
     // Get MID PRICE = (Best Bid + Best Ask) / 2
     // Used as fair value estimate
+    // In ticks - may fall halfway between two ticks
     // ─────────────────────────────────────────────────
     public double getMidPrice() {
         if (bids.isEmpty() || asks.isEmpty()) return 0.0;
@@ -180,13 +342,84 @@ public class OrderBook {
     // Get best price level for matching
     // ─────────────────────────────────────────────────
     public PriceLevel getBestBidLevel() {
-        if (bids.isEmpty()) return null;
-        return bids.firstEntry().getValue();
+        return bids.getBestLevel();
     }
 
     public PriceLevel getBestAskLevel() {
-        if (asks.isEmpty()) return null;
-        return asks.firstEntry().getValue();
+        return asks.getBestLevel();
+    }
+
+    // ─────────────────────────────────────────────────
+    // DEPTH: top levels of one side into caller arrays
+    // prices, volumes and orderCounts need room for
+    // maxLevels; returns the number of levels filled
+    //
+    // No allocation and no tree walk while the side is
+    // unchanged since the last depth read
+    // ─────────────────────────────────────────────────
+    public int getDepth(OrderSide side, int maxLevels, long[] prices,
+                        int[] volumes, int[] orderCounts) {
+        if (maxLevels < 0) {
+            throw new IllegalArgumentException(
+                "Levels must not be negative: " + maxLevels
+            );
+        }
+        return depthCache(side).copy(maxLevels, prices, volumes, orderCounts);
+    }
+
+    // ─────────────────────────────────────────────────
+    // DEPTH: both sides into a snapshot
+    // Returns false (and leaves it alone) if the book
+    // has not changed since it was last filled here
+    // ─────────────────────────────────────────────────
+    public boolean getDepth(DepthSnapshot snapshot) {
+        long version = getVersion();
+        if (snapshot.isCurrent(this, version)) {
+            return false;
+        }
+        snapshot.fill(this, version, bidDepth, askDepth);
+        return true;
+    }
+
+    // Changes with every level update on either side
+    public long getVersion() {
+        return bidDepth.getVersion() + askDepth.getVersion();
+    }
+
+    private DepthCache depthCache(OrderSide side) {
+        return side == OrderSide.BID ? bidDepth : askDepth;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Get one side of the book by OrderSide
+    // ─────────────────────────────────────────────────
+    public BookSide getSide(OrderSide side) {
+        return side == OrderSide.BID ? bids : asks;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Install the listener for book events
+    // MatchingEngine does this for its own listener
+    // ─────────────────────────────────────────────────
+    public void setListener(EngineListener listener) {
+        this.listener = listener == null
+            ? EngineListener.NO_OP
+            : listener;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Install the market-by-price update listener
+    // Sequence numbers carry on from getLevelSequence()
+    // ─────────────────────────────────────────────────
+    public void setLevelUpdateListener(LevelUpdateListener levelUpdates) {
+        this.levelUpdates = levelUpdates == null
+            ? LevelUpdateListener.NO_OP
+            : levelUpdates;
+    }
+
+    // Sequence of the last level update (0 = none yet)
+    public long getLevelSequence() {
+        return levelSequence;
     }
 
     // Check if book has any orders
@@ -194,9 +427,10 @@ public class OrderBook {
     public boolean hasAsks() { return !asks.isEmpty(); }
 
     // Getters
-    public String getSymbol()                          { return symbol;   }
-    public TreeMap<Double, PriceLevel> getBids()       { return bids;     }
-    public TreeMap<Double, PriceLevel> getAsks()       { return asks;     }
-    public HashMap<Long, Order> getOrderMap()          { return orderMap; }
+    public String getSymbol()                          { return symbol;     }
+    public PriceScale getPriceScale()                  { return priceScale; }
+    public BookSide getBids()                          { return bids;       }
+    public BookSide getAsks()                          { return asks;       }
+    public OrderIndex getOrderMap()                    { return orderMap;   }
     public int getTotalOrders()                        { return orderMap.size(); }
-}
\ No newline at end of file
+}
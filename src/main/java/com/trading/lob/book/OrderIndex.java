@@ -0,0 +1,185 @@
+package com.trading.lob.book;
+
+import com.trading.lob.model.Order;
+
+import java.util.Arrays;
+
+/**
+ * Order lookup by ID: a hash map from primitive
+ * long orderId → Order, built for the order book.
+ *
+ * Open addressing with linear probing:
+ * ┌─────┬─────┬─────┬─────┬─────┬─────┐
+ * │ #17 │  -  │ #3  │ #42 │  -  │ #8  │
+ * └─────┴─────┴─────┴─────┴─────┴─────┘
+ * keys in a long[], orders in a parallel Order[]
+ *
+ * → No Long boxing and no Entry object per order
+ * → Delete uses backward-shift (no tombstones), so
+ *   probe chains stay short however much churn there is
+ * → Sized up front from BookConfig.expectedOrders,
+ *   so a normal session never rehashes
+ *
+ * If the book outgrows the estimate the table still
+ * doubles rather than fail, but that is a one-off
+ * pause worth avoiding by sizing correctly.
+ */
+public class OrderIndex {
+
+    // Smallest table ever allocated
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private Order[] values;      // null = empty slot
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public OrderIndex(int expectedOrders) {
+        if (expectedOrders < 0) {
+            throw new IllegalArgumentException(
+                "Expected orders must not be negative: " +
+                expectedOrders
+            );
+        }
+        allocate(capacityFor(expectedOrders));
+    }
+
+    // ─────────────────────────────────────────────────
+    // Smallest power of two with load factor ≤ 0.5
+    // ─────────────────────────────────────────────────
+    private static int capacityFor(int expectedOrders) {
+        long wanted = Math.max(MIN_CAPACITY, 2L * expectedOrders);
+        long capacity = Long.highestOneBit(wanted - 1) << 1;
+        if (capacity > (1 << 30)) {
+            throw new IllegalArgumentException(
+                "Too many expected orders: " + expectedOrders
+            );
+        }
+        return (int) capacity;
+    }
+
+    private void allocate(int capacity) {
+        keys            = new long[capacity];
+        values          = new Order[capacity];
+        mask            = capacity - 1;
+        resizeThreshold = capacity / 2;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Spread sequential IDs across the table
+    // (Fibonacci hashing)
+    // ─────────────────────────────────────────────────
+    private int slotOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Find order by ID, null if absent
+    // ─────────────────────────────────────────────────
+    public Order get(long orderId) {
+        int slot = slotOf(orderId);
+        while (values[slot] != null) {
+            if (keys[slot] == orderId) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(long orderId) {
+        return get(orderId) != null;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Insert or replace, returns previous order or null
+    // ─────────────────────────────────────────────────
+    public Order put(long orderId, Order order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order must not be null");
+        }
+
+        int slot = slotOf(orderId);
+        while (values[slot] != null) {
+            if (keys[slot] == orderId) {
+                Order previous = values[slot];
+                values[slot] = order;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot]   = orderId;
+        values[slot] = order;
+        if (++size > resizeThreshold) {
+            grow();
+        }
+        return null;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Remove by ID, returns removed order or null
+    //
+    // Backward-shift: after emptying a slot, pull later
+    // entries of the same probe chain back into the gap
+    // so lookups never need tombstones.
+    // ─────────────────────────────────────────────────
+    public Order remove(long orderId) {
+        int slot = slotOf(orderId);
+        while (values[slot] != null) {
+            if (keys[slot] == orderId) {
+                Order removed = values[slot];
+                shiftBack(slot);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private void shiftBack(int gap) {
+        int next = (gap + 1) & mask;
+        while (values[next] != null) {
+            int home = slotOf(keys[next]);
+            // Move if home is not cyclically in (gap, next]
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap]   = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[gap] = null;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Double the table (only if sizing was too small)
+    // ─────────────────────────────────────────────────
+    private void grow() {
+        long[]  oldKeys   = keys;
+        Order[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slotOf(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot]   = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    public int size()          { return size;          }
+    public boolean isEmpty()   { return size == 0;     }
+    public int capacity()      { return keys.length;   }
+}
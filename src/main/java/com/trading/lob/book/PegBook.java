@@ -0,0 +1,161 @@
+package com.trading.lob.book;
+
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+
+import java.util.Arrays;
+
+/**
+ * Resting pegged orders, and the reference prices
+ * they follow.
+ *
+ * A reference price is the best price on a side that
+ * something other than a peg is quoting at - levels
+ * holding only pegs are skipped. So a peg never
+ * follows itself or another peg, and moving pegs
+ * never moves a reference.
+ *
+ * Book: BID ₹2500 [#4 limit]   ASK ₹2502 [#5 limit]
+ *       bid ref 2500, ask ref 2502, mid 2501
+ *
+ *   PEG_PRIMARY BUY  offset -1 → 2499
+ *   PEG_MID     SELL offset  0 → 2501
+ *   PEG_MARKET  BUY  offset  0 → 2501 (2502 would cross)
+ *
+ * After every command the engine calls refresh():
+ * two short walks in from the touch. Only when a
+ * reference moved does it reprice - one pass over the
+ * pegs, moving each whose price changed - instead of
+ * a cancel + new from the client for every quote.
+ *
+ * Pegs are kept and repriced in order ID order, so a
+ * rebuilt or reloaded engine moves them exactly as the
+ * live one did. Cancelled and filled pegs (no longer
+ * resting) are dropped lazily by prune().
+ *
+ * Owned by MatchingEngine; matching thread only.
+ */
+public class PegBook {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Ascending order ID; may hold dead pegs until pruned
+    private Order[] pegs = new Order[INITIAL_CAPACITY];
+    private int count;
+
+    // Non-peg best bid / ask at the last refresh, 0 = none
+    private long bidReference;
+    private long askReference;
+
+    // ─────────────────────────────────────────────────
+    // ADD a peg that has just started resting
+    // ─────────────────────────────────────────────────
+    public void add(Order order) {
+        if (!order.getType().isPegged()) {
+            throw new IllegalArgumentException(
+                "Not a pegged order: " + order
+            );
+        }
+        if (count == pegs.length) {
+            prune();
+            if (count == pegs.length) {
+                pegs = Arrays.copyOf(pegs, count * 2);
+            }
+        }
+
+        // IDs mostly arrive ascending: usually no shift
+        int at = count;
+        while (at > 0 && pegs[at - 1].getOrderId() > order.getOrderId()) {
+            at--;
+        }
+        System.arraycopy(pegs, at, pegs, at + 1, count - at);
+        pegs[at] = order;
+        count++;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Drop pegs that no longer rest (cancelled or
+    // filled), keeping ID order
+    // ─────────────────────────────────────────────────
+    public void prune() {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (pegs[i].getLevel() != null) {
+                pegs[kept++] = pegs[i];
+            }
+        }
+        Arrays.fill(pegs, kept, count, null);
+        count = kept;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Re-read both reference prices from the book
+    // Returns true if either one moved
+    // ─────────────────────────────────────────────────
+    public boolean refresh(OrderBook book) {
+        long bid = reference(book.getBids());
+        long ask = reference(book.getAsks());
+        boolean moved = bid != bidReference || ask != askReference;
+        bidReference = bid;
+        askReference = ask;
+        return moved;
+    }
+
+    // Best price with a non-peg order, 0 if none
+    private static long reference(BookSide side) {
+        for (PriceLevel level = side.getBestLevel(); level != null;
+             level = side.nextLevel(level.getPrice())) {
+            if (level.getOrderCount() > level.getPeggedCount()) {
+                return level.getPrice();
+            }
+        }
+        return 0;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Where a peg should rest, from the references at
+    // the last refresh. Held one tick short of the
+    // other side's best so a peg never crosses.
+    // Returns 0 if there is nothing to peg to.
+    // ─────────────────────────────────────────────────
+    public long priceFor(Order order, OrderBook book) {
+        boolean isBuy = order.getSide() == OrderSide.BID;
+        long reference;
+        switch (order.getType()) {
+            case PEG_PRIMARY:
+                reference = isBuy ? bidReference : askReference;
+                break;
+            case PEG_MARKET:
+                reference = isBuy ? askReference : bidReference;
+                break;
+            case PEG_MID:
+                if (bidReference == 0 || askReference == 0) {
+                    return 0;
+                }
+                // Buys round down, sells round up
+                long sum = bidReference + askReference;
+                reference = isBuy ? sum / 2 : (sum + 1) / 2;
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    "Not a pegged order: " + order
+                );
+        }
+        if (reference == 0) {
+            return 0;
+        }
+
+        long price = reference + order.getPegOffset();
+        long other = book.getSide(order.getSide().opposite()).getBestPrice();
+        if (other != 0) {
+            price = isBuy ? Math.min(price, other - 1)
+                          : Math.max(price, other + 1);
+        }
+        return price > 0 ? price : 0;
+    }
+
+    public Order get(int i)         { return pegs[i];      }
+    public int size()               { return count;        }
+    public long getBidReference()   { return bidReference; }
+    public long getAskReference()   { return askReference; }
+}
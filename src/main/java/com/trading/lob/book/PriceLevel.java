@@ -1,8 +1,6 @@
 package com.trading.lob.book;
 
 import com.trading.lob.model.Order;
-import java.util.LinkedList;
-import java.util.Queue;
 
 /**
  * Represents ALL orders sitting at ONE specific price.
@@ -17,25 +15,46 @@ import java.util.Queue;
  * │ Total Volume: 1000 shares           │
  * └─────────────────────────────────────┘
  *
- * Uses LinkedList as FIFO queue for
- * PRICE-TIME PRIORITY:
+ * Uses an intrusive doubly-linked list as FIFO
+ * queue for PRICE-TIME PRIORITY:
  * → First order placed = first to trade
+ *
+ *   head                              tail
+ *   #1001 ⇄ #1002 ⇄ #1005
+ *
+ * The prev/next links live on the Order itself,
+ * so add, poll, cancel and partial fill are all
+ * O(1) and allocate nothing.
+ *
+ * Total volume is what the level shows: iceberg
+ * reserves are kept apart in hidden volume and never
+ * reach depth, feeds or top of book.
+ *
+ * Pegged orders are counted apart too, so the PegBook
+ * can tell a level anyone quotes at from one only
+ * pegs sit at (pegs never peg to each other).
  */
 public class PriceLevel {
 
-    private final double price;
+    private final long price;    // in ticks
 
-    // LinkedList gives O(1) add to back
-    // and O(1) remove from front
-    // This ensures time priority (FIFO)
-    private final Queue<Order> orders;
+    // Front (oldest) and back (newest) of the queue
+    private Order head;
+    private Order tail;
+
+    private int orderCount;
 
     // Total volume cached for O(1) lookup
     private int totalVolume;
 
-    public PriceLevel(double price) {
+    // Iceberg reserves behind the shown volume
+    private int hiddenVolume;
+
+    // Pegged orders among orderCount
+    private int peggedCount;
+
+    public PriceLevel(long price) {
         this.price       = price;
-        this.orders      = new LinkedList<>();
         this.totalVolume = 0;
     }
 
@@ -44,20 +63,32 @@ public class PriceLevel {
     // O(1) operation
     // ─────────────────────────────────────────────────
     public void addOrder(Order order) {
-        orders.add(order);
-        totalVolume += order.getQuantity();
+        order.setLevelLinks(this, tail, null);
+        if (tail == null) {
+            head = order;
+        } else {
+            tail.setNextInLevel(order);
+        }
+        tail = order;
+        orderCount++;
+        totalVolume  += order.getQuantity();
+        hiddenVolume += order.getReserveQuantity();
+        if (order.getType().isPegged()) {
+            peggedCount++;
+        }
     }
 
     // ─────────────────────────────────────────────────
     // Remove specific order from queue
-    // O(n) but rare operation
+    // O(1) - unlink using the order's own links
     // ─────────────────────────────────────────────────
     public boolean removeOrder(Order order) {
-        boolean removed = orders.remove(order);
-        if (removed) {
-            totalVolume -= order.getQuantity();
+        if (order.getLevel() != this) {
+            return false;
         }
-        return removed;
+        unlink(order);
+        totalVolume -= order.getQuantity();
+        return true;
     }
 
     // ─────────────────────────────────────────────────
@@ -65,7 +96,7 @@ public class PriceLevel {
     // Used during matching to check availability
     // ─────────────────────────────────────────────────
     public Order peek() {
-        return orders.peek();
+        return head;
     }
 
     // ─────────────────────────────────────────────────
@@ -73,44 +104,97 @@ public class PriceLevel {
     // Called when order is fully matched
     // ─────────────────────────────────────────────────
     public Order poll() {
-        Order order = orders.poll();
+        Order order = head;
         if (order != null) {
+            unlink(order);
             totalVolume -= order.getQuantity();
         }
         return order;
     }
 
     // ─────────────────────────────────────────────────
-    // Update volume when order is partially filled
+    // Fill a resting order in this level
+    // Keeps volume in sync, unlinks when fully filled
     // ─────────────────────────────────────────────────
-    public void reduceVolume(int amount) {
-        totalVolume -= amount;
+    public void fill(Order order, int fillQty) {
+        order.fill(fillQty);
+        totalVolume -= fillQty;
+        if (order.isFilled()) {
+            unlink(order);
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Cut a resting order's quantity in place
+    // Keeps its place in the queue; an iceberg loses
+    // hidden reserve before shown quantity
+    // ─────────────────────────────────────────────────
+    public void reduce(Order order, int newQuantity) {
+        if (newQuantity > order.getRemainingQuantity()) {
+            throw new IllegalArgumentException(
+                "Reduce to " + newQuantity +
+                " exceeds remaining quantity " + order.getRemainingQuantity()
+            );
+        }
+        int shown  = order.getQuantity();
+        int hidden = order.getReserveQuantity();
+        order.reduceTo(newQuantity);
+        totalVolume  -= shown - order.getQuantity();
+        hiddenVolume -= hidden - order.getReserveQuantity();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Detach order from the queue
+    // ─────────────────────────────────────────────────
+    private void unlink(Order order) {
+        Order prev = order.getPrevInLevel();
+        Order next = order.getNextInLevel();
+
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.setNextInLevel(next);
+        }
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.setPrevInLevel(prev);
+        }
+
+        order.setLevelLinks(null, null, null);
+        orderCount--;
+        hiddenVolume -= order.getReserveQuantity();
+        if (order.getType().isPegged()) {
+            peggedCount--;
+        }
     }
 
     // ─────────────────────────────────────────────────
     // Check if this price level has any orders
     // ─────────────────────────────────────────────────
     public boolean isEmpty() {
-        return orders.isEmpty();
+        return head == null;
     }
 
     // ─────────────────────────────────────────────────
     // Number of orders at this price level
     // ─────────────────────────────────────────────────
     public int getOrderCount() {
-        return orders.size();
+        return orderCount;
     }
 
     // Getters
-    public double getPrice()       { return price;       }
-    public int getTotalVolume()    { return totalVolume; }
-    public Queue<Order> getOrders(){ return orders;      }
+    public long getPrice()       { return price;        }
+    public int getTotalVolume()  { return totalVolume;  }
+    public int getHiddenVolume() { return hiddenVolume; }
+    public int getPeggedCount()  { return peggedCount;  }
+    public Order getLastOrder()  { return tail;         }
 
     @Override
     public String toString() {
         return String.format(
-            "PriceLevel{price=%.2f, orders=%d, volume=%d}",
-            price, orders.size(), totalVolume
+            "PriceLevel{price=%d, orders=%d, volume=%d}",
+            price, orderCount, totalVolume
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+package com.trading.lob.book;
+
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+
+import java.util.function.Consumer;
+
+/**
+ * Parked STOP and STOP_LIMIT orders, waiting for the
+ * last trade price to reach their stop price.
+ *
+ * BUY stop  → triggers when last trade >= stop
+ *             kept lowest stop first
+ * SELL stop → triggers when last trade <= stop
+ *             kept highest stop first
+ *
+ * Last trade ₹2503:
+ * BUY stops   ₹2501 [#7]  ₹2502 [#9, #12] │ ₹2505 [#3]
+ *             └──────── triggered ────────┘
+ *
+ * Each stop price is a PriceLevel queue (first in,
+ * first triggered), on the same intrusive links as
+ * the book. The nearest stop per side is cached, so
+ * "did this trade trigger anything?" is two compares,
+ * and taking out the k triggered stops is O(log n + k).
+ *
+ * Owned by MatchingEngine; matching thread only.
+ */
+public class StopBook {
+
+    // Ordered like the ASK side: lowest stop first
+    private final BookSide buyStops  = new TreeBookSide(OrderSide.ASK);
+
+    // Ordered like the BID side: highest stop first
+    private final BookSide sellStops = new TreeBookSide(OrderSide.BID);
+
+    // Fast lookup for cancel
+    private final OrderIndex index = new OrderIndex(0);
+
+    // Nearest stop per side; MAX / MIN when none
+    private long lowestBuyStop   = Long.MAX_VALUE;
+    private long highestSellStop = Long.MIN_VALUE;
+
+    // ─────────────────────────────────────────────────
+    // PARK a stop order behind others at its stop price
+    // ─────────────────────────────────────────────────
+    public void add(Order order) {
+        if (!order.getType().isStop()) {
+            throw new IllegalArgumentException(
+                "Not a stop order: " + order
+            );
+        }
+        index.put(order.getOrderId(), order);
+
+        long stop = order.getStopPrice();
+        stops(order.getSide()).getOrCreateLevel(stop).addOrder(order);
+        if (order.getSide() == OrderSide.BID) {
+            lowestBuyStop = Math.min(lowestBuyStop, stop);
+        } else {
+            highestSellStop = Math.max(highestSellStop, stop);
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // REMOVE a parked stop (cancel)
+    // Returns it, or null if no such stop is parked
+    // ─────────────────────────────────────────────────
+    public Order remove(long orderId) {
+        Order order = index.remove(orderId);
+        if (order == null) {
+            return null;
+        }
+        PriceLevel level = order.getLevel();
+        level.removeOrder(order);
+        dropIfEmpty(order.getSide(), level);
+        return order;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Would a trade at lastPrice trigger any stop?
+    // O(1) - checked after every fill
+    // ─────────────────────────────────────────────────
+    public boolean isTriggered(long lastPrice) {
+        return lastPrice >= lowestBuyStop || lastPrice <= highestSellStop;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Take out the next stop lastPrice triggers
+    // Nearest stop first, FIFO at one stop price
+    // Returns null once nothing more is triggered
+    // ─────────────────────────────────────────────────
+    public Order pollTriggered(long lastPrice) {
+        if (lastPrice >= lowestBuyStop) {
+            return poll(OrderSide.BID);
+        }
+        if (lastPrice <= highestSellStop) {
+            return poll(OrderSide.ASK);
+        }
+        return null;
+    }
+
+    private Order poll(OrderSide side) {
+        PriceLevel level = stops(side).getBestLevel();
+        Order order = level.poll();
+        index.remove(order.getOrderId());
+        dropIfEmpty(side, level);
+        return order;
+    }
+
+    // Remove an emptied stop price, move the cache on
+    private void dropIfEmpty(OrderSide side, PriceLevel level) {
+        if (!level.isEmpty()) {
+            return;
+        }
+        BookSide stops = stops(side);
+        stops.removeLevel(level);
+        PriceLevel next = stops.getBestLevel();
+        if (side == OrderSide.BID) {
+            lowestBuyStop = next == null ? Long.MAX_VALUE : next.getPrice();
+        } else {
+            highestSellStop = next == null ? Long.MIN_VALUE : next.getPrice();
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Every parked stop, buys then sells, each in
+    // trigger order (snapshots, expiry)
+    // ─────────────────────────────────────────────────
+    public void forEach(Consumer<Order> action) {
+        for (BookSide stops : new BookSide[] {buyStops, sellStops}) {
+            for (PriceLevel level = stops.getBestLevel(); level != null;
+                 level = stops.nextLevel(level.getPrice())) {
+                for (Order o = level.peek(); o != null; o = o.getNextInLevel()) {
+                    action.accept(o);
+                }
+            }
+        }
+    }
+
+    private BookSide stops(OrderSide side) {
+        return side == OrderSide.BID ? buyStops : sellStops;
+    }
+
+    public Order get(long orderId) { return index.get(orderId); }
+    public int size()              { return index.size();       }
+}
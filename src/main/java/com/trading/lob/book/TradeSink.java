@@ -0,0 +1,30 @@
+package com.trading.lob.book;
+
+/**
+ * Receives fills from the matching engine as
+ * plain primitives - no Trade object is created.
+ *
+ * Pass one to MatchingEngine.submitOrder(order, sink)
+ * and reuse it across orders to keep the match
+ * loop allocation-free.
+ *
+ * Example: a pre-sized fill buffer
+ * class FillBuffer implements TradeSink {
+ *     final long[] prices = new long[64];
+ *     final int[]  qtys   = new int[64];
+ *     int count;
+ *     public void onFill(long b, long s, long p, int q) {
+ *         prices[count] = p; qtys[count++] = q;
+ *     }
+ * }
+ *
+ * Called on the matching thread, once per fill,
+ * in execution order.
+ */
+@FunctionalInterface
+public interface TradeSink {
+
+    // price is in ticks, quantity in shares
+    void onFill(long buyOrderId, long sellOrderId,
+                long price, int quantity);
+}
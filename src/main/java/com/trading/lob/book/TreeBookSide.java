@@ -0,0 +1,75 @@
+package com.trading.lob.book;
+
+import com.trading.lob.model.OrderSide;
+
+import java.util.Collections;
+import java.util.TreeMap;
+
+/**
+ * Book side backed by a TreeMap (red-black tree).
+ *
+ * BID side uses reverseOrder → highest price first
+ * ASK side uses natural order → lowest price first
+ *
+ * O(log n) insert, remove and lookup, and every
+ * lookup boxes its price into a Long key.
+ * Opt in with BookConfig.withTreeSides() for books
+ * whose levels are spread far wider than a ladder.
+ */
+public class TreeBookSide implements BookSide {
+
+    private final OrderSide side;
+
+    // Price (ticks) → level, sorted best first
+    private final TreeMap<Long, PriceLevel> levels;
+
+    public TreeBookSide(OrderSide side) {
+        this.side   = side;
+        this.levels = side == OrderSide.BID
+            ? new TreeMap<>(Collections.reverseOrder())
+            : new TreeMap<>();
+    }
+
+    @Override
+    public PriceLevel getLevel(long price) {
+        return levels.get(price);
+    }
+
+    @Override
+    public PriceLevel getOrCreateLevel(long price) {
+        return levels.computeIfAbsent(price, PriceLevel::new);
+    }
+
+    @Override
+    public void removeLevel(PriceLevel level) {
+        levels.remove(level.getPrice(), level);
+    }
+
+    @Override
+    public PriceLevel getBestLevel() {
+        if (levels.isEmpty()) return null;
+        // firstKey + get avoids the Entry copy firstEntry makes
+        return levels.get(levels.firstKey());
+    }
+
+    @Override
+    public long getBestPrice() {
+        if (levels.isEmpty()) return 0;
+        return levels.firstKey();
+    }
+
+    @Override
+    public PriceLevel nextLevel(long price) {
+        // higherKey follows the comparator, so for bids
+        // this is the next LOWER price
+        Long next = levels.higherKey(price);
+        return next == null ? null : levels.get(next);
+    }
+
+    @Override
+    public boolean isEmpty()       { return levels.isEmpty(); }
+    @Override
+    public int size()              { return levels.size();    }
+    @Override
+    public OrderSide getSide()     { return side;             }
+}
@@ -0,0 +1,427 @@
+package com.trading.lob.csv;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.book.TradeSink;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.PriceScale;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Streams order files into matching engines.
+ *
+ * File format (data/sample_orders.csv):
+ * order_id,symbol,side,type,price,quantity,notes
+ * 1,RELIANCE,BID,LIMIT,2500.00,500,Large buy order
+ * 7,RELIANCE,BID,MARKET,0.00,200,Market buy order
+ *
+ * Each line is parsed straight from the read buffer
+ * and submitted before the next one is read, so files
+ * of any size stream through a fixed buffer:
+ *
+ *  InputStream → byte[] buffer → fields parsed
+ *  in place → Order → engine for the symbol
+ *
+ * No String.split, no regex, no String per field.
+ * Numbers are parsed digit by digit; a price becomes
+ * ticks via mantissa / 10^decimals and the book's
+ * PriceScale (off-grid prices are rejected). A symbol
+ * String is made once, the first time a symbol is
+ * seen; after that its bytes are looked up in a small
+ * hash table.
+ *
+ * Notes (the last field) are skipped unread. The
+ * header line is optional; blank lines and CRLF line
+ * ends are fine. A bad line throws
+ * IllegalArgumentException naming the line number.
+ *
+ * Fills go to the sink (default: discarded); engine
+ * listeners see them as usual. When the file is done
+ * each engine's order IDs are reserved past the
+ * highest ID loaded into it.
+ *
+ * Single-threaded; one loader per stream.
+ */
+public class CsvOrderLoader {
+
+    public static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+
+    private static final TradeSink DISCARD = (buy, sell, price, qty) -> { };
+
+    // Field values, compared as bytes
+    private static final byte[] BID    = bytes("BID");
+    private static final byte[] ASK    = bytes("ASK");
+    private static final byte[] LIMIT  = bytes("LIMIT");
+    private static final byte[] MARKET = bytes("MARKET");
+
+    private final Function<String, MatchingEngine> engines;
+    private final TradeSink sink;
+
+    private byte[] buffer;
+
+    // Symbol bytes → engine, open addressing
+    private SymbolEntry[] table = new SymbolEntry[16];
+    private int symbolCount;
+    private SymbolEntry lastSymbol;
+
+    // Cursor inside the line being parsed
+    private int pos;
+    private int limit;
+
+    private long lineNumber;
+    private long orderCount;
+    private long bytesRead;
+
+    // Engine for each symbol, created on first sight
+    public CsvOrderLoader(Function<String, MatchingEngine> engines) {
+        this(engines, DISCARD, DEFAULT_BUFFER_BYTES);
+    }
+
+    public CsvOrderLoader(Function<String, MatchingEngine> engines,
+                          TradeSink sink) {
+        this(engines, sink, DEFAULT_BUFFER_BYTES);
+    }
+
+    // Buffer grows if a single line does not fit
+    public CsvOrderLoader(Function<String, MatchingEngine> engines,
+                          TradeSink sink, int bufferBytes) {
+        if (bufferBytes <= 0) {
+            throw new IllegalArgumentException(
+                "Buffer size must be positive: " + bufferBytes
+            );
+        }
+        this.engines = engines;
+        this.sink    = sink;
+        this.buffer  = new byte[bufferBytes];
+    }
+
+    // ─────────────────────────────────────────────────
+    // LOAD a file; returns orders submitted from it
+    // ─────────────────────────────────────────────────
+    public long load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return load(in);
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // LOAD a stream (not closed here)
+    //
+    // buffer: [consumed | start..end unparsed | free]
+    // Complete lines are parsed in place; the partial
+    // tail moves to the front before the next read.
+    // ─────────────────────────────────────────────────
+    public long load(InputStream in) throws IOException {
+        long ordersBefore = orderCount;
+        lineNumber = 0;
+
+        int start = 0;
+        int end   = 0;
+        int scan  = 0;   // No newline in start..scan
+
+        while (true) {
+            if (end == buffer.length) {
+                if (start > 0) {
+                    System.arraycopy(buffer, start, buffer, 0, end - start);
+                    end  -= start;
+                    scan -= start;
+                    start = 0;
+                } else {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+            }
+
+            int n = in.read(buffer, end, buffer.length - end);
+            if (n < 0) {
+                break;
+            }
+            bytesRead += n;
+            end += n;
+
+            for (; scan < end; scan++) {
+                if (buffer[scan] == '\n') {
+                    parseLine(start, scan);
+                    start = scan + 1;
+                }
+            }
+        }
+
+        // Last line without a newline
+        if (end > start) {
+            parseLine(start, end);
+        }
+
+        finish();
+        return orderCount - ordersBefore;
+    }
+
+    // Keep generated IDs clear of the loaded ones
+    private void finish() {
+        for (SymbolEntry entry : table) {
+            if (entry != null) {
+                entry.engine.reserveOrderIds(entry.maxOrderId);
+            }
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // One line: buffer[from, to), newline excluded
+    // ─────────────────────────────────────────────────
+    private void parseLine(int from, int to) {
+        lineNumber++;
+        if (to > from && buffer[to - 1] == '\r') to--;
+        if (from == to) {
+            return;
+        }
+        // Header: the first line, if it is not an order
+        if (lineNumber == 1 && !isDigit(buffer[from])) {
+            return;
+        }
+
+        pos   = from;
+        limit = to;
+        try {
+            long orderId = parseLong("order_id");
+
+            int symbolStart = pos;
+            int symbolEnd   = skipField("symbol");
+            SymbolEntry symbol = lookup(symbolStart, symbolEnd);
+
+            OrderSide side = parseSide();
+            OrderType type = parseType();
+            long price     = parsePrice(symbol.scale);
+            long quantity  = parseLong("quantity");
+            if (quantity > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                    "Quantity too large: " + quantity
+                );
+            }
+            // Rest of the line is notes; not read
+
+            symbol.maxOrderId = Math.max(symbol.maxOrderId, orderId);
+            symbol.engine.submitOrder(new Order(orderId, symbol.name,
+                side, type, type == OrderType.MARKET ? 0 : price,
+                (int) quantity), sink);
+            orderCount++;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Line " + lineNumber + ": " + e.getMessage(), e
+            );
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // FIELD parsers - each consumes its trailing comma
+    // ─────────────────────────────────────────────────
+    private long parseLong(String field) {
+        int digitsStart = pos;
+        long value = 0;
+        while (pos < limit && isDigit(buffer[pos])) {
+            if (value > (Long.MAX_VALUE - 9) / 10) {
+                throw new IllegalArgumentException(field + " too large");
+            }
+            value = value * 10 + (buffer[pos++] - '0');
+        }
+        if (pos == digitsStart) {
+            throw new IllegalArgumentException("Expected digits in " + field);
+        }
+        // Notes column is optional after quantity
+        if (pos < limit) {
+            endField(field);
+        }
+        return value;
+    }
+
+    // Decimal price → ticks, e.g. "2500.05" is
+    // (250005, 2). Integer only: no double rounding.
+    private long parsePrice(PriceScale scale) {
+        long mantissa = 0;
+        int digits    = 0;
+        int decimals  = -1;   // -1 until the point
+        while (pos < limit && buffer[pos] != ',') {
+            byte b = buffer[pos++];
+            if (b == '.' && decimals < 0) {
+                decimals = 0;
+                continue;
+            }
+            if (!isDigit(b)) {
+                throw new IllegalArgumentException("Bad price");
+            }
+            if (digits == 18) {   // keeps the mantissa in a long
+                throw new IllegalArgumentException("Price too long");
+            }
+            mantissa = mantissa * 10 + (b - '0');
+            digits++;
+            if (decimals >= 0) decimals++;
+        }
+        if (digits == 0) {
+            throw new IllegalArgumentException("Expected a price");
+        }
+        endField("price");
+        return scale.toTicks(mantissa, Math.max(decimals, 0));
+    }
+
+    private OrderSide parseSide() {
+        int start = pos;
+        int end   = skipField("side");
+        if (matches(start, end, BID)) return OrderSide.BID;
+        if (matches(start, end, ASK)) return OrderSide.ASK;
+        throw new IllegalArgumentException("Unknown side: " + text(start, end));
+    }
+
+    private OrderType parseType() {
+        int start = pos;
+        int end   = skipField("type");
+        if (matches(start, end, LIMIT))  return OrderType.LIMIT;
+        if (matches(start, end, MARKET)) return OrderType.MARKET;
+        throw new IllegalArgumentException("Unknown type: " + text(start, end));
+    }
+
+    // Returns the field's end; pos moves past the comma
+    private int skipField(String field) {
+        while (pos < limit && buffer[pos] != ',') pos++;
+        int end = pos;
+        endField(field);
+        return end;
+    }
+
+    private void endField(String field) {
+        if (pos >= limit || buffer[pos] != ',') {
+            throw new IllegalArgumentException(
+                "Expected ',' after " + field
+            );
+        }
+        pos++;
+    }
+
+    // ─────────────────────────────────────────────────
+    // SYMBOL table: bytes → engine, no String per row
+    // Consecutive rows for one symbol skip the hash
+    // ─────────────────────────────────────────────────
+    private SymbolEntry lookup(int start, int end) {
+        if (lastSymbol != null && matches(start, end, lastSymbol.bytes)) {
+            return lastSymbol;
+        }
+        if (end == start) {
+            throw new IllegalArgumentException("Empty symbol");
+        }
+
+        int hash = 1;
+        for (int i = start; i < end; i++) hash = 31 * hash + buffer[i];
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != null) {
+            if (matches(start, end, table[slot].bytes)) {
+                return lastSymbol = table[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        // First sight of this symbol
+        String name = text(start, end);
+        MatchingEngine engine = engines.apply(name);
+        if (engine == null) {
+            throw new IllegalArgumentException("No engine for symbol " + name);
+        }
+        SymbolEntry entry = new SymbolEntry(
+            Arrays.copyOfRange(buffer, start, end), hash, name, engine);
+        table[slot] = entry;
+        if (++symbolCount * 2 > table.length) {
+            rehash();
+        }
+        return lastSymbol = entry;
+    }
+
+    private void rehash() {
+        SymbolEntry[] old = table;
+        table = new SymbolEntry[old.length * 2];
+        int mask = table.length - 1;
+        for (SymbolEntry entry : old) {
+            if (entry == null) continue;
+            int slot = entry.hash & mask;
+            while (table[slot] != null) slot = (slot + 1) & mask;
+            table[slot] = entry;
+        }
+    }
+
+    private static final class SymbolEntry {
+        final byte[] bytes;
+        final int hash;
+        final String name;
+        final MatchingEngine engine;
+        final PriceScale scale;
+        long maxOrderId;
+
+        SymbolEntry(byte[] bytes, int hash, String name,
+                    MatchingEngine engine) {
+            this.bytes  = bytes;
+            this.hash   = hash;
+            this.name   = name;
+            this.engine = engine;
+            this.scale  = engine.getOrderBook().getPriceScale();
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Byte helpers
+    // ─────────────────────────────────────────────────
+    private boolean matches(int start, int end, byte[] expected) {
+        return Arrays.equals(buffer, start, end, expected, 0, expected.length);
+    }
+
+    // Error messages and new symbols only
+    private String text(int start, int end) {
+        return new String(buffer, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Command line: load a file into one engine per
+    // symbol and print the rate
+    // ─────────────────────────────────────────────────
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 ? args[0]
+                                              : "data/sample_orders.csv");
+        Map<String, MatchingEngine> books = new HashMap<>();
+        CsvOrderLoader loader = new CsvOrderLoader(symbol ->
+            books.computeIfAbsent(symbol,
+                s -> new MatchingEngine(new OrderBook(s))));
+
+        long startNanos = System.nanoTime();
+        long orders = loader.load(file);
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+
+        System.out.printf("%s: %d orders, %.1f MB in %.3f s " +
+            "(%.0f orders/s, %.1f MB/s)%n",
+            file, orders, loader.getBytesRead() / 1e6, seconds,
+            orders / seconds, loader.getBytesRead() / 1e6 / seconds);
+        books.forEach((symbol, engine) -> System.out.printf(
+            "  %-10s resting=%d trades=%d%n", symbol,
+            engine.getOrderBook().getOrderMap().size(),
+            engine.getTotalTrades()));
+    }
+
+    // Getters
+    public long getOrderCount()  { return orderCount;  }
+    public long getBytesRead()   { return bytesRead;   }
+    public int getSymbolCount()  { return symbolCount; }
+}
@@ -1,11 +1,11 @@
 package com.trading.lob.display;
 
+import com.trading.lob.book.DepthSnapshot;
 import com.trading.lob.book.OrderBook;
-import com.trading.lob.book.PriceLevel;
+import com.trading.lob.model.PriceScale;
 import com.trading.lob.model.Trade;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * Displays the Order Book in a readable format.
@@ -21,6 +21,9 @@ import java.util.Map;
  * ║   500   2499.00 | 2502.00   500          ║
  * ║   750   2498.00 | 2503.00   200          ║
  * ╚══════════════════════════════════════════╝
+ *
+ * The book stores prices as ticks; this is where
+ * they are converted back to decimal prices.
  */
 public class BookDisplay {
 
@@ -32,6 +35,8 @@ public class BookDisplay {
     // ─────────────────────────────────────────────────
     public static void printBook(OrderBook book) {
 
+        PriceScale scale = book.getPriceScale();
+
         System.out.println();
         System.out.println(
             "+------------------------------------------+");
@@ -49,16 +54,11 @@ public class BookDisplay {
         System.out.println(
             "+--------------------+---------------------+");
 
-        // Get bid and ask levels as arrays
-        Object[] bidEntries = book.getBids()
-            .entrySet().toArray();
-        Object[] askEntries = book.getAsks()
-            .entrySet().toArray();
+        // Top bid and ask levels, best first
+        DepthSnapshot depth = new DepthSnapshot(DISPLAY_LEVELS);
+        book.getDepth(depth);
 
-        int levels = Math.max(
-            Math.min(bidEntries.length, DISPLAY_LEVELS),
-            Math.min(askEntries.length, DISPLAY_LEVELS)
-        );
+        int levels = Math.max(depth.getBidLevels(), depth.getAskLevels());
 
         if (levels == 0) {
             System.out.println(
@@ -70,27 +70,21 @@ public class BookDisplay {
 
             // Bid side
             String bidStr = "                    ";
-            if (i < bidEntries.length) {
-                Map.Entry<Double, PriceLevel> bidEntry =
-                    (Map.Entry<Double, PriceLevel>)
-                    bidEntries[i];
+            if (i < depth.getBidLevels()) {
                 bidStr = String.format(
                     "%6d   %9.2f",
-                    bidEntry.getValue().getTotalVolume(),
-                    bidEntry.getKey()
+                    depth.getBidVolume(i),
+                    scale.toPrice(depth.getBidPrice(i))
                 );
             }
 
             // Ask side
             String askStr = "                    ";
-            if (i < askEntries.length) {
-                Map.Entry<Double, PriceLevel> askEntry =
-                    (Map.Entry<Double, PriceLevel>)
-                    askEntries[i];
+            if (i < depth.getAskLevels()) {
                 askStr = String.format(
                     "%9.2f   %-6d",
-                    askEntry.getKey(),
-                    askEntry.getValue().getTotalVolume()
+                    scale.toPrice(depth.getAskPrice(i)),
+                    depth.getAskVolume(i)
                 );
             }
 
@@ -112,6 +106,8 @@ public class BookDisplay {
     // ─────────────────────────────────────────────────
     public static void printStats(OrderBook book) {
 
+        PriceScale scale = book.getPriceScale();
+
         System.out.println(
             "+------------------------------------------+");
 
@@ -122,16 +118,16 @@ public class BookDisplay {
         } else {
             System.out.printf(
                 "| Best Bid  : %-28.2f|%n",
-                book.getBestBid());
+                scale.toPrice(book.getBestBid()));
             System.out.printf(
                 "| Best Ask  : %-28.2f|%n",
-                book.getBestAsk());
+                scale.toPrice(book.getBestAsk()));
             System.out.printf(
                 "| Spread    : %-28.2f|%n",
-                book.getSpread());
+                scale.toPrice(book.getSpread()));
             System.out.printf(
                 "| Mid Price : %-28.2f|%n",
-                book.getMidPrice());
+                scale.toPrice(book.getMidPrice()));
             System.out.printf(
                 "| Orders    : %-28d|%n",
                 book.getTotalOrders());
@@ -144,7 +140,8 @@ public class BookDisplay {
     // ─────────────────────────────────────────────────
     // Print all executed trades
     // ─────────────────────────────────────────────────
-    public static void printTrades(List<Trade> trades) {
+    public static void printTrades(List<Trade> trades,
+                                   PriceScale scale) {
 
         if (trades.isEmpty()) {
             System.out.println("No trades executed yet.");
@@ -171,11 +168,11 @@ public class BookDisplay {
             System.out.printf(
                 "| %-6d | %7.2f | %6d | %12.2f |%n",
                 trade.getTradeId(),
-                trade.getPrice(),
+                scale.toPrice(trade.getPrice()),
                 trade.getQuantity(),
-                trade.getValue()
+                scale.toPrice(trade.getValue())
             );
-            totalValue += trade.getValue();
+            totalValue += scale.toPrice(trade.getValue());
             totalQty   += trade.getQuantity();
         }
 
@@ -192,11 +189,12 @@ public class BookDisplay {
     // ─────────────────────────────────────────────────
     // Print a single trade as it happens
     // ─────────────────────────────────────────────────
-    public static void printTradeAlert(Trade trade) {
+    public static void printTradeAlert(Trade trade,
+                                       PriceScale scale) {
         System.out.println(
             "  >> TRADE: " + trade.getQuantity() +
-            " shares @ " + trade.getPrice() +
-            " | Value: " + trade.getValue()
+            " shares @ " + scale.toPrice(trade.getPrice()) +
+            " | Value: " + scale.toPrice(trade.getValue())
         );
     }
 }
\ No newline at end of file
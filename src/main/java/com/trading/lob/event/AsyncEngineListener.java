@@ -0,0 +1,368 @@
+package com.trading.lob.event;
+
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.RejectReason;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves listener work off the matching thread.
+ *
+ * The engine thread copies each event's primitive
+ * fields into a pre-allocated ring and returns at once.
+ * A background thread drains the ring in batches and
+ * replays the events, in order, on a delegate listener:
+ *
+ *  matching thread             listener thread
+ *  ───────────────             ───────────────
+ *  onTrade(...) ─→ [ring slot] ─→ delegate.onTrade(...)
+ *  (copy, no lock)             (drains everything ready)
+ *
+ * → No allocation, no lock, no syscall on the engine side
+ * → If the ring is full the event is DROPPED and counted
+ *   (see getDroppedEvents) - the engine never waits for
+ *   a slow console or disk
+ *
+ * A delegate that throws loses only that event: the
+ * failure is counted (getFailureCount) and passed to
+ * the ErrorHandler, and draining goes on.
+ *
+ * Single producer: one engine thread per instance.
+ * Stop the engine before calling close(); close drains
+ * whatever is left and stops the thread.
+ */
+public class AsyncEngineListener implements EngineListener, AutoCloseable {
+
+    // Event kinds stored in the ring
+    private static final byte ACCEPTED   = 0;
+    private static final byte RESTED     = 1;
+    private static final byte TRADE      = 2;
+    private static final byte CANCELLED  = 3;
+    private static final byte REJECTED   = 4;
+    private static final byte LEVEL      = 5;
+    private static final byte REPLACED   = 6;
+    private static final byte TRIGGERED  = 7;
+    private static final byte REPRICED   = 8;
+    private static final byte SELF_TRADE = 9;
+
+    private static final OrderSide[]    SIDES   = OrderSide.values();
+    private static final OrderType[]    TYPES   = OrderType.values();
+    private static final RejectReason[] REASONS = RejectReason.values();
+
+    // How long the drain thread sleeps when idle
+    private static final long IDLE_PARK_NANOS = 50_000;
+
+    private final EngineListener delegate;
+    private final ErrorHandler errorHandler;
+    private final int mask;
+
+    // Ring slots, one column per field
+    private final byte[] kinds;
+    private final long[] orderIds;
+    private final long[] otherIds;     // sell ID for trades
+    private final long[] prices;
+    private final int[]  quantities;
+    private final int[]  counts;       // level order count
+    private final byte[] sides;
+    private final byte[] codes;        // order type / reject reason /
+                                       // replace kept priority
+
+    // Producer-owned next sequence to write
+    private long claimed;
+
+    // Sequences < published are readable by the drain thread
+    private final AtomicLong published = new AtomicLong();
+
+    // Sequences < consumed have been delivered
+    private final AtomicLong consumed = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Events whose delegate call threw
+    private final AtomicLong failures = new AtomicLong();
+
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public AsyncEngineListener(EngineListener delegate, int capacity) {
+        this(delegate, capacity, ErrorHandler.STDERR);
+    }
+
+    public AsyncEngineListener(EngineListener delegate, int capacity,
+                               ErrorHandler errorHandler) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                "Capacity must be a power of two: " + capacity
+            );
+        }
+        this.delegate     = delegate;
+        this.errorHandler = errorHandler;
+        this.mask         = capacity - 1;
+        this.kinds        = new byte[capacity];
+        this.orderIds     = new long[capacity];
+        this.otherIds     = new long[capacity];
+        this.prices       = new long[capacity];
+        this.quantities   = new int[capacity];
+        this.counts       = new int[capacity];
+        this.sides        = new byte[capacity];
+        this.codes        = new byte[capacity];
+
+        this.worker = new Thread(this::drainLoop, "engine-listener");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Producer side - matching thread
+    // ─────────────────────────────────────────────────
+
+    @Override
+    public void onOrderAccepted(long orderId, OrderSide side,
+                                OrderType type, long price,
+                                int quantity) {
+        int slot = claim();
+        if (slot < 0) return;
+        kinds[slot]      = ACCEPTED;
+        orderIds[slot]   = orderId;
+        sides[slot]      = (byte) side.ordinal();
+        codes[slot]      = (byte) type.ordinal();
+        prices[slot]     = price;
+        quantities[slot] = quantity;
+        publish();
+    }
+
+    @Override
+    public void onOrderRested(long orderId, OrderSide side,
+                              long price, int quantity) {
+        int slot = claim();
+        if (slot < 0) return;
+        kinds[slot]      = RESTED;
+        orderIds[slot]   = orderId;
+        sides[slot]      = (byte) side.ordinal();
+        prices[slot]     = price;
+        quantities[slot] = quantity;
+        publish();
+    }
+
+    @Override
+    public void onTrade(long buyOrderId, long sellOrderId,
+                        OrderSide aggressorSide,
+                        long price, int quantity) {
+        int slot = claim();
+        if (slot < 0) return;
+        kinds[slot]      = TRADE;
+        orderIds[slot]   = buyOrderId;
+        otherIds[slot]   = sellOrderId;
+        sides[slot]      = (byte) aggressorSide.ordinal();
+        prices[slot]     = price;
+        quantities[slot] = quantity;
+        publish();
+    }
+
+    @Override
+    public void onOrderCancelled(long orderId, OrderSide side,
+                                 long price, int cancelledQuantity) {
+        int slot = claim();
+        if (slot < 0) return;
+        kinds[slot]      = CANCELLED;
+        orderIds[slot]   = orderId;
+        sides[slot]      = (byte) side.ordinal();
+        prices[slot]     = price;
+        quantities[slot] = cancelledQuantity;
+        publish();
+    }
+
+    @Override
+    public void onOrderReplaced(long orderId, OrderSide side,
+                                long newPrice, int newQuantity,
+                                boolean keptPriority) {
+        int slot = claim();
+        if (slot < 0) return;
+        kinds[slot]      = REPLACED;
+        orderIds[slot]   = orderId;
+        sides[slot]      = (byte) side.ordinal();
+        prices[slot]     = newPrice;
+        quantities[slot] = newQuantity;
+        codes[slot]      = (byte) (keptPriority ? 1 : 0);
+        publish();
+    }
+
+    @Override
+    public void onStopTriggered(long orderId, OrderSide side,
+                                long lastPrice) {
+        int slot = claim();
+        if (slot < 0) return;
+        kinds[slot]    = TRIGGERED;
+        orderIds[slot] = orderId;
+        sides[slot]    = (byte) side.ordinal();
+        prices[slot]   = lastPrice;
+        publish();
+    }
+
+    @Override
+    public void onOrderRepriced(long orderId, OrderSide side,
+                                long newPrice) {
+        int slot = claim();
+        if (slot < 0) return;
+        kinds[slot]    = REPRICED;
+        orderIds[slot] = orderId;
+        sides[slot]    = (byte) side.ordinal();
+        prices[slot]   = newPrice;
+        publish();
+    }
+
+    // The resting ID rides in the price column
+    @Override
+    public void onSelfTradePrevented(long incomingId, long restingId,
+                                     int quantity) {
+        int slot = claim();
+        if (slot < 0) return;
+        kinds[slot]      = SELF_TRADE;
+        orderIds[slot]   = incomingId;
+        prices[slot]     = restingId;
+        quantities[slot] = quantity;
+        publish();
+    }
+
+    @Override
+    public void onOrderRejected(long orderId, RejectReason reason) {
+        int slot = claim();
+        if (slot < 0) return;
+        kinds[slot]    = REJECTED;
+        orderIds[slot] = orderId;
+        codes[slot]    = (byte) reason.ordinal();
+        publish();
+    }
+
+    @Override
+    public void onLevelChanged(OrderSide side, long price,
+                               int volume, int orderCount) {
+        int slot = claim();
+        if (slot < 0) return;
+        kinds[slot]      = LEVEL;
+        sides[slot]      = (byte) side.ordinal();
+        prices[slot]     = price;
+        quantities[slot] = volume;
+        counts[slot]     = orderCount;
+        publish();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Reserve the next slot, or -1 if the ring is full
+    // ─────────────────────────────────────────────────
+    private int claim() {
+        if (claimed - consumed.get() > mask) {
+            dropped.incrementAndGet();
+            return -1;
+        }
+        return (int) claimed & mask;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Make the claimed slot visible to the drain thread
+    // lazySet = ordered store, no full fence
+    // ─────────────────────────────────────────────────
+    private void publish() {
+        published.lazySet(++claimed);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Consumer side - listener thread
+    // Delivers every ready event in one batch
+    // ─────────────────────────────────────────────────
+    private void drainLoop() {
+        long next = 0;
+        while (true) {
+            boolean stopping = !running;
+            long available   = published.get();
+
+            if (next < available) {
+                for (; next < available; next++) {
+                    dispatch((int) next & mask);
+                }
+                consumed.lazySet(next);
+                continue;
+            }
+
+            if (stopping) break;
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    private void dispatch(int slot) {
+        try {
+            switch (kinds[slot]) {
+                case ACCEPTED:
+                    delegate.onOrderAccepted(orderIds[slot],
+                        SIDES[sides[slot]], TYPES[codes[slot]],
+                        prices[slot], quantities[slot]);
+                    break;
+                case RESTED:
+                    delegate.onOrderRested(orderIds[slot],
+                        SIDES[sides[slot]], prices[slot],
+                        quantities[slot]);
+                    break;
+                case TRADE:
+                    delegate.onTrade(orderIds[slot], otherIds[slot],
+                        SIDES[sides[slot]], prices[slot],
+                        quantities[slot]);
+                    break;
+                case CANCELLED:
+                    delegate.onOrderCancelled(orderIds[slot],
+                        SIDES[sides[slot]], prices[slot],
+                        quantities[slot]);
+                    break;
+                case REPLACED:
+                    delegate.onOrderReplaced(orderIds[slot],
+                        SIDES[sides[slot]], prices[slot],
+                        quantities[slot], codes[slot] != 0);
+                    break;
+                case TRIGGERED:
+                    delegate.onStopTriggered(orderIds[slot],
+                        SIDES[sides[slot]], prices[slot]);
+                    break;
+                case REPRICED:
+                    delegate.onOrderRepriced(orderIds[slot],
+                        SIDES[sides[slot]], prices[slot]);
+                    break;
+                case SELF_TRADE:
+                    delegate.onSelfTradePrevented(orderIds[slot],
+                        prices[slot], quantities[slot]);
+                    break;
+                case REJECTED:
+                    delegate.onOrderRejected(orderIds[slot],
+                        REASONS[codes[slot]]);
+                    break;
+                case LEVEL:
+                    delegate.onLevelChanged(SIDES[sides[slot]],
+                        prices[slot], quantities[slot], counts[slot]);
+                    break;
+                default:
+                    break;
+            }
+        } catch (RuntimeException e) {
+            // A failing delegate must not kill the drain thread
+            failures.incrementAndGet();
+            errorHandler.onError(e);
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Drain remaining events and stop the thread
+    // ─────────────────────────────────────────────────
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getDroppedEvents() { return dropped.get();  }
+    public long getFailureCount()  { return failures.get(); }
+}
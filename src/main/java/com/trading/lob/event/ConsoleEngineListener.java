@@ -0,0 +1,53 @@
+package com.trading.lob.event;
+
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.PriceScale;
+import com.trading.lob.model.RejectReason;
+
+/**
+ * Prints engine events to the console.
+ *
+ * Produces the same lines the engine used to print
+ * itself:
+ *   TRADE EXECUTED: 300 shares @ 2501.00 (Buy#7 vs Sell#4)
+ * Order #99 not found!
+ *
+ * System.out is synchronized and slow - fine for Main
+ * and demos, but wrap it in AsyncEngineListener
+ * anywhere latency matters.
+ */
+public class ConsoleEngineListener implements EngineListener {
+
+    private final PriceScale priceScale;
+
+    public ConsoleEngineListener(PriceScale priceScale) {
+        this.priceScale = priceScale;
+    }
+
+    @Override
+    public void onTrade(long buyOrderId, long sellOrderId,
+                        OrderSide aggressorSide,
+                        long price, int quantity) {
+        System.out.printf(
+            "  TRADE EXECUTED: %d shares @ %.2f " +
+            "(Buy#%d vs Sell#%d)%n",
+            quantity,
+            priceScale.toPrice(price),
+            buyOrderId,
+            sellOrderId
+        );
+    }
+
+    @Override
+    public void onOrderRejected(long orderId, RejectReason reason) {
+        if (reason == RejectReason.UNKNOWN_ORDER) {
+            System.out.println(
+                "Order #" + orderId + " not found!"
+            );
+        } else {
+            System.out.println(
+                "Order #" + orderId + " rejected: " + reason
+            );
+        }
+    }
+}
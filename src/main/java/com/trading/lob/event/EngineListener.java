@@ -0,0 +1,83 @@
+package com.trading.lob.event;
+
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.RejectReason;
+
+/**
+ * Callbacks for everything the matching engine does.
+ *
+ * Called synchronously on the matching thread, in
+ * the order things happen:
+ *
+ * BUY 500 @ 2502 against SELL 300 @ 2501
+ * → onOrderAccepted  #7 BUY LIMIT 2502 x 500
+ * → onTrade          Buy#7 vs Sell#4, 300 @ 2501
+ * → onLevelChanged   ASK 2501 → 0 qty (level gone)
+ * → onOrderRested    #7 BUY 2502 x 200
+ * → onLevelChanged   BID 2502 → 200 qty, 1 order
+ *
+ * Every method has an empty default, so implement
+ * only what you need. Arguments are primitives and
+ * enums (prices in ticks) so an implementation can
+ * copy them out without holding on to live orders.
+ *
+ * Implementations must be fast and must not block:
+ * anything slow (console, files, network) belongs
+ * behind AsyncEngineListener.
+ */
+public interface EngineListener {
+
+    // Does nothing - the engine default
+    EngineListener NO_OP = new EngineListener() { };
+
+    // New order reached the engine
+    default void onOrderAccepted(long orderId, OrderSide side,
+                                 OrderType type, long price,
+                                 int quantity) { }
+
+    // Unfilled remainder now rests in the book
+    default void onOrderRested(long orderId, OrderSide side,
+                               long price, int quantity) { }
+
+    // One fill; aggressorSide is the incoming order's side
+    default void onTrade(long buyOrderId, long sellOrderId,
+                         OrderSide aggressorSide,
+                         long price, int quantity) { }
+
+    // Resting order removed by cancel
+    default void onOrderCancelled(long orderId, OrderSide side,
+                                  long price,
+                                  int cancelledQuantity) { }
+
+    // Resting order amended; keptPriority = reduced in
+    // place, otherwise requeued (and may trade next)
+    default void onOrderReplaced(long orderId, OrderSide side,
+                                 long newPrice, int newQuantity,
+                                 boolean keptPriority) { }
+
+    // Parked stop reached by a trade at lastPrice; the
+    // activated order's own events follow
+    default void onStopTriggered(long orderId, OrderSide side,
+                                 long lastPrice) { }
+
+    // Pegged order moved to follow the touch; back of
+    // the level at newPrice
+    default void onOrderRepriced(long orderId, OrderSide side,
+                                 long newPrice) { }
+
+    // Incoming order met a resting one of the same
+    // owner; quantity did not trade. Any cancel that
+    // follows is reported by onOrderCancelled
+    default void onSelfTradePrevented(long incomingId, long restingId,
+                                      int quantity) { }
+
+    // Request refused
+    default void onOrderRejected(long orderId,
+                                 RejectReason reason) { }
+
+    // Level volume or order count changed
+    // volume 0 and orderCount 0 = level removed
+    default void onLevelChanged(OrderSide side, long price,
+                                int volume, int orderCount) { }
+}
@@ -0,0 +1,29 @@
+package com.trading.lob.event;
+
+/**
+ * Where a background thread reports a failure it
+ * caught and survived - a listener that threw, a
+ * command the engine refused with an exception.
+ *
+ * Called on the failing thread, right after the
+ * failure: keep it short, and do not throw. Whatever
+ * owns the thread also counts its failures (see each
+ * owner's getFailureCount), so a handler is not
+ * needed just to notice them.
+ *
+ * STDERR → thread name and stack trace on System.err,
+ *          the default
+ * IGNORE → count only
+ */
+@FunctionalInterface
+public interface ErrorHandler {
+
+    ErrorHandler STDERR = error -> {
+        System.err.println("Failure on " + Thread.currentThread().getName());
+        error.printStackTrace();
+    };
+
+    ErrorHandler IGNORE = error -> { };
+
+    void onError(Throwable error);
+}
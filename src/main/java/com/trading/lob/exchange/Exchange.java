@@ -0,0 +1,163 @@
+package com.trading.lob.exchange;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.event.ErrorHandler;
+import com.trading.lob.model.Order;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Many symbols, many matching threads.
+ *
+ * Every symbol gets its own OrderBook and
+ * MatchingEngine. Symbols are spread over a fixed
+ * set of shards; each shard has one matching thread
+ * that is the only writer of its books:
+ *
+ *  submit(order) ──→ shardFor(order.symbol)
+ *                      │
+ *    ┌─────────────────┼─────────────────┐
+ *    ↓                 ↓                 ↓
+ *  matching-0        matching-1        matching-2
+ *  RELIANCE, INFY    TCS, SBIN         HDFCBANK, ...
+ *
+ * → Books are independent, so shards never share
+ *   state and throughput grows with thread count
+ * → A symbol always maps to the same shard, so its
+ *   orders are matched in submission order
+ * → Books are created lazily on their own shard
+ *
+ * Java cannot pin threads to cores by itself. The
+ * threads are named matching-0..N-1 so they can be
+ * pinned from outside (taskset, isolcpus, a thread
+ * affinity library).
+ *
+ * Engine events go to each engine's EngineListener on
+ * its shard thread. A listener shared between symbols
+ * must therefore be thread-safe.
+ *
+ * A command that throws on a shard thread is skipped:
+ * it is counted (getFailureCount) and passed to the
+ * ErrorHandler, and the shard carries on.
+ */
+public class Exchange implements AutoCloseable {
+
+    private final MatchingShard[] shards;
+
+    // Exchange-wide order IDs, safe from any thread
+    private final AtomicLong nextOrderId = new AtomicLong(1);
+
+    // Default books and engines, no listener
+    public Exchange(int matchingThreads) {
+        this(matchingThreads,
+             symbol -> new MatchingEngine(new OrderBook(symbol)));
+    }
+
+    // engineFactory builds the engine for a new symbol;
+    // it runs on the symbol's shard thread
+    public Exchange(int matchingThreads,
+                    Function<String, MatchingEngine> engineFactory) {
+        this(matchingThreads, engineFactory, ErrorHandler.STDERR);
+    }
+
+    public Exchange(int matchingThreads,
+                    Function<String, MatchingEngine> engineFactory,
+                    ErrorHandler errorHandler) {
+        if (matchingThreads <= 0) {
+            throw new IllegalArgumentException(
+                "Matching threads must be positive: " + matchingThreads
+            );
+        }
+        this.shards = new MatchingShard[matchingThreads];
+        for (int i = 0; i < matchingThreads; i++) {
+            shards[i] = new MatchingShard(i, engineFactory, errorHandler);
+        }
+        for (MatchingShard shard : shards) {
+            shard.start();
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // SUBMIT an order to its symbol's shard
+    // Copies it into a ring slot and returns at once;
+    // matching happens on the shard
+    // ─────────────────────────────────────────────────
+    public void submitOrder(Order order) {
+        shards[shardFor(order.getSymbol())].submit(order);
+    }
+
+    // ─────────────────────────────────────────────────
+    // CANCEL by ID; order IDs are looked up per book,
+    // so the symbol is needed to find the shard
+    // ─────────────────────────────────────────────────
+    public void cancelOrder(String symbol, long orderId) {
+        shards[shardFor(symbol)].cancel(symbol, orderId);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Which shard owns a symbol
+    // Stable for the life of the exchange
+    // ─────────────────────────────────────────────────
+    public int shardFor(String symbol) {
+        return Math.floorMod(symbol.hashCode(), shards.length);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Wait until every command submitted so far has
+    // been processed. Engines may be read after this
+    // returns, until more orders are submitted.
+    // ─────────────────────────────────────────────────
+    public void awaitIdle() throws InterruptedException {
+        for (MatchingShard shard : shards) {
+            shard.awaitIdle();
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Engine for a symbol, or null if it has never
+    // traded. Only safe after awaitIdle() or close():
+    // otherwise its shard thread may be writing to it.
+    // ─────────────────────────────────────────────────
+    public MatchingEngine getEngine(String symbol) {
+        return shards[shardFor(symbol)].getEngine(symbol);
+    }
+
+    // Symbols with a book, over all shards (same rule)
+    public int getSymbolCount() {
+        int count = 0;
+        for (MatchingShard shard : shards) {
+            count += shard.getEngineCount();
+        }
+        return count;
+    }
+
+    // Commands that threw, over all shards; any thread
+    public long getFailureCount() {
+        long count = 0;
+        for (MatchingShard shard : shards) {
+            count += shard.getFailureCount();
+        }
+        return count;
+    }
+
+    public long getNextOrderId() {
+        return nextOrderId.getAndIncrement();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Stop accepting orders, finish queued ones and
+    // stop every matching thread. A submit racing
+    // close() is either matched or throws
+    // IllegalStateException - never silently dropped.
+    // ─────────────────────────────────────────────────
+    @Override
+    public void close() {
+        for (MatchingShard shard : shards) {
+            shard.stop();
+        }
+    }
+
+    public int getMatchingThreads() { return shards.length; }
+}
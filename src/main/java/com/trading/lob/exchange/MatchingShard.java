@@ -0,0 +1,263 @@
+package com.trading.lob.exchange;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.event.ErrorHandler;
+import com.trading.lob.ingress.CommandHandler;
+import com.trading.lob.ingress.CommandProcessor;
+import com.trading.lob.ingress.CommandRing;
+import com.trading.lob.ingress.CommandType;
+import com.trading.lob.ingress.OrderCommand;
+import com.trading.lob.ingress.WaitStrategy;
+import com.trading.lob.model.Order;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * One matching thread and the books it owns.
+ *
+ * Every book in the shard is created, read and
+ * written only by this shard's thread - the single
+ * writer - so engines and books need no locks.
+ * Other threads fill slots of the shard's
+ * multi-producer CommandRing; each slot carries the
+ * symbol, and the shard thread hands it to that
+ * symbol's CommandProcessor:
+ *
+ *  gateways ─→ CommandRing ─→ matching-N
+ *              [NEW TCS]       → processors[TCS]
+ *              [CXL INFY]      → processors[INFY]
+ *
+ * Closing is atomic with submitting: a producer
+ * counts itself in before checking closed, and stop()
+ * waits for that count to reach zero before telling
+ * the thread to stop. So every command is either
+ * rejected up front or published ahead of the stop.
+ */
+class MatchingShard {
+
+    // Slots per shard ring; producers wait when full
+    private static final int RING_SIZE = 1 << 13;
+
+    private final int index;
+    private final Function<String, MatchingEngine> engineFactory;
+    private final ErrorHandler errorHandler;
+    private final CommandRing ring =
+        new CommandRing(RING_SIZE, true, WaitStrategy.PARK);
+
+    // Touched only by the shard thread
+    private final Map<String, Route> routes = new HashMap<>();
+
+    // Routes with commands since their last endOfBatch
+    private final List<Route> pending = new ArrayList<>();
+
+    private final CommandHandler handler = new CommandHandler() {
+        @Override
+        public void onCommand(OrderCommand command, long sequence,
+                              boolean endOfBatch) {
+            MatchingShard.this.onCommand(command, sequence, endOfBatch);
+        }
+
+        @Override
+        public void endOfBatch() {
+            flushPending();
+        }
+    };
+
+    private final Thread thread;
+
+    // Producers between their closed check and publish
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // Commands that threw on the shard thread
+    private final AtomicLong failures = new AtomicLong();
+
+    private volatile boolean closed;
+    private volatile boolean running = true;
+
+    MatchingShard(int index,
+                  Function<String, MatchingEngine> engineFactory,
+                  ErrorHandler errorHandler) {
+        this.index         = index;
+        this.engineFactory = engineFactory;
+        this.errorHandler  = errorHandler;
+        this.thread = new Thread(this::run, "matching-" + index);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Called from any thread
+    // Throws IllegalStateException once stop() began
+    // ─────────────────────────────────────────────────
+    void submit(Order order) {
+        enter();
+        try {
+            long seq = ring.next();
+            OrderCommand command = ring.get(seq);
+            command.setNew(order.getOrderId(), order.getSide(),
+                order.getType(), order.getPrice(), order.getQuantity(),
+                order.getTimeInForce(), order.getExpireTime(),
+                order.getDisplayQuantity(), order.getStopPrice(),
+                order.getPegOffset(), order.getOwnerId(),
+                order.getPostOnly(), order.getSelfTrade());
+            command.setSymbol(order.getSymbol());
+            ring.publish(seq);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    void cancel(String symbol, long orderId) {
+        enter();
+        try {
+            long seq = ring.next();
+            OrderCommand command = ring.get(seq);
+            command.setCancel(orderId);
+            command.setSymbol(symbol);
+            ring.publish(seq);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    // Count in first: stop() cannot miss this producer
+    private void enter() {
+        inFlight.incrementAndGet();
+        if (closed) {
+            inFlight.decrementAndGet();
+            throw new IllegalStateException("Exchange is closed");
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Wait until every command claimed before this
+    // call has been handled
+    // ─────────────────────────────────────────────────
+    void awaitIdle() throws InterruptedException {
+        long target = ring.getClaimedSequence();
+        int attempt = 0;
+        while (ring.getConsumedSequence() < target) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            WaitStrategy.PARK.idle(attempt++);
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Shard thread: drain the ring in batches
+    // ─────────────────────────────────────────────────
+    private void run() {
+        int idle = 0;
+        while (true) {
+            boolean stopping = !running;
+            int handled;
+            try {
+                handled = ring.poll(handler);
+            } catch (RuntimeException e) {
+                // One bad command must not stop the shard
+                failures.incrementAndGet();
+                errorHandler.onError(e);
+                continue;
+            }
+
+            if (handled > 0) {
+                idle = 0;
+                continue;
+            }
+            if (stopping) break;
+            ring.getWaitStrategy().idle(idle++);
+        }
+    }
+
+    private void onCommand(OrderCommand command, long sequence,
+                           boolean endOfBatch) {
+        Route route = command.getType() == CommandType.NEW
+            ? routeFor(command.getSymbol())
+            : routes.get(command.getSymbol());
+        if (route != null) {
+            if (!route.inBatch) {
+                route.inBatch = true;
+                pending.add(route);
+            }
+            route.processor.onCommand(command, sequence, false);
+        }
+
+        if (endOfBatch) {
+            flushPending();
+        }
+    }
+
+    // A batch mixes symbols: close it on each engine
+    private void flushPending() {
+        for (int i = 0; i < pending.size(); i++) {
+            Route done = pending.get(i);
+            done.inBatch = false;
+            done.processor.endOfBatch();
+        }
+        pending.clear();
+    }
+
+    // Lazily create the symbol's engine on first use
+    private Route routeFor(String symbol) {
+        Route route = routes.get(symbol);
+        if (route == null) {
+            MatchingEngine engine = engineFactory.apply(symbol);
+            route = new Route(new CommandProcessor(engine,
+                                                   engine.getHistory()::record));
+            routes.put(symbol, route);
+        }
+        return route;
+    }
+
+    // Only safe from the shard thread or after stop()
+    MatchingEngine getEngine(String symbol) {
+        Route route = routes.get(symbol);
+        return route == null ? null : route.processor.getEngine();
+    }
+
+    int getEngineCount() {
+        return routes.size();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Refuse new commands, wait out producers already
+    // past the check, then finish everything published
+    // and stop the thread
+    // ─────────────────────────────────────────────────
+    void stop() {
+        closed = true;
+        while (inFlight.get() != 0) {
+            Thread.onSpinWait();
+        }
+        running = false;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    int getIndex()         { return index;          }
+    long getFailureCount() { return failures.get(); }
+
+    // A symbol's processor, flagged while it is in the
+    // pending list - so joining a batch is O(1)
+    private static final class Route {
+        final CommandProcessor processor;
+        boolean inBatch;
+
+        Route(CommandProcessor processor) {
+            this.processor = processor;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.trading.lob.history;
+
+import com.trading.lob.model.Trade;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size memory for executed trades.
+ *
+ * Keeps the most recent trades in a ring of primitive
+ * arrays. When the ring is full the oldest trade is
+ * overwritten - and, if a spill file is configured,
+ * first appended to it:
+ *
+ *  ring (capacity 4)          spill file
+ *  ┌────┬────┬────┬────┐      ┌────┬────┬────┐
+ *  │ #5 │ #6 │ #3 │ #4 │      │ #1 │ #2 │ .. │
+ *  └────┴────┴────┴────┘      └────┴────┴────┘
+ *         ↑ next write        append-only, 44 bytes/trade
+ *
+ * → Memory is flat however long the session runs
+ * → Recording a trade stores primitives, no objects
+ * → size() is the exact number of trades ever recorded
+ *
+ * Spilled record layout (big-endian):
+ * tradeId:8 buyOrderId:8 sellOrderId:8 price:8
+ * quantity:4 epochMillis:8
+ *
+ * Not thread-safe: record from the matching thread.
+ */
+public class TradeHistory implements AutoCloseable {
+
+    public static final int RECORD_BYTES = 44;
+
+    // Spilled trades are batched into one write per buffer
+    private static final int SPILL_BUFFER_BYTES = RECORD_BYTES * 1024;
+
+    private final String symbol;
+    private final int capacity;
+
+    // Ring columns, one slot per trade
+    private final long[] tradeIds;
+    private final long[] buyOrderIds;
+    private final long[] sellOrderIds;
+    private final long[] prices;
+    private final int[]  quantities;
+    private final long[] timestamps;
+
+    // Trades ever recorded; next trade ID is count + 1
+    private long count;
+
+    // Null when older trades are simply discarded
+    private final FileChannel spillChannel;
+    private final ByteBuffer spillBuffer;
+
+    // In-memory only: trades older than capacity are lost
+    public TradeHistory(String symbol, int capacity) {
+        this(symbol, capacity, null);
+    }
+
+    // Trades evicted from the ring are appended to spillFile
+    public TradeHistory(String symbol, int capacity, Path spillFile) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                "Capacity must be positive: " + capacity
+            );
+        }
+        this.symbol       = symbol;
+        this.capacity     = capacity;
+        this.tradeIds     = new long[capacity];
+        this.buyOrderIds  = new long[capacity];
+        this.sellOrderIds = new long[capacity];
+        this.prices       = new long[capacity];
+        this.quantities   = new int[capacity];
+        this.timestamps   = new long[capacity];
+
+        if (spillFile == null) {
+            this.spillChannel = null;
+            this.spillBuffer  = null;
+        } else {
+            try {
+                this.spillChannel = FileChannel.open(spillFile,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                    "Cannot open spill file " + spillFile, e);
+            }
+            this.spillBuffer = ByteBuffer.allocateDirect(SPILL_BUFFER_BYTES);
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Record one trade, returns its trade ID
+    // Evicts (and spills) the oldest if the ring is full
+    // ─────────────────────────────────────────────────
+    public long record(long buyOrderId, long sellOrderId,
+                       long price, int quantity) {
+        int slot = (int) (count % capacity);
+
+        if (count >= capacity && spillChannel != null) {
+            spill(slot);
+        }
+
+        long tradeId = ++count;
+        tradeIds[slot]     = tradeId;
+        buyOrderIds[slot]  = buyOrderId;
+        sellOrderIds[slot] = sellOrderId;
+        prices[slot]       = price;
+        quantities[slot]   = quantity;
+        timestamps[slot]   = System.currentTimeMillis();
+        return tradeId;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Copy the slot about to be overwritten to disk
+    // ─────────────────────────────────────────────────
+    private void spill(int slot) {
+        if (spillBuffer.remaining() < RECORD_BYTES) {
+            writeSpillBuffer();
+        }
+        spillBuffer.putLong(tradeIds[slot])
+                   .putLong(buyOrderIds[slot])
+                   .putLong(sellOrderIds[slot])
+                   .putLong(prices[slot])
+                   .putInt(quantities[slot])
+                   .putLong(timestamps[slot]);
+    }
+
+    private void writeSpillBuffer() {
+        spillBuffer.flip();
+        try {
+            while (spillBuffer.hasRemaining()) {
+                spillChannel.write(spillBuffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Trade spill failed", e);
+        } finally {
+            spillBuffer.clear();
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Most recent trades, oldest first
+    // Builds Trade objects - query path, not hot path
+    // ─────────────────────────────────────────────────
+    public List<Trade> getRecent(int maxTrades) {
+        int n = (int) Math.min(Math.min(maxTrades, count), capacity);
+        List<Trade> trades = new ArrayList<>(n);
+        for (long seq = count - n; seq < count; seq++) {
+            trades.add(toTrade((int) (seq % capacity)));
+        }
+        return trades;
+    }
+
+    // Everything still in memory, oldest first
+    public List<Trade> getRetained() {
+        return getRecent(capacity);
+    }
+
+    // Latest trade, or null if none yet
+    public Trade getLast() {
+        if (count == 0) return null;
+        return toTrade((int) ((count - 1) % capacity));
+    }
+
+    private Trade toTrade(int slot) {
+        return new Trade(
+            tradeIds[slot], symbol,
+            buyOrderIds[slot], sellOrderIds[slot],
+            prices[slot], quantities[slot],
+            toDateTime(timestamps[slot])
+        );
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    // ─────────────────────────────────────────────────
+    // Read trades back from a spill file, oldest first
+    // ─────────────────────────────────────────────────
+    public static List<Trade> readSpillFile(Path spillFile,
+                                            String symbol) {
+        List<Trade> trades = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(
+                spillFile, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(SPILL_BUFFER_BYTES);
+            while (channel.read(buffer) > 0 || buffer.position() > 0) {
+                buffer.flip();
+                if (buffer.remaining() < RECORD_BYTES) {
+                    break; // Torn tail record - ignore
+                }
+                while (buffer.remaining() >= RECORD_BYTES) {
+                    trades.add(new Trade(
+                        buffer.getLong(), symbol,
+                        buffer.getLong(), buffer.getLong(),
+                        buffer.getLong(), buffer.getInt(),
+                        toDateTime(buffer.getLong())
+                    ));
+                }
+                buffer.compact();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                "Cannot read spill file " + spillFile, e);
+        }
+        return trades;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Push buffered spilled trades to the file
+    // ─────────────────────────────────────────────────
+    public void flush() {
+        if (spillBuffer != null && spillBuffer.position() > 0) {
+            writeSpillBuffer();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (spillChannel == null) return;
+        flush();
+        try {
+            spillChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close spill file", e);
+        }
+    }
+
+    // Getters
+    public long size()          { return count;    }
+    public int getCapacity()    { return capacity; }
+    public int getRetainedCount() {
+        return (int) Math.min(count, capacity);
+    }
+}
@@ -0,0 +1,24 @@
+package com.trading.lob.ingress;
+
+/**
+ * Consumes commands drained from a CommandRing.
+ *
+ * endOfBatch is true for the last command currently
+ * published - a good moment to flush anything
+ * buffered per batch. If that last command throws,
+ * the ring calls endOfBatch() instead, so the flush
+ * is not held back until the next batch.
+ *
+ * The slot is reused after the call returns; copy
+ * what you need to keep.
+ */
+@FunctionalInterface
+public interface CommandHandler {
+
+    void onCommand(OrderCommand command, long sequence,
+                   boolean endOfBatch);
+
+    // Close a batch whose last command threw
+    default void endOfBatch() {
+    }
+}
@@ -0,0 +1,90 @@
+package com.trading.lob.ingress;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.TradeSink;
+import com.trading.lob.model.Order;
+
+/**
+ * Applies OrderCommands to a MatchingEngine.
+ *
+ * The one place that turns a command into engine
+ * calls - used by EngineIngress for live traffic and
+ * by Journal replay, so both behave the same:
+ *
+ * NEW     → submitOrder(new Order(...), sink)
+ * CANCEL  → cancelOrder(id)
+ * REPLACE → replaceOrder(id, price, qty, sink)
+ *           (keeps queue position on a quantity cut)
+ *
+ * At the end of each batch the engine's journal (if
+ * any) gets endOfBatch(), for FsyncPolicy.batch(),
+ * and its order feed (if any) is flushed.
+ *
+ * Runs on the engine's thread only.
+ */
+public class CommandProcessor implements CommandHandler {
+
+    private final MatchingEngine engine;
+    private final TradeSink sink;
+
+    // Highest order ID seen in a NEW command
+    private long maxOrderId;
+
+    public CommandProcessor(MatchingEngine engine, TradeSink sink) {
+        this.engine = engine;
+        this.sink   = sink;
+    }
+
+    @Override
+    public void onCommand(OrderCommand command, long sequence,
+                          boolean endOfBatch) {
+        switch (command.getType()) {
+            case NEW:
+                maxOrderId = Math.max(maxOrderId, command.getOrderId());
+                engine.submitOrder(newOrder(command), sink);
+                break;
+            case CANCEL:
+                engine.cancelOrder(command.getOrderId());
+                break;
+            case REPLACE:
+                engine.replaceOrder(command.getOrderId(),
+                    command.getPrice(), command.getQuantity(), sink);
+                break;
+            default:
+                break;
+        }
+
+        if (endOfBatch) {
+            endOfBatch();
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Close a batch by hand - for callers that mix
+    // several engines in one ring batch - or after the
+    // batch's last command threw
+    // ─────────────────────────────────────────────────
+    @Override
+    public void endOfBatch() {
+        if (engine.getJournal() != null) {
+            engine.getJournal().endOfBatch();
+        }
+        if (engine.getOrderFeed() != null) {
+            engine.getOrderFeed().flush();
+        }
+    }
+
+    private Order newOrder(OrderCommand command) {
+        return new Order(command.getOrderId(),
+            engine.getOrderBook().getSymbol(), command.getSide(),
+            command.getOrderType(), command.getPrice(),
+            command.getQuantity(), command.getTimeInForce(),
+            command.getExpireTime(), command.getDisplayQuantity(),
+            command.getStopPrice(), command.getPegOffset(),
+            command.getOwnerId(), command.getPostOnly(),
+            command.getSelfTrade());
+    }
+
+    public MatchingEngine getEngine() { return engine;     }
+    public long getMaxOrderId()       { return maxOrderId; }
+}
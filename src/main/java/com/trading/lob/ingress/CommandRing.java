@@ -0,0 +1,155 @@
+package com.trading.lob.ingress;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Pre-allocated ring of OrderCommand slots - a lock-free
+ * handoff from gateway threads to the matching thread.
+ *
+ * Every command gets a sequence number. Producers claim
+ * one, fill the slot in place and publish it; the
+ * consumer drains everything published, in sequence
+ * order, as one batch:
+ *
+ *  producer                        consumer
+ *  ────────                        ────────
+ *  seq = next()     claim
+ *  get(seq).set..() fill           poll(handler)
+ *  publish(seq)     release ────→  sees seq, handles
+ *                                  seq..end as a batch
+ *
+ *  slots: [ 8 ][ 9 ][10 ][11 ][ 4 ][ 5 ][ 6 ][ 7 ]
+ *                          ↑ claim      ↑ consumer
+ *
+ * → No locks, no allocation after construction
+ * → Single producer: claim is a plain increment
+ *   Multi producer:  claim is one atomic getAndIncrement
+ * → Ring full: producers wait (WaitStrategy) - commands
+ *   are never dropped
+ *
+ * One consumer thread only.
+ */
+public class CommandRing {
+
+    private final OrderCommand[] slots;
+    private final int mask;
+    private final boolean multiProducer;
+    private final WaitStrategy waitStrategy;
+
+    // Next sequence to claim
+    private long singleClaim;                              // single producer
+    private final AtomicLong multiClaim = new AtomicLong(); // multi producer
+
+    // Sequence last published into each slot, -1 if none
+    private final AtomicLongArray published;
+
+    // Sequences < consumed may be overwritten
+    private final AtomicLong consumed = new AtomicLong();
+
+    // Consumer-owned next sequence to read
+    private long nextToRead;
+
+    public CommandRing(int capacity, boolean multiProducer,
+                       WaitStrategy waitStrategy) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                "Capacity must be a power of two: " + capacity
+            );
+        }
+        this.slots         = new OrderCommand[capacity];
+        this.mask          = capacity - 1;
+        this.multiProducer = multiProducer;
+        this.waitStrategy  = waitStrategy;
+        this.published     = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new OrderCommand();
+            published.set(i, -1);
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // CLAIM the next sequence
+    // Waits while the ring is full
+    // ─────────────────────────────────────────────────
+    public long next() {
+        long seq = multiProducer
+            ? multiClaim.getAndIncrement()
+            : singleClaim++;
+
+        int attempt = 0;
+        while (seq - consumed.get() > mask) {
+            waitStrategy.idle(attempt++);
+        }
+        return seq;
+    }
+
+    // Slot for a claimed sequence
+    public OrderCommand get(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    // ─────────────────────────────────────────────────
+    // PUBLISH a filled slot to the consumer
+    // lazySet = ordered store, slot writes happen-before
+    // ─────────────────────────────────────────────────
+    public void publish(long sequence) {
+        published.lazySet((int) sequence & mask, sequence);
+    }
+
+    // ─────────────────────────────────────────────────
+    // CONSUME every command published so far, in order
+    //
+    // Stops at the first gap: with many producers a
+    // later sequence can be published before an
+    // earlier one. Returns the number handled.
+    // ─────────────────────────────────────────────────
+    public int poll(CommandHandler handler) {
+        long start = nextToRead;
+        long end   = start;
+        while (published.get((int) end & mask) == end) {
+            end++;
+        }
+        if (end == start) {
+            return 0;
+        }
+
+        long seq = start;
+        try {
+            for (; seq < end; seq++) {
+                handler.onCommand(slots[(int) seq & mask], seq,
+                                  seq == end - 1);
+            }
+        } catch (RuntimeException e) {
+            // The last command never got to close the batch:
+            // close it here, or its flush waits for traffic
+            if (seq == end - 1) {
+                try {
+                    handler.endOfBatch();
+                } catch (RuntimeException flush) {
+                    e.addSuppressed(flush);
+                }
+            }
+            throw e;
+        } finally {
+            // If the handler threw, skip only the failing
+            // command; the rest are handled next poll
+            long done = Math.min(seq + 1, end);
+            nextToRead = done;
+            consumed.lazySet(done);
+        }
+        return (int) (end - start);
+    }
+
+    // Getters
+    public int getCapacity()              { return slots.length;   }
+    public boolean isMultiProducer()      { return multiProducer;  }
+    public WaitStrategy getWaitStrategy() { return waitStrategy;   }
+    public long getConsumedSequence()     { return consumed.get(); }
+
+    // Next sequence to claim: any thread if multi-producer,
+    // else only the producer thread
+    public long getClaimedSequence() {
+        return multiProducer ? multiClaim.get() : singleClaim;
+    }
+}
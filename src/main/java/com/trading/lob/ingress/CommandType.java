@@ -0,0 +1,14 @@
+package com.trading.lob.ingress;
+
+/**
+ * What an OrderCommand asks the engine to do.
+ *
+ * NEW     → submit a new order
+ * CANCEL  → remove a resting order
+ * REPLACE → change price / quantity of a resting order
+ */
+public enum CommandType {
+    NEW,
+    CANCEL,
+    REPLACE
+}
@@ -0,0 +1,147 @@
+package com.trading.lob.ingress;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.TradeSink;
+import com.trading.lob.event.ErrorHandler;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.PostOnly;
+import com.trading.lob.model.SelfTradePrevention;
+import com.trading.lob.model.TimeInForce;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe front door for a MatchingEngine.
+ *
+ * MatchingEngine itself is single-threaded. Gateway
+ * threads call submitNew / cancel / replace here; each
+ * call fills a CommandRing slot and returns. One
+ * matching thread drains the ring in batches and is
+ * the only thread that touches the engine and book:
+ *
+ *  gateway-1 ─┐
+ *  gateway-2 ─┼─→ CommandRing ─→ engine-ingress thread
+ *  gateway-3 ─┘   (lock-free)    → MatchingEngine
+ *
+ * Commands are applied by a CommandProcessor. Fills
+ * go to the TradeSink and every event to the engine's
+ * listener, both on the matching thread. A command
+ * that throws is skipped: it is counted
+ * (getFailureCount) and passed to the ErrorHandler.
+ */
+public class EngineIngress implements AutoCloseable {
+
+    private final MatchingEngine engine;
+    private final CommandRing ring;
+    private final CommandHandler handler;
+    private final ErrorHandler errorHandler;
+
+    // Commands that threw on the matching thread
+    private final AtomicLong failures = new AtomicLong();
+
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public EngineIngress(MatchingEngine engine, CommandRing ring,
+                         TradeSink sink) {
+        this(engine, ring, sink, ErrorHandler.STDERR);
+    }
+
+    public EngineIngress(MatchingEngine engine, CommandRing ring,
+                         TradeSink sink, ErrorHandler errorHandler) {
+        this.engine       = engine;
+        this.ring         = ring;
+        this.handler      = new CommandProcessor(engine, sink);
+        this.errorHandler = errorHandler;
+        this.thread       = new Thread(this::run, "engine-ingress");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Producer side - any gateway thread
+    // (only one thread if the ring is single-producer)
+    // ─────────────────────────────────────────────────
+    public void submitNew(long orderId, OrderSide side,
+                          OrderType type, long price, int quantity) {
+        submitNew(orderId, side, type, price, quantity,
+                  TimeInForce.DAY, 0, 0, 0, 0, 0,
+                  PostOnly.NONE, SelfTradePrevention.NONE);
+    }
+
+    // displayQuantity > 0 makes an iceberg; stopPrice
+    // is for STOP / STOP_LIMIT only, pegOffset for
+    // PEG_* only; ownerId 0 = anonymous
+    public void submitNew(long orderId, OrderSide side,
+                          OrderType type, long price, int quantity,
+                          TimeInForce timeInForce, long expireTime,
+                          int displayQuantity, long stopPrice,
+                          long pegOffset, long ownerId,
+                          PostOnly postOnly,
+                          SelfTradePrevention selfTrade) {
+        long seq = ring.next();
+        ring.get(seq).setNew(orderId, side, type, price, quantity,
+                             timeInForce, expireTime, displayQuantity,
+                             stopPrice, pegOffset, ownerId, postOnly,
+                             selfTrade);
+        ring.publish(seq);
+    }
+
+    public void cancel(long orderId) {
+        long seq = ring.next();
+        ring.get(seq).setCancel(orderId);
+        ring.publish(seq);
+    }
+
+    public void replace(long orderId, long newPrice, int newQuantity) {
+        long seq = ring.next();
+        ring.get(seq).setReplace(orderId, newPrice, newQuantity);
+        ring.publish(seq);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Consumer side - matching thread
+    // ─────────────────────────────────────────────────
+    private void run() {
+        WaitStrategy waitStrategy = ring.getWaitStrategy();
+        int idle = 0;
+        while (true) {
+            boolean stopping = !running;
+            int handled;
+            try {
+                handled = ring.poll(handler);
+            } catch (RuntimeException e) {
+                // A bad command must not stop matching
+                failures.incrementAndGet();
+                errorHandler.onError(e);
+                continue;
+            }
+
+            if (handled > 0) {
+                idle = 0;
+                continue;
+            }
+            if (stopping) break;
+            waitStrategy.idle(idle++);
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Handle everything already published, then stop
+    // the matching thread. Stop producers first.
+    // ─────────────────────────────────────────────────
+    @Override
+    public void close() {
+        running = false;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public MatchingEngine getEngine() { return engine;         }
+    public CommandRing getRing()      { return ring;           }
+    public long getFailureCount()     { return failures.get(); }
+}
@@ -0,0 +1,118 @@
+package com.trading.lob.ingress;
+
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.PostOnly;
+import com.trading.lob.model.SelfTradePrevention;
+import com.trading.lob.model.TimeInForce;
+
+/**
+ * One reusable slot in the CommandRing.
+ *
+ * Slots are allocated once, when the ring is built,
+ * and overwritten for every command - producers fill
+ * a slot in place instead of creating objects:
+ *
+ * long seq = ring.next();
+ * ring.get(seq).setCancel(42L);
+ * ring.publish(seq);
+ *
+ * Fields not used by a command type keep stale values
+ * from an earlier command; read only what the type
+ * defines.
+ */
+public class OrderCommand {
+
+    private CommandType type;
+    private long orderId;
+    private OrderSide side;                 // NEW only
+    private OrderType orderType;            // NEW only
+    private TimeInForce timeInForce;        // NEW only
+    private long expireTime;                // NEW only, GTD
+    private int displayQuantity;            // NEW only, iceberg peak
+    private long stopPrice;                 // NEW only, stop orders
+    private long pegOffset;                 // NEW only, pegged orders
+    private long ownerId;                   // NEW only, 0 = anonymous
+    private PostOnly postOnly;              // NEW only
+    private SelfTradePrevention selfTrade;  // NEW only
+    private long price;                     // NEW and REPLACE, in ticks
+    private int quantity;                   // NEW and REPLACE
+    private String symbol;                  // Exchange routing only
+
+    // ─────────────────────────────────────────────────
+    // Writers - one per command type
+    // ─────────────────────────────────────────────────
+    public void setNew(long orderId, OrderSide side,
+                       OrderType orderType, long price,
+                       int quantity) {
+        setNew(orderId, side, orderType, price, quantity,
+               TimeInForce.DAY, 0, 0, 0, 0, 0,
+               PostOnly.NONE, SelfTradePrevention.NONE);
+    }
+
+    public void setNew(long orderId, OrderSide side,
+                       OrderType orderType, long price,
+                       int quantity, TimeInForce timeInForce,
+                       long expireTime, int displayQuantity,
+                       long stopPrice, long pegOffset,
+                       long ownerId, PostOnly postOnly,
+                       SelfTradePrevention selfTrade) {
+        this.type            = CommandType.NEW;
+        this.orderId         = orderId;
+        this.side            = side;
+        this.orderType       = orderType;
+        this.price           = price;
+        this.quantity        = quantity;
+        this.timeInForce     = timeInForce;
+        this.expireTime      = expireTime;
+        this.displayQuantity = displayQuantity;
+        this.stopPrice       = stopPrice;
+        this.pegOffset       = pegOffset;
+        this.ownerId         = ownerId;
+        this.postOnly        = postOnly;
+        this.selfTrade       = selfTrade;
+    }
+
+    public void setCancel(long orderId) {
+        this.type    = CommandType.CANCEL;
+        this.orderId = orderId;
+    }
+
+    public void setReplace(long orderId, long newPrice,
+                           int newQuantity) {
+        this.type     = CommandType.REPLACE;
+        this.orderId  = orderId;
+        this.price    = newPrice;
+        this.quantity = newQuantity;
+    }
+
+    // Set after a writer when one ring serves many books
+    public void setSymbol(String symbol) {
+        this.symbol = symbol;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "OrderCommand[%s id=%d side=%s type=%s tif=%s price=%d qty=%d]",
+            type, orderId, side, orderType, timeInForce, price, quantity
+        );
+    }
+
+    // Getters
+    public CommandType getType()              { return type;            }
+    public long getOrderId()                  { return orderId;         }
+    public OrderSide getSide()                { return side;            }
+    public OrderType getOrderType()           { return orderType;       }
+    public long getPrice()                    { return price;           }
+    public int getQuantity()                  { return quantity;        }
+    public TimeInForce getTimeInForce()       { return timeInForce;     }
+    public long getExpireTime()               { return expireTime;      }
+    public int getDisplayQuantity()           { return displayQuantity; }
+    public long getStopPrice()                { return stopPrice;       }
+    public long getPegOffset()                { return pegOffset;       }
+    public long getOwnerId()                  { return ownerId;         }
+    public PostOnly getPostOnly()             { return postOnly;        }
+    public SelfTradePrevention getSelfTrade() { return selfTrade;       }
+    public String getSymbol()                 { return symbol;          }
+}
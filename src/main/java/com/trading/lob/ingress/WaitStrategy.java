@@ -0,0 +1,55 @@
+package com.trading.lob.ingress;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * What a thread does while the ring has nothing for it
+ * (consumer) or no free slot (producer).
+ *
+ * Called with the number of empty attempts so far;
+ * the caller resets it once work shows up.
+ *
+ * BUSY_SPIN → lowest latency, burns a whole core
+ * YIELD     → spin briefly, then give up the time slice
+ * PARK      → spin, yield, then sleep - cheapest on CPU,
+ *             wake-up adds tens of microseconds
+ */
+public enum WaitStrategy {
+
+    BUSY_SPIN {
+        @Override
+        public void idle(int attempt) {
+            Thread.onSpinWait();
+        }
+    },
+
+    YIELD {
+        @Override
+        public void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+
+    PARK {
+        @Override
+        public void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (attempt < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+    };
+
+    private static final int  SPIN_TRIES  = 100;
+    private static final int  YIELD_TRIES = 100;
+    private static final long PARK_NANOS  = 50_000;
+
+    public abstract void idle(int attempt);
+}
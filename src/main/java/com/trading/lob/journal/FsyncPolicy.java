@@ -0,0 +1,55 @@
+package com.trading.lob.journal;
+
+/**
+ * When the Journal forces written records to disk.
+ *
+ * Records always land in the OS page cache first, so
+ * they survive a process crash either way. fsync is
+ * only about surviving a power loss or kernel crash:
+ *
+ * none()           → never; the OS writes back when it likes
+ * batch()          → on endOfBatch(), once per batch of
+ *                    commands
+ * everyMicros(500) → at most every 500µs, checked on
+ *                    each append
+ *
+ * Immutable.
+ */
+public final class FsyncPolicy {
+
+    public enum Mode { NONE, BATCH, INTERVAL }
+
+    private static final FsyncPolicy NONE  = new FsyncPolicy(Mode.NONE, 0);
+    private static final FsyncPolicy BATCH = new FsyncPolicy(Mode.BATCH, 0);
+
+    private final Mode mode;
+    private final long intervalNanos;
+
+    private FsyncPolicy(Mode mode, long intervalNanos) {
+        this.mode          = mode;
+        this.intervalNanos = intervalNanos;
+    }
+
+    public static FsyncPolicy none()  { return NONE;  }
+    public static FsyncPolicy batch() { return BATCH; }
+
+    public static FsyncPolicy everyMicros(long micros) {
+        if (micros <= 0) {
+            throw new IllegalArgumentException(
+                "Fsync interval must be positive: " + micros
+            );
+        }
+        return new FsyncPolicy(Mode.INTERVAL, micros * 1_000);
+    }
+
+    @Override
+    public String toString() {
+        return mode == Mode.INTERVAL
+            ? "FsyncPolicy[every " + intervalNanos / 1_000 + "µs]"
+            : "FsyncPolicy[" + mode + "]";
+    }
+
+    // Getters
+    public Mode getMode()          { return mode;          }
+    public long getIntervalNanos() { return intervalNanos; }
+}
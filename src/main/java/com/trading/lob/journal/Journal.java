@@ -0,0 +1,494 @@
+package com.trading.lob.journal;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.TradeSink;
+import com.trading.lob.ingress.CommandHandler;
+import com.trading.lob.ingress.CommandProcessor;
+import com.trading.lob.ingress.OrderCommand;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.PostOnly;
+import com.trading.lob.model.SelfTradePrevention;
+import com.trading.lob.model.TimeInForce;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Write-ahead log of every command the engine accepts.
+ *
+ * Records are appended to a pre-allocated, memory-mapped
+ * segment file - an append is a few stores into mapped
+ * memory, no syscall. A full segment rolls over to the
+ * next file:
+ *
+ *  journal-00000000.log       journal-00000001.log
+ *  ┌───┬────┬────┬────┬────┐  ┌───┬────┬────┬──────────┐
+ *  │ H │ #1 │ #2 │ .. │ 00 │  │ H │ #n │ .. │ 00000... │
+ *  └───┴────┴────┴────┴────┘  └───┴────┴────┴──────────┘
+ *                                             ↑ zero = end
+ *
+ * Segment header H (8 bytes): MAGIC "LOBJ", then the
+ * format VERSION. Opening or replaying a segment with
+ * another version fails instead of misreading it; an
+ * all-zero header is a segment that never got a record.
+ *
+ * Record layout (big-endian):
+ * ┌────────┬──────┬──────────┬───────────────────┐
+ * │ length │ type │ sequence │ payload           │
+ * │ 4      │ 1    │ 8        │ NEW:     OrderCodec│
+ * │        │      │          │ CANCEL:  orderId  │
+ * │        │      │          │ REPLACE: id,px,qty│
+ * └────────┴──────┴──────────┴───────────────────┘
+ * length counts type + sequence + payload and is
+ * written last, so a torn record reads as the end.
+ * Every type has a fixed length; any other value is
+ * corruption and fails the read.
+ *
+ * Sequences start at 1 and carry on across restarts:
+ * opening an existing directory appends after the
+ * last record.
+ *
+ * Replaying the journal into an empty engine rebuilds
+ * the same book (see rebuild).
+ *
+ * Not thread-safe: append from the matching thread.
+ */
+public class Journal implements AutoCloseable {
+
+    public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+
+    public static final int MAGIC   = 0x4C4F424A; // "LOBJ"
+    public static final int VERSION = 1;
+
+    private static final int SEGMENT_HEADER_BYTES = 4 + 4;
+
+    private static final byte NEW     = 1;
+    private static final byte CANCEL  = 2;
+    private static final byte REPLACE = 3;
+
+    private static final int HEADER_BYTES  = 4 + 1 + 8;
+    private static final int NEW_BYTES     = HEADER_BYTES + OrderCodec.ORDER_BYTES;
+    private static final int CANCEL_BYTES  = HEADER_BYTES + 8;
+    private static final int REPLACE_BYTES = HEADER_BYTES + 8 + 8 + 4;
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final FsyncPolicy fsyncPolicy;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int segmentIndex;
+
+    private long nextSequence = 1;
+    private long lastForceNanos;
+    private boolean unforced;
+
+    public Journal(Path directory, FsyncPolicy fsyncPolicy) {
+        this(directory, DEFAULT_SEGMENT_BYTES, fsyncPolicy);
+    }
+
+    public Journal(Path directory, int segmentBytes,
+                   FsyncPolicy fsyncPolicy) {
+        if (segmentBytes < SEGMENT_HEADER_BYTES + NEW_BYTES) {
+            throw new IllegalArgumentException(
+                "Segment too small: " + segmentBytes
+            );
+        }
+        this.directory    = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsyncPolicy  = fsyncPolicy;
+
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = listSegments(directory);
+            if (segments.isEmpty()) {
+                openSegment(0);
+            } else {
+                recover(segments);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                "Cannot open journal in " + directory, e);
+        }
+        this.lastForceNanos = System.nanoTime();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Continue after the last complete record
+    // ─────────────────────────────────────────────────
+    private void recover(List<Path> segments) throws IOException {
+        Path last = segments.get(segments.size() - 1);
+        openSegment(segmentIndexOf(last));
+
+        // Find the last sequence, looking back past
+        // empty segments if needed
+        long lastSequence = 0;
+        for (int i = segments.size() - 1;
+             i >= 0 && lastSequence == 0; i--) {
+            lastSequence = scanLastSequence(segments.get(i));
+        }
+        nextSequence = lastSequence + 1;
+
+        // Position the write buffer at the end of data
+        int end = SEGMENT_HEADER_BYTES;
+        while (end + 4 <= buffer.limit()) {
+            int length = buffer.getInt(end);
+            if (length <= 0 || end + 4 + length > buffer.limit()) break;
+            end += 4 + length;
+        }
+        buffer.position(end);
+    }
+
+    private static long scanLastSequence(Path segment) throws IOException {
+        long[] last = {0};
+        readSegment(segment, new OrderCommand(),
+            (command, sequence, endOfBatch) -> last[0] = sequence);
+        return last[0];
+    }
+
+    // ─────────────────────────────────────────────────
+    // APPEND - one method per command type
+    // Each returns the record's sequence number
+    // ─────────────────────────────────────────────────
+    public long appendNew(long orderId, OrderSide side,
+                          OrderType type, long price, int quantity) {
+        return appendNew(orderId, side, type, price, quantity,
+                         TimeInForce.DAY, 0, 0, 0, 0, 0,
+                         PostOnly.NONE, SelfTradePrevention.NONE);
+    }
+
+    public long appendNew(long orderId, OrderSide side,
+                          OrderType type, long price, int quantity,
+                          TimeInForce timeInForce, long expireTime,
+                          int displayQuantity, long stopPrice,
+                          long pegOffset, long ownerId,
+                          PostOnly postOnly,
+                          SelfTradePrevention selfTrade) {
+        int start = reserve(NEW_BYTES);
+        long seq  = nextSequence++;
+        buffer.position(start + 4);
+        buffer.put(NEW).putLong(seq);
+        OrderCodec.put(buffer, orderId, side, type, price, quantity,
+                       timeInForce, expireTime, displayQuantity, 0,
+                       stopPrice, pegOffset, ownerId, postOnly,
+                       selfTrade);
+        commit(start, NEW_BYTES);
+        return seq;
+    }
+
+    public long appendCancel(long orderId) {
+        int start = reserve(CANCEL_BYTES);
+        long seq  = nextSequence++;
+        buffer.position(start + 4);
+        buffer.put(CANCEL).putLong(seq).putLong(orderId);
+        commit(start, CANCEL_BYTES);
+        return seq;
+    }
+
+    public long appendReplace(long orderId, long newPrice,
+                              int newQuantity) {
+        int start = reserve(REPLACE_BYTES);
+        long seq  = nextSequence++;
+        buffer.position(start + 4);
+        buffer.put(REPLACE).putLong(seq)
+              .putLong(orderId).putLong(newPrice).putInt(newQuantity);
+        commit(start, REPLACE_BYTES);
+        return seq;
+    }
+
+    public long append(OrderCommand command) {
+        switch (command.getType()) {
+            case NEW:
+                return appendNew(command.getOrderId(), command.getSide(),
+                    command.getOrderType(), command.getPrice(),
+                    command.getQuantity(), command.getTimeInForce(),
+                    command.getExpireTime(), command.getDisplayQuantity(),
+                    command.getStopPrice(), command.getPegOffset(),
+                    command.getOwnerId(), command.getPostOnly(),
+                    command.getSelfTrade());
+            case CANCEL:
+                return appendCancel(command.getOrderId());
+            case REPLACE:
+                return appendReplace(command.getOrderId(),
+                    command.getPrice(), command.getQuantity());
+            default:
+                throw new IllegalArgumentException(
+                    "Unknown command type: " + command.getType());
+        }
+    }
+
+    // Start offset for a record, rolling if it won't fit
+    private int reserve(int recordBytes) {
+        if (buffer.remaining() < recordBytes) {
+            roll();
+        }
+        return buffer.position();
+    }
+
+    // Length last: the record becomes visible to readers
+    private void commit(int start, int recordBytes) {
+        buffer.putInt(start, recordBytes - 4);
+
+        if (fsyncPolicy.getMode() == FsyncPolicy.Mode.INTERVAL) {
+            long now = System.nanoTime();
+            if (now - lastForceNanos >= fsyncPolicy.getIntervalNanos()) {
+                force();
+            } else {
+                unforced = true;
+            }
+        } else {
+            unforced = true;
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Call after each batch of commands
+    // Forces to disk under FsyncPolicy.batch()
+    // ─────────────────────────────────────────────────
+    public void endOfBatch() {
+        if (fsyncPolicy.getMode() == FsyncPolicy.Mode.BATCH && unforced) {
+            force();
+        }
+    }
+
+    // fsync the current segment now, whatever the policy
+    public void force() {
+        buffer.force();
+        unforced       = false;
+        lastForceNanos = System.nanoTime();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Segment files
+    // ─────────────────────────────────────────────────
+    private void roll() {
+        if (fsyncPolicy.getMode() != FsyncPolicy.Mode.NONE && unforced) {
+            force();
+        }
+        closeChannel();
+        try {
+            openSegment(segmentIndex + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Journal roll failed", e);
+        }
+    }
+
+    private void openSegment(int index) throws IOException {
+        Path file = directory.resolve(segmentName(index));
+        channel = FileChannel.open(file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        // Mapping past the end grows the file: pre-allocated
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE,
+                             0, segmentBytes);
+        segmentIndex = index;
+
+        boolean blank;
+        try {
+            blank = checkHeader(buffer, file);
+        } catch (IllegalStateException e) {
+            channel.close();
+            throw e;
+        }
+        if (blank) {
+            buffer.putInt(0, MAGIC).putInt(4, VERSION);
+        }
+        buffer.position(SEGMENT_HEADER_BYTES);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Validate a segment header
+    // Returns true if it is blank (no record yet)
+    // ─────────────────────────────────────────────────
+    private static boolean checkHeader(MappedByteBuffer in, Path segment) {
+        if (in.limit() < SEGMENT_HEADER_BYTES) {
+            return true;
+        }
+        int magic   = in.getInt(0);
+        int version = in.getInt(4);
+        if (magic == 0 && version == 0) {
+            return true;
+        }
+        if (magic != MAGIC) {
+            throw new IllegalStateException(
+                "Not a journal segment: " + segment);
+        }
+        if (version != VERSION) {
+            throw new IllegalStateException(
+                "Unsupported journal version " + version +
+                " in " + segment + ", expected " + VERSION);
+        }
+        return false;
+    }
+
+    // Expected length field for a record type, -1 if unknown
+    private static int lengthOf(byte type) {
+        switch (type) {
+            case NEW:     return NEW_BYTES - 4;
+            case CANCEL:  return CANCEL_BYTES - 4;
+            case REPLACE: return REPLACE_BYTES - 4;
+            default:      return -1;
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close journal", e);
+        }
+    }
+
+    private static String segmentName(int index) {
+        return String.format("%s%08d%s", PREFIX, index, SUFFIX);
+    }
+
+    private static int segmentIndexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Integer.parseInt(name.substring(
+            PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static List<Path> listSegments(Path directory)
+            throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(p -> {
+                    String n = p.getFileName().toString();
+                    return n.startsWith(PREFIX) && n.endsWith(SUFFIX);
+                })
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // REPLAY records with sequence > afterSequence,
+    // in order, through one reused OrderCommand.
+    // Returns the last sequence replayed (or
+    // afterSequence if there was nothing newer).
+    // ─────────────────────────────────────────────────
+    public static long replay(Path directory, long afterSequence,
+                              CommandHandler handler) {
+        OrderCommand command = new OrderCommand();
+        long[] last = {afterSequence};
+        try {
+            for (Path segment : listSegments(directory)) {
+                readSegment(segment, command, (cmd, seq, end) -> {
+                    if (seq > afterSequence) {
+                        handler.onCommand(cmd, seq, end);
+                        last[0] = seq;
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                "Cannot replay journal in " + directory, e);
+        }
+        return last[0];
+    }
+
+    public static long replay(Path directory, CommandHandler handler) {
+        return replay(directory, 0, handler);
+    }
+
+    private static void readSegment(Path segment, OrderCommand command,
+                                    CommandHandler handler)
+            throws IOException {
+        try (FileChannel ch = FileChannel.open(
+                segment, StandardOpenOption.READ)) {
+            MappedByteBuffer in = ch.map(
+                FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            if (checkHeader(in, segment)) {
+                return;
+            }
+            in.position(SEGMENT_HEADER_BYTES);
+
+            while (in.remaining() >= 4) {
+                int length = in.getInt();
+                if (length <= 0 || length > in.remaining()) {
+                    break; // End of data, or a torn record
+                }
+                byte type = in.get();
+                if (length != lengthOf(type)) {
+                    throw new IllegalStateException(
+                        "Bad journal record (type " + type + ", length " +
+                        length + ") at " + (in.position() - 5) +
+                        " in " + segment);
+                }
+                long seq  = in.getLong();
+                switch (type) {
+                    case NEW:
+                        OrderCodec.getNew(in, command);
+                        break;
+                    case CANCEL:
+                        command.setCancel(in.getLong());
+                        break;
+                    case REPLACE:
+                        command.setReplace(in.getLong(),
+                                           in.getLong(), in.getInt());
+                        break;
+                    default:
+                        throw new IllegalStateException(
+                            "Bad journal record type " + type +
+                            " in " + segment);
+                }
+                handler.onCommand(command, seq, false);
+            }
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // REBUILD an engine from a journal
+    //
+    // The engine must be fresh and have no journal
+    // attached. Attach one after rebuild returns to
+    // keep journaling. Returns the last sequence.
+    // ─────────────────────────────────────────────────
+    public static long rebuild(Path directory, MatchingEngine engine) {
+        return rebuild(directory, 0, engine, (b, s, p, q) -> { });
+    }
+
+    public static long rebuild(Path directory, long afterSequence,
+                               MatchingEngine engine, TradeSink sink) {
+        if (engine.getJournal() != null) {
+            throw new IllegalStateException(
+                "Detach the engine's journal before replaying into it"
+            );
+        }
+        CommandProcessor processor = new CommandProcessor(engine, sink);
+        long last = replay(directory, afterSequence, processor);
+        engine.reserveOrderIds(processor.getMaxOrderId());
+        return last;
+    }
+
+    @Override
+    public void close() {
+        if (fsyncPolicy.getMode() != FsyncPolicy.Mode.NONE && unforced) {
+            force();
+        }
+        closeChannel();
+    }
+
+    // Getters
+    public Path getDirectory()          { return directory;        }
+    public FsyncPolicy getFsyncPolicy() { return fsyncPolicy;      }
+    public int getSegmentIndex()        { return segmentIndex;     }
+    public long getLastSequence()       { return nextSequence - 1; }
+}
@@ -0,0 +1,127 @@
+package com.trading.lob.journal;
+
+import com.trading.lob.ingress.OrderCommand;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.PostOnly;
+import com.trading.lob.model.SelfTradePrevention;
+import com.trading.lob.model.TimeInForce;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-size binary layout of one order, shared by
+ * every file format that stores orders.
+ *
+ * Layout (big-endian, 65 bytes):
+ * ┌─────────┬──────┬──────┬─────────┬──────────┬─────┬────────┬─────────┬─────────┐
+ * │ orderId │ side │ type │ price   │ quantity │ tif │ expire │ display │ reserve │
+ * │ 8       │ 1    │ 1    │ 8 ticks │ 4        │ 1   │ 8      │ 4       │ 4       │
+ * └─────────┴──────┴──────┴─────────┴──────────┴─────┴────────┴─────────┴─────────┘
+ * ┌─────────┬────────────┬───────┬──────────┬───────────┐
+ * │ stop    │ peg offset │ owner │ postOnly │ selfTrade │
+ * │ 8 ticks │ 8 ticks    │ 8     │ 1        │ 1         │
+ * └─────────┴────────────┴───────┴──────────┴───────────┘
+ *
+ * display is the iceberg peak (0 = plain order);
+ * reserve its hidden part, only set for a resting
+ * iceberg (snapshots) - a NEW command carries the
+ * full quantity and reserve 0.
+ *
+ * A pegged order's price is where it rests now; a
+ * NEW command's price is ignored for pegs.
+ *
+ * Side, type, time in force, post-only and self-trade
+ * mode are stored as enum ordinals - only ever append
+ * new enum constants.
+ */
+public final class OrderCodec {
+
+    public static final int ORDER_BYTES = 65;
+
+    private static final OrderSide[] SIDES = OrderSide.values();
+    private static final OrderType[] TYPES = OrderType.values();
+    private static final TimeInForce[] TIFS = TimeInForce.values();
+    private static final PostOnly[] POST_ONLY = PostOnly.values();
+    private static final SelfTradePrevention[] SELF_TRADE =
+        SelfTradePrevention.values();
+
+    private OrderCodec() { }
+
+    public static void put(ByteBuffer buffer, long orderId,
+                           OrderSide side, OrderType type,
+                           long price, int quantity,
+                           TimeInForce timeInForce, long expireTime,
+                           int displayQuantity, int reserveQuantity,
+                           long stopPrice, long pegOffset,
+                           long ownerId, PostOnly postOnly,
+                           SelfTradePrevention selfTrade) {
+        buffer.putLong(orderId)
+              .put((byte) side.ordinal())
+              .put((byte) type.ordinal())
+              .putLong(price)
+              .putInt(quantity)
+              .put((byte) timeInForce.ordinal())
+              .putLong(expireTime)
+              .putInt(displayQuantity)
+              .putInt(reserveQuantity)
+              .putLong(stopPrice)
+              .putLong(pegOffset)
+              .putLong(ownerId)
+              .put((byte) postOnly.ordinal())
+              .put((byte) selfTrade.ordinal());
+    }
+
+    // Current (remaining) state of a live order
+    public static void put(ByteBuffer buffer, Order order) {
+        put(buffer, order.getOrderId(), order.getSide(),
+            order.getType(), order.getPrice(), order.getQuantity(),
+            order.getTimeInForce(), order.getExpireTime(),
+            order.getDisplayQuantity(), order.getReserveQuantity(),
+            order.getStopPrice(), order.getPegOffset(),
+            order.getOwnerId(), order.getPostOnly(), order.getSelfTrade());
+    }
+
+    // Read one order into a NEW command
+    public static void getNew(ByteBuffer buffer, OrderCommand command) {
+        long orderId    = buffer.getLong();
+        OrderSide side  = SIDES[buffer.get()];
+        OrderType type  = TYPES[buffer.get()];
+        long price      = buffer.getLong();
+        int quantity    = buffer.getInt();
+        TimeInForce tif = TIFS[buffer.get()];
+        long expireTime = buffer.getLong();
+        int display     = buffer.getInt();
+        buffer.getInt();    // reserve: never set on a NEW
+        long stopPrice  = buffer.getLong();
+        long pegOffset  = buffer.getLong();
+        long ownerId    = buffer.getLong();
+        PostOnly postOnly = POST_ONLY[buffer.get()];
+        command.setNew(orderId, side, type, price, quantity,
+                       tif, expireTime, display, stopPrice, pegOffset,
+                       ownerId, postOnly, SELF_TRADE[buffer.get()]);
+    }
+
+    // Read one order as a fresh Order object
+    public static Order getOrder(ByteBuffer buffer, String symbol) {
+        long orderId    = buffer.getLong();
+        OrderSide side  = SIDES[buffer.get()];
+        OrderType type  = TYPES[buffer.get()];
+        long price      = buffer.getLong();
+        int quantity    = buffer.getInt();
+        TimeInForce tif = TIFS[buffer.get()];
+        long expireTime = buffer.getLong();
+        int display     = buffer.getInt();
+        int reserve     = buffer.getInt();
+        long stopPrice  = buffer.getLong();
+        long pegOffset  = buffer.getLong();
+        long ownerId    = buffer.getLong();
+        PostOnly postOnly = POST_ONLY[buffer.get()];
+        Order order = new Order(orderId, symbol, side, type, price,
+            quantity, tif, expireTime, display, stopPrice, pegOffset,
+            ownerId, postOnly, SELF_TRADE[buffer.get()]);
+        order.setReserveQuantity(reserve);
+        return order;
+    }
+}
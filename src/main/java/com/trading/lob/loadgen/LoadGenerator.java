@@ -0,0 +1,129 @@
+package com.trading.lob.loadgen;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.book.TradeSink;
+import com.trading.lob.ingress.CommandProcessor;
+import com.trading.lob.ingress.CommandType;
+import com.trading.lob.ingress.OrderCommand;
+import com.trading.lob.metrics.LatencyHistogram;
+import com.trading.lob.model.OrderType;
+
+/**
+ * Drives a MatchingEngine with synthetic order flow
+ * and reports sustained throughput and latency.
+ *
+ * Single-threaded: generate, wait for the intended
+ * arrival time, apply through CommandProcessor (same
+ * path as live traffic and replay), time it:
+ *
+ *  intended ──wait── start ──engine── end
+ *     │                 │               │
+ *     │                 └─ service ─────┤
+ *     └──────────── response ───────────┘
+ *
+ * With a rate set, arrivals follow a fixed Poisson
+ * schedule drawn from the seed. If the engine falls
+ * behind, later commands go out late and the wait
+ * shows up in response time instead of vanishing.
+ *
+ * Usage:
+ * LoadReport r = LoadGenerator.run(engine,
+ *     LoadProfile.defaults().withRate(500_000));
+ * System.out.print(r);
+ *
+ * Or from the command line:
+ * java ...LoadGenerator [ratePerSec|0] [commands] [seed]
+ */
+public class LoadGenerator {
+
+    private static final TradeSink DISCARD = (buy, sell, price, qty) -> { };
+
+    private LoadGenerator() { }
+
+    // ─────────────────────────────────────────────────
+    // RUN warm-up plus measured commands against engine
+    // Order IDs continue from the engine's next ID
+    // ─────────────────────────────────────────────────
+    public static LoadReport run(MatchingEngine engine, LoadProfile profile) {
+        OrderBook book = engine.getOrderBook();
+        OrderFlowGenerator generator = new OrderFlowGenerator(
+            profile, book, engine.peekNextOrderId());
+        CommandProcessor processor = new CommandProcessor(engine, DISCARD);
+        OrderCommand command = new OrderCommand();
+
+        LatencyHistogram service  = new LatencyHistogram();
+        LatencyHistogram response = new LatencyHistogram();
+        boolean paced  = profile.getRatePerSecond() > 0;
+        int warmup     = profile.getWarmupCommands();
+        long total     = (long) warmup + profile.getCommands();
+
+        long adds = 0, cancels = 0, markets = 0;
+        long tradesBefore = 0;
+        long measureStart = 0;
+        long intended     = System.nanoTime();
+
+        for (long i = 0; i < total; i++) {
+            generator.next(command);
+
+            if (paced) {
+                intended += generator.nextInterArrivalNanos();
+                while (System.nanoTime() < intended) {
+                    Thread.onSpinWait();
+                }
+            }
+
+            if (i == warmup) {
+                tradesBefore = engine.getTotalTrades();
+                measureStart = paced ? intended : System.nanoTime();
+            }
+
+            long start = System.nanoTime();
+            processor.onCommand(command, i, true);
+            long end = System.nanoTime();
+
+            if (i < warmup) {
+                continue;
+            }
+            service.record(end - start);
+            response.record(end - (paced ? intended : start));
+
+            if (command.getType() == CommandType.CANCEL) {
+                cancels++;
+            } else if (command.getOrderType() == OrderType.MARKET) {
+                markets++;
+            } else {
+                adds++;
+            }
+        }
+        long elapsed = System.nanoTime() - measureStart;
+
+        engine.reserveOrderIds(processor.getMaxOrderId());
+
+        return new LoadReport(profile.getCommands(), adds, cancels,
+            markets, engine.getTotalTrades() - tradesBefore, elapsed,
+            service, response);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Command line: [ratePerSec|0] [commands] [seed]
+    // ─────────────────────────────────────────────────
+    public static void main(String[] args) {
+        LoadProfile profile = LoadProfile.defaults();
+        if (args.length > 0) profile = profile.withRate(Double.parseDouble(args[0]));
+        if (args.length > 1) profile = profile.withCommands(Integer.parseInt(args[1]));
+        if (args.length > 2) profile = profile.withSeed(Long.parseLong(args[2]));
+
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+
+        System.out.printf("rate=%s commands=%d warmup=%d seed=%d%n",
+            profile.getRatePerSecond() > 0
+                ? String.format("%.0f/s", profile.getRatePerSecond())
+                : "max",
+            profile.getCommands(), profile.getWarmupCommands(),
+            profile.getSeed());
+        System.out.print(run(engine, profile));
+        System.out.printf("resting orders=%d%n",
+            engine.getOrderBook().getOrderMap().size());
+    }
+}
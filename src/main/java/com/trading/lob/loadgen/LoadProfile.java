@@ -0,0 +1,183 @@
+package com.trading.lob.loadgen;
+
+/**
+ * What order flow the LoadGenerator produces.
+ *
+ * Immutable. Start from defaults() and override what
+ * you need; each with...() returns a copy.
+ *
+ * Example:
+ * LoadProfile profile = LoadProfile.defaults()
+ *     .withRate(200_000)            // msgs/sec, Poisson
+ *     .withCommands(5_000_000)
+ *     .withMix(0.55, 0.40, 0.05)    // add / cancel / market
+ *     .withSeed(7);
+ *
+ * Defaults: flat out, 1,000,000 commands after 100,000
+ * warm-up, 60% add / 35% cancel / 5% market, offsets
+ * from mid with power-law exponent 1.5 up to 100 ticks,
+ * mid ₹2500.00, 1-100 lots of 1.
+ */
+public class LoadProfile {
+
+    private static final LoadProfile DEFAULTS = new LoadProfile();
+
+    private long   seed           = 42L;
+    private double ratePerSecond  = 0;          // 0 = flat out
+    private int    commands       = 1_000_000;
+    private int    warmupCommands = 100_000;
+    private double addWeight      = 0.60;
+    private double cancelWeight   = 0.35;
+    private double marketWeight   = 0.05;
+    private double offsetExponent = 1.5;
+    private int    maxOffsetTicks = 100;
+    private long   midPrice       = 250_000;
+    private int    lotSize        = 1;
+    private int    maxLots        = 100;
+    private int    cancelCandidates = 3;
+
+    private LoadProfile() { }
+
+    private LoadProfile copy() {
+        LoadProfile p = new LoadProfile();
+        p.seed             = seed;
+        p.ratePerSecond    = ratePerSecond;
+        p.commands         = commands;
+        p.warmupCommands   = warmupCommands;
+        p.addWeight        = addWeight;
+        p.cancelWeight     = cancelWeight;
+        p.marketWeight     = marketWeight;
+        p.offsetExponent   = offsetExponent;
+        p.maxOffsetTicks   = maxOffsetTicks;
+        p.midPrice         = midPrice;
+        p.lotSize          = lotSize;
+        p.maxLots          = maxLots;
+        p.cancelCandidates = cancelCandidates;
+        return p;
+    }
+
+    public static LoadProfile defaults() {
+        return DEFAULTS;
+    }
+
+    // Same seed + same profile = same command stream
+    public LoadProfile withSeed(long seed) {
+        LoadProfile p = copy();
+        p.seed = seed;
+        return p;
+    }
+
+    // Mean Poisson arrival rate; 0 runs flat out
+    public LoadProfile withRate(double ratePerSecond) {
+        if (ratePerSecond < 0) {
+            throw new IllegalArgumentException(
+                "Rate must not be negative: " + ratePerSecond
+            );
+        }
+        LoadProfile p = copy();
+        p.ratePerSecond = ratePerSecond;
+        return p;
+    }
+
+    // Measured commands
+    public LoadProfile withCommands(int commands) {
+        if (commands <= 0) {
+            throw new IllegalArgumentException(
+                "Commands must be positive: " + commands
+            );
+        }
+        LoadProfile p = copy();
+        p.commands = commands;
+        return p;
+    }
+
+    // Commands run first and left out of the report
+    public LoadProfile withWarmup(int warmupCommands) {
+        if (warmupCommands < 0) {
+            throw new IllegalArgumentException(
+                "Warm-up must not be negative: " + warmupCommands
+            );
+        }
+        LoadProfile p = copy();
+        p.warmupCommands = warmupCommands;
+        return p;
+    }
+
+    // Relative weights of passive adds, cancels and
+    // market orders; need not sum to 1
+    public LoadProfile withMix(double add, double cancel, double market) {
+        if (add < 0 || cancel < 0 || market < 0
+                || add + cancel + market <= 0) {
+            throw new IllegalArgumentException(
+                "Mix weights must be >= 0 with a positive sum"
+            );
+        }
+        LoadProfile p = copy();
+        p.addWeight    = add;
+        p.cancelWeight = cancel;
+        p.marketWeight = market;
+        return p;
+    }
+
+    // P(offset >= k ticks) ~ k^-exponent, capped at
+    // maxTicks; lower exponent = fatter tail
+    public LoadProfile withPriceOffsets(double exponent, int maxTicks) {
+        if (exponent <= 0 || maxTicks <= 0) {
+            throw new IllegalArgumentException(
+                "Exponent and max offset must be positive"
+            );
+        }
+        LoadProfile p = copy();
+        p.offsetExponent = exponent;
+        p.maxOffsetTicks = maxTicks;
+        return p;
+    }
+
+    // Reference price (ticks) while a side is empty
+    public LoadProfile withMidPrice(long midPrice) {
+        LoadProfile p = copy();
+        p.midPrice = midPrice;
+        return p;
+    }
+
+    // Quantity = lotSize × uniform(1..maxLots)
+    public LoadProfile withLots(int lotSize, int maxLots) {
+        if (lotSize <= 0 || maxLots <= 0) {
+            throw new IllegalArgumentException(
+                "Lot size and max lots must be positive"
+            );
+        }
+        LoadProfile p = copy();
+        p.lotSize = lotSize;
+        p.maxLots = maxLots;
+        return p;
+    }
+
+    // Cancels sample this many live orders and pull the
+    // one furthest back in its queue; 1 = uniform
+    public LoadProfile withCancelCandidates(int candidates) {
+        if (candidates <= 0) {
+            throw new IllegalArgumentException(
+                "Cancel candidates must be positive: " + candidates
+            );
+        }
+        LoadProfile p = copy();
+        p.cancelCandidates = candidates;
+        return p;
+    }
+
+    // Getters
+    public long getSeed()             { return seed;             }
+    public double getRatePerSecond()  { return ratePerSecond;    }
+    public int getCommands()          { return commands;         }
+    public int getWarmupCommands()    { return warmupCommands;   }
+    public double getAddWeight()      { return addWeight;        }
+    public double getCancelWeight()   { return cancelWeight;     }
+    public double getMarketWeight()   { return marketWeight;     }
+    public double getOffsetExponent() { return offsetExponent;   }
+    public int getMaxOffsetTicks()    { return maxOffsetTicks;   }
+    public long getMidPrice()         { return midPrice;         }
+    public int getLotSize()           { return lotSize;          }
+    public int getMaxLots()           { return maxLots;          }
+    public int getCancelCandidates()  { return cancelCandidates; }
+}
@@ -0,0 +1,106 @@
+package com.trading.lob.loadgen;
+
+import com.trading.lob.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Result of one LoadGenerator run (warm-up excluded).
+ *
+ * Two latency views of the same commands:
+ *
+ * service  = end - actual start
+ *            (how long the engine took)
+ * response = end - intended start
+ *            (what a client arriving on the Poisson
+ *            schedule would see, queueing included)
+ *
+ * When the engine stalls, commands that should have
+ * arrived during the stall are only sent afterwards.
+ * Measuring from the actual send hides that wait
+ * (coordinated omission); response time keeps it.
+ * Flat-out runs have no schedule, so both are equal.
+ */
+public class LoadReport {
+
+    private final long commands;
+    private final long adds;
+    private final long cancels;
+    private final long markets;
+    private final long trades;
+    private final long elapsedNanos;
+    private final LatencyHistogram serviceTime;
+    private final LatencyHistogram responseTime;
+
+    LoadReport(long commands, long adds, long cancels, long markets,
+               long trades, long elapsedNanos,
+               LatencyHistogram serviceTime,
+               LatencyHistogram responseTime) {
+        this.commands     = commands;
+        this.adds         = adds;
+        this.cancels      = cancels;
+        this.markets      = markets;
+        this.trades       = trades;
+        this.elapsedNanos = elapsedNanos;
+        this.serviceTime  = serviceTime;
+        this.responseTime = responseTime;
+    }
+
+    // Sustained commands per second over the run
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : commands * 1e9 / elapsedNanos;
+    }
+
+    // ─────────────────────────────────────────────────
+    // TEXT summary:
+    // commands=1000000 (add 600112 cancel 349871 market
+    // 50017) trades=71002 elapsed=812 ms rate=1231527/s
+    // service  p50=... p99=... p99.9=... max=... (ns)
+    // response p50=... p99=... p99.9=... max=... (ns)
+    // ─────────────────────────────────────────────────
+    public void writeText(Appendable out) {
+        try {
+            out.append(String.format(
+                "commands=%d (add %d cancel %d market %d) trades=%d " +
+                "elapsed=%d ms rate=%.0f/s%n",
+                commands, adds, cancels, markets, trades,
+                elapsedNanos / 1_000_000, getThroughput()));
+            appendLatency(out, "service ", serviceTime);
+            appendLatency(out, "response", responseTime);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void appendLatency(Appendable out, String label,
+                                      LatencyHistogram h)
+            throws IOException {
+        out.append(String.format(
+            "%s p50=%d p90=%d p99=%d p99.9=%d p99.99=%d max=%d (ns)%n",
+            label,
+            h.getValueAtPercentile(50.0),
+            h.getValueAtPercentile(90.0),
+            h.getValueAtPercentile(99.0),
+            h.getValueAtPercentile(99.9),
+            h.getValueAtPercentile(99.99),
+            h.getMax()));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        writeText(sb);
+        return sb.toString();
+    }
+
+    // Getters
+    public long getCommands()                  { return commands;     }
+    public long getAdds()                      { return adds;         }
+    public long getCancels()                   { return cancels;      }
+    public long getMarkets()                   { return markets;      }
+    public long getTrades()                    { return trades;       }
+    public long getElapsedNanos()              { return elapsedNanos; }
+    public LatencyHistogram getServiceTime()   { return serviceTime;  }
+    public LatencyHistogram getResponseTime()  { return responseTime; }
+}
@@ -0,0 +1,189 @@
+package com.trading.lob.loadgen;
+
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.ingress.OrderCommand;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+
+import java.util.SplittableRandom;
+
+/**
+ * Produces a deterministic stream of order commands
+ * for one book, following a LoadProfile.
+ *
+ * Reads the live book (on the same thread that
+ * applies the commands) so the flow follows the
+ * market:
+ *
+ * ADD    → limit on a random side, priced off the
+ *          current mid by a power-law number of
+ *          ticks - most near the touch, a long tail
+ *          further out; never crosses
+ * MARKET → market order on a random side
+ * CANCEL → samples a few of its own live orders and
+ *          cancels the one with the most orders ahead
+ *          of it in the queue (back-of-queue orders
+ *          are the ones traders give up on)
+ *
+ * Arrival gaps are exponential (Poisson process) at
+ * the profile rate.
+ */
+public class OrderFlowGenerator {
+
+    // Queue walk cap when ranking cancel candidates
+    private static final int MAX_QUEUE_WALK = 64;
+
+    private final LoadProfile profile;
+    private final OrderBook book;
+    private final SplittableRandom random;
+
+    private final double addCut;       // cumulative mix thresholds
+    private final double cancelCut;
+
+    // IDs this generator added that may still rest
+    private long[] live = new long[1024];
+    private int liveCount;
+
+    private long nextOrderId;
+
+    public OrderFlowGenerator(LoadProfile profile, OrderBook book) {
+        this(profile, book, 1);
+    }
+
+    // Order IDs count up from firstOrderId
+    public OrderFlowGenerator(LoadProfile profile, OrderBook book,
+                              long firstOrderId) {
+        this.profile     = profile;
+        this.book        = book;
+        this.random      = new SplittableRandom(profile.getSeed());
+        this.nextOrderId = firstOrderId;
+
+        double total = profile.getAddWeight() + profile.getCancelWeight()
+                     + profile.getMarketWeight();
+        this.addCut    = profile.getAddWeight() / total;
+        this.cancelCut = addCut + profile.getCancelWeight() / total;
+    }
+
+    // ─────────────────────────────────────────────────
+    // NEXT command, written into a reused slot
+    // ─────────────────────────────────────────────────
+    public void next(OrderCommand command) {
+        double roll = random.nextDouble();
+
+        if (roll >= addCut && roll < cancelCut && nextCancel(command)) {
+            return;
+        }
+
+        OrderSide side = random.nextBoolean() ? OrderSide.BID : OrderSide.ASK;
+        int quantity   = profile.getLotSize()
+                       * (1 + random.nextInt(profile.getMaxLots()));
+        long orderId   = nextOrderId++;
+
+        if (roll >= cancelCut) {
+            command.setNew(orderId, side, OrderType.MARKET, 0, quantity);
+            return;
+        }
+
+        // Passive limit: strictly behind the mid
+        long offset = powerLawOffset();
+        long price  = side == OrderSide.BID
+            ? Math.floorDiv(mid2(), 2) - offset
+            : Math.floorDiv(mid2() + 1, 2) + offset;
+        command.setNew(orderId, side, OrderType.LIMIT,
+                       Math.max(price, 1), quantity);
+        remember(orderId);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Ticks from mid: P(offset >= k) = k^-exponent
+    // (discrete Pareto, minimum 1), capped
+    // ─────────────────────────────────────────────────
+    private long powerLawOffset() {
+        double u = random.nextDouble();
+        double x = Math.pow(1.0 - u, -1.0 / profile.getOffsetExponent());
+        return (long) Math.min(Math.floor(x), profile.getMaxOffsetTicks());
+    }
+
+    // Twice the mid, so odd spreads stay exact
+    private long mid2() {
+        boolean bids = book.hasBids();
+        boolean asks = book.hasAsks();
+        if (bids && asks) return book.getBestBid() + book.getBestAsk();
+        if (bids)         return 2 * book.getBestBid() + 2;
+        if (asks)         return 2 * book.getBestAsk() - 2;
+        return 2 * profile.getMidPrice();
+    }
+
+    // ─────────────────────────────────────────────────
+    // CANCEL the worst-queued of a few live orders
+    // False if none of ours is still resting
+    // ─────────────────────────────────────────────────
+    private boolean nextCancel(OrderCommand command) {
+        int bestIndex = -1;
+        int bestAhead = -1;
+
+        int sampled = 0;
+        while (sampled < profile.getCancelCandidates() && liveCount > 0) {
+            int index = random.nextInt(liveCount);
+            Order order = book.getOrderMap().get(live[index]);
+            if (order == null) {
+                forget(index);   // Filled since we added it
+                if (bestIndex == liveCount) bestIndex = index;
+                continue;
+            }
+            int ahead = queueAhead(order);
+            if (ahead > bestAhead) {
+                bestAhead = ahead;
+                bestIndex = index;
+            }
+            sampled++;
+        }
+        if (bestIndex < 0) {
+            return false;
+        }
+
+        command.setCancel(live[bestIndex]);
+        forget(bestIndex);
+        return true;
+    }
+
+    private static int queueAhead(Order order) {
+        int ahead = 0;
+        for (Order o = order.getPrevInLevel();
+             o != null && ahead < MAX_QUEUE_WALK;
+             o = o.getPrevInLevel()) {
+            ahead++;
+        }
+        return ahead;
+    }
+
+    private void remember(long orderId) {
+        if (liveCount == live.length) {
+            long[] bigger = new long[live.length * 2];
+            System.arraycopy(live, 0, bigger, 0, liveCount);
+            live = bigger;
+        }
+        live[liveCount++] = orderId;
+    }
+
+    // Swap-remove: the last entry moves into index
+    private void forget(int index) {
+        live[index] = live[--liveCount];
+    }
+
+    // ─────────────────────────────────────────────────
+    // Gap to the next arrival, exponential with mean
+    // 1 / rate; 0 when running flat out
+    // ─────────────────────────────────────────────────
+    public long nextInterArrivalNanos() {
+        double rate = profile.getRatePerSecond();
+        if (rate <= 0) {
+            return 0;
+        }
+        double u = random.nextDouble();
+        return (long) (-Math.log(1.0 - u) / rate * 1e9);
+    }
+
+    public int getLiveOrderCount() { return liveCount; }
+}
@@ -0,0 +1,16 @@
+package com.trading.lob.marketdata;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives encoded feed frames: whole messages back
+ * to back between position and limit.
+ *
+ * The buffer is reused for the next frame as soon as
+ * this returns - send or copy it, don't keep it.
+ */
+@FunctionalInterface
+public interface FramePublisher {
+
+    void onFrame(ByteBuffer frame);
+}
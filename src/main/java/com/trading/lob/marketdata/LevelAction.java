@@ -0,0 +1,14 @@
+package com.trading.lob.marketdata;
+
+/**
+ * What happened to a price level.
+ *
+ * NEW    → first order arrived at a price
+ * CHANGE → volume or order count changed
+ * DELETE → last order left (volume 0, 0 orders)
+ */
+public enum LevelAction {
+    NEW,
+    CHANGE,
+    DELETE
+}
@@ -0,0 +1,34 @@
+package com.trading.lob.marketdata;
+
+import com.trading.lob.model.OrderSide;
+
+/**
+ * Market-by-price update stream from one OrderBook.
+ *
+ * Install with OrderBook.setLevelUpdateListener().
+ * The book calls it on the matching thread for every
+ * level change, as part of the add, cancel or fill
+ * that caused it:
+ *
+ * seq 1  NEW     BID 2500.00  500 qty  1 order
+ * seq 2  CHANGE  BID 2500.00  800 qty  2 orders
+ * seq 3  DELETE  ASK 2501.00    0 qty  0 orders
+ *
+ * Sequence numbers start at 1 and go up by one per
+ * update, per book. Applying every update in order
+ * to an empty book (MarketByPriceBook) gives exactly
+ * the source book's levels; a gap means one was lost.
+ *
+ * Volume and order count are the level's new totals,
+ * not deltas, so an update is self-contained.
+ */
+@FunctionalInterface
+public interface LevelUpdateListener {
+
+    // Does nothing - the book default
+    LevelUpdateListener NO_OP = (seq, action, side, price, vol, n) -> { };
+
+    void onLevelUpdate(long sequence, LevelAction action,
+                       OrderSide side, long price,
+                       int volume, int orderCount);
+}
@@ -0,0 +1,191 @@
+package com.trading.lob.marketdata;
+
+import com.trading.lob.book.BookSide;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.book.PriceLevel;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reference consumer of the market-by-order feed:
+ * rebuilds a full OrderBook, order by order, from
+ * the frames.
+ *
+ * MarketByOrderBook copy = new MarketByOrderBook("RELIANCE");
+ * engine.setOrderFeed(new MarketByOrderFeed(copy));
+ * ... trade, flush ...
+ * copy.verifyAgainst(engine.getOrderBook());
+ *
+ * Every message is checked as it is applied: the
+ * sequence has no gap, the order exists (or not, for
+ * ADD), an execution hits the front of its level and
+ * leaves the quantity the feed says. Anything else
+ * throws IllegalStateException.
+ *
+ * Single-threaded.
+ */
+public class MarketByOrderBook implements FramePublisher {
+
+    private final OrderBook book;
+    private final MboDecoder decoder = new MboDecoder();
+
+    private long lastSequence;
+
+    public MarketByOrderBook(String symbol) {
+        this(new OrderBook(symbol));
+    }
+
+    // Rebuild into this (empty) book
+    public MarketByOrderBook(OrderBook book) {
+        this.book = book;
+    }
+
+    // ─────────────────────────────────────────────────
+    // APPLY every message in a frame
+    // ─────────────────────────────────────────────────
+    @Override
+    public void onFrame(ByteBuffer frame) {
+        for (int at = frame.position(); at < frame.limit();
+             at += decoder.getLength()) {
+            decoder.wrap(frame, at);
+            apply(decoder);
+        }
+    }
+
+    public void apply(MboDecoder message) {
+        long sequence = message.getSequence();
+        if (sequence != lastSequence + 1) {
+            throw new IllegalStateException(
+                "Sequence gap: expected " + (lastSequence + 1) +
+                ", got " + sequence
+            );
+        }
+
+        long orderId = message.getOrderId();
+        Order order  = book.getOrderMap().get(orderId);
+        if (order == null && message.getType() != MboMessageType.ADD) {
+            throw mismatch(sequence, "unknown order #" + orderId);
+        }
+
+        switch (message.getType()) {
+            case ADD:
+                if (order != null) {
+                    throw mismatch(sequence, "order #" + orderId + " exists");
+                }
+                book.addOrder(new Order(orderId, book.getSymbol(),
+                    message.getSide(), OrderType.LIMIT,
+                    message.getPrice(), message.getQuantity()));
+                break;
+            case PARTIAL_EXECUTE:
+            case FULL_EXECUTE:
+                execute(sequence, order, message);
+                break;
+            case DELETE:
+                book.cancelOrder(orderId);
+                break;
+            case REPLACE:
+                replace(order, message.getPrice(), message.getQuantity());
+                break;
+            default:
+                break;
+        }
+        lastSequence = sequence;
+    }
+
+    // Same priority rule as the engine: a cut at the
+    // same price stays put, anything else requeues
+    private void replace(Order order, long newPrice, int newQuantity) {
+        if (OrderBook.keepsPriority(order, newPrice, newQuantity)) {
+            book.reduceOrder(order, newQuantity);
+        } else {
+            book.detachOrder(order);
+            order.amend(newPrice, newQuantity);
+            book.addOrder(order);
+        }
+    }
+
+    private void execute(long sequence, Order order, MboDecoder message) {
+        PriceLevel level = order.getLevel();
+        if (level.peek() != order) {
+            throw mismatch(sequence, "order #" + order.getOrderId() +
+                " executed out of time priority");
+        }
+        if (message.getPrice() != level.getPrice()) {
+            throw mismatch(sequence, "execution price " + message.getPrice() +
+                " != resting price " + level.getPrice());
+        }
+
+        book.fillResting(level, order, message.getQuantity());
+        book.cleanEmptyLevel(order.getSide(), level);
+
+        if (order.getQuantity() != message.getLeavesQuantity()) {
+            throw mismatch(sequence, "order #" + order.getOrderId() +
+                " leaves " + order.getQuantity() + ", feed says " +
+                message.getLeavesQuantity());
+        }
+    }
+
+    private static IllegalStateException mismatch(long sequence,
+                                                  String detail) {
+        return new IllegalStateException(
+            "Message " + sequence + ": " + detail
+        );
+    }
+
+    // ─────────────────────────────────────────────────
+    // VERIFY: same levels, same orders in the same FIFO
+    // order with the same remaining quantity as source
+    // Throws IllegalStateException at the first
+    // difference
+    // ─────────────────────────────────────────────────
+    public void verifyAgainst(OrderBook source) {
+        for (OrderSide side : OrderSide.values()) {
+            BookSide expected = source.getSide(side);
+            BookSide actual   = book.getSide(side);
+
+            PriceLevel e = expected.getBestLevel();
+            PriceLevel a = actual.getBestLevel();
+            while (e != null && a != null) {
+                if (e.getPrice() != a.getPrice()) {
+                    throw new IllegalStateException(side + " level " +
+                        a.getPrice() + ", source has " + e.getPrice());
+                }
+                verifyQueue(side, e, a);
+                e = expected.nextLevel(e.getPrice());
+                a = actual.nextLevel(a.getPrice());
+            }
+            if (e != null || a != null) {
+                throw new IllegalStateException(side +
+                    " level count differs from source");
+            }
+        }
+    }
+
+    private static void verifyQueue(OrderSide side, PriceLevel expected,
+                                    PriceLevel actual) {
+        Order e = expected.peek();
+        Order a = actual.peek();
+        while (e != null && a != null) {
+            if (e.getOrderId() != a.getOrderId()
+                    || e.getQuantity() != a.getQuantity()) {
+                throw new IllegalStateException(side + " " +
+                    expected.getPrice() + ": #" + a.getOrderId() + " x " +
+                    a.getQuantity() + ", source has #" + e.getOrderId() +
+                    " x " + e.getQuantity());
+            }
+            e = e.getNextInLevel();
+            a = a.getNextInLevel();
+        }
+        if (e != null || a != null) {
+            throw new IllegalStateException(side + " " +
+                expected.getPrice() + ": queue length differs from source");
+        }
+    }
+
+    // Getters
+    public OrderBook getBook()      { return book;         }
+    public long getLastSequence()   { return lastSequence; }
+}
@@ -0,0 +1,109 @@
+package com.trading.lob.marketdata;
+
+import com.trading.lob.model.OrderSide;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Market-by-order (level 3) feed for one engine.
+ *
+ * Attach with MatchingEngine.setOrderFeed(). The
+ * engine then reports every change to a resting
+ * order, keyed by order ID:
+ *
+ * rests          → ADD      side, price, quantity
+ * filled in part → PARTIAL_EXECUTE qty, price, leaves
+ * filled in full → FULL_EXECUTE    qty, price
+ * cancelled      → DELETE
+ * replaced       → REPLACE  new price, new quantity
+ *
+ * A REPLACE at the same price with no more quantity
+ * keeps the order's queue position; any other REPLACE
+ * moves it to the back of its new level. A replace
+ * that crosses is sent as DELETE, the executions it
+ * caused, then ADD for the part left resting.
+ *
+ * Messages are encoded (MboEncoder) into one reused
+ * frame buffer with a per-feed sequence number
+ * starting at 1. A frame goes to the FramePublisher
+ * on flush(), or earlier if the next message would
+ * not fit. CommandProcessor flushes at the end of
+ * every batch; direct engine callers flush when they
+ * want the messages out.
+ *
+ * Matching thread only. Allocation-free after
+ * construction.
+ */
+public class MarketByOrderFeed {
+
+    public static final int DEFAULT_FRAME_BYTES = 64 * 1024;
+
+    private final FramePublisher publisher;
+    private final ByteBuffer frame;
+    private final MboEncoder encoder = new MboEncoder();
+
+    private long sequence;
+
+    public MarketByOrderFeed(FramePublisher publisher) {
+        this(publisher, DEFAULT_FRAME_BYTES);
+    }
+
+    public MarketByOrderFeed(FramePublisher publisher, int frameBytes) {
+        if (frameBytes < MboMessageType.MAX_LENGTH) {
+            throw new IllegalArgumentException(
+                "Frame must hold at least one message: " + frameBytes
+            );
+        }
+        this.publisher = publisher;
+        this.frame     = ByteBuffer.allocateDirect(frameBytes);
+        encoder.wrap(frame);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Engine-side events
+    // ─────────────────────────────────────────────────
+    public void add(long orderId, OrderSide side, long price, int quantity) {
+        reserve(MboMessageType.ADD);
+        encoder.add(++sequence, orderId, side, price, quantity);
+    }
+
+    public void execute(long orderId, int executedQuantity, long price,
+                        int leavesQuantity) {
+        reserve(leavesQuantity == 0
+            ? MboMessageType.FULL_EXECUTE
+            : MboMessageType.PARTIAL_EXECUTE);
+        encoder.execute(++sequence, orderId, executedQuantity, price,
+                        leavesQuantity);
+    }
+
+    public void delete(long orderId) {
+        reserve(MboMessageType.DELETE);
+        encoder.delete(++sequence, orderId);
+    }
+
+    public void replace(long orderId, long price, int quantity) {
+        reserve(MboMessageType.REPLACE);
+        encoder.replace(++sequence, orderId, price, quantity);
+    }
+
+    // ─────────────────────────────────────────────────
+    // FLUSH buffered messages as one frame
+    // ─────────────────────────────────────────────────
+    public void flush() {
+        if (frame.position() == 0) {
+            return;
+        }
+        frame.flip();
+        publisher.onFrame(frame);
+        frame.clear();
+    }
+
+    private void reserve(MboMessageType type) {
+        if (frame.remaining() < type.getLength()) {
+            flush();
+        }
+    }
+
+    // Sequence of the last message encoded
+    public long getSequence() { return sequence; }
+}
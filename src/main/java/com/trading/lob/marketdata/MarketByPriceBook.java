@@ -0,0 +1,141 @@
+package com.trading.lob.marketdata;
+
+import com.trading.lob.model.OrderSide;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Downstream copy of a book's price levels, rebuilt
+ * from its market-by-price update stream.
+ *
+ * Start empty, before the source book's first update,
+ * and apply every update in sequence:
+ *
+ * MarketByPriceBook copy = new MarketByPriceBook();
+ * book.setLevelUpdateListener(copy);
+ *
+ * After each update the copy has exactly the source
+ * book's levels (price, volume, order count) - no
+ * orders, just the aggregates.
+ *
+ * Strict: a sequence gap, a NEW for a level that
+ * exists or a CHANGE/DELETE for one that does not
+ * throws IllegalStateException rather than leave a
+ * silently wrong book. Resync from scratch then.
+ *
+ * Single-threaded, like the stream that feeds it.
+ */
+public class MarketByPriceBook implements LevelUpdateListener {
+
+    // BID: highest first, ASK: lowest first
+    private final TreeMap<Long, Level> bids =
+        new TreeMap<>(Collections.reverseOrder());
+    private final TreeMap<Long, Level> asks = new TreeMap<>();
+
+    private long lastSequence;
+
+    private static final class Level {
+        int volume;
+        int orderCount;
+    }
+
+    // ─────────────────────────────────────────────────
+    // APPLY one update
+    // ─────────────────────────────────────────────────
+    @Override
+    public void onLevelUpdate(long sequence, LevelAction action,
+                              OrderSide side, long price,
+                              int volume, int orderCount) {
+        if (sequence != lastSequence + 1) {
+            throw new IllegalStateException(
+                "Sequence gap: expected " + (lastSequence + 1) +
+                ", got " + sequence
+            );
+        }
+
+        TreeMap<Long, Level> levels = levels(side);
+        Level level = levels.get(price);
+
+        switch (action) {
+            case NEW:
+                if (level != null) {
+                    throw inconsistent(sequence, action, side, price);
+                }
+                level = new Level();
+                levels.put(price, level);
+                break;
+            case CHANGE:
+                if (level == null) {
+                    throw inconsistent(sequence, action, side, price);
+                }
+                break;
+            case DELETE:
+                if (level == null) {
+                    throw inconsistent(sequence, action, side, price);
+                }
+                levels.remove(price);
+                break;
+            default:
+                break;
+        }
+        level.volume     = volume;
+        level.orderCount = orderCount;
+        lastSequence     = sequence;
+    }
+
+    private static IllegalStateException inconsistent(
+            long sequence, LevelAction action, OrderSide side, long price) {
+        return new IllegalStateException(
+            "Update " + sequence + ": " + action + " " + side +
+            " " + price + " does not match the book"
+        );
+    }
+
+    // ─────────────────────────────────────────────────
+    // DEPTH: top levels of one side, best first, into
+    // caller arrays (same shape as OrderBook.getDepth)
+    // ─────────────────────────────────────────────────
+    public int getDepth(OrderSide side, int maxLevels, long[] prices,
+                        int[] volumes, int[] orderCounts) {
+        int n = 0;
+        for (Map.Entry<Long, Level> e : levels(side).entrySet()) {
+            if (n == maxLevels) break;
+            prices[n]      = e.getKey();
+            volumes[n]     = e.getValue().volume;
+            orderCounts[n] = e.getValue().orderCount;
+            n++;
+        }
+        return n;
+    }
+
+    // Best price in ticks, or 0 if side is empty
+    public long getBestPrice(OrderSide side) {
+        TreeMap<Long, Level> levels = levels(side);
+        return levels.isEmpty() ? 0 : levels.firstKey();
+    }
+
+    // Volume at a price, 0 if no level there
+    public int getVolume(OrderSide side, long price) {
+        Level level = levels(side).get(price);
+        return level == null ? 0 : level.volume;
+    }
+
+    // Orders at a price, 0 if no level there
+    public int getOrderCount(OrderSide side, long price) {
+        Level level = levels(side).get(price);
+        return level == null ? 0 : level.orderCount;
+    }
+
+    public int getLevelCount(OrderSide side) {
+        return levels(side).size();
+    }
+
+    private TreeMap<Long, Level> levels(OrderSide side) {
+        return side == OrderSide.BID ? bids : asks;
+    }
+
+    // Sequence of the last update applied
+    public long getLastSequence() { return lastSequence; }
+}
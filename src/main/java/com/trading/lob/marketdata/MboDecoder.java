@@ -0,0 +1,90 @@
+package com.trading.lob.marketdata;
+
+import com.trading.lob.model.OrderSide;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads one market-by-order message in place - a
+ * flyweight over the receive buffer. wrap() points it
+ * at a message; getters read the fields from the
+ * buffer at fixed offsets. Nothing is copied and no
+ * object is created per message.
+ *
+ * Walk a frame of back-to-back messages with:
+ * for (int at = frame.position(); at < frame.limit();
+ *      at += decoder.getLength()) {
+ *     decoder.wrap(frame, at);
+ *     switch (decoder.getType()) { ... }
+ * }
+ *
+ * Getters only make sense for the fields the current
+ * type has (see MboMessageType).
+ */
+public final class MboDecoder {
+
+    private static final int TYPE     = 0;
+    private static final int SEQUENCE = 1;
+    private static final int ORDER_ID = 9;
+    private static final int BODY     = MboMessageType.HEADER_BYTES;
+
+    private ByteBuffer buffer;
+    private int offset;
+    private MboMessageType type;
+
+    public MboDecoder wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.type   = MboMessageType.fromCode(buffer.get(offset + TYPE));
+        if (offset + type.getLength() > buffer.limit()) {
+            throw new IllegalArgumentException(
+                "Truncated " + type + " message at " + offset
+            );
+        }
+        return this;
+    }
+
+    public MboMessageType getType() { return type;             }
+    public int getLength()          { return type.getLength(); }
+
+    public long getSequence() {
+        return buffer.getLong(offset + SEQUENCE);
+    }
+
+    public long getOrderId() {
+        return buffer.getLong(offset + ORDER_ID);
+    }
+
+    // ADD
+    public OrderSide getSide() {
+        return MboEncoder.side(buffer.get(offset + BODY));
+    }
+
+    // ADD and REPLACE: limit price
+    // Executions: trade price
+    public long getPrice() {
+        switch (type) {
+            case ADD:     return buffer.getLong(offset + BODY + 1);
+            case REPLACE: return buffer.getLong(offset + BODY);
+            default:      return buffer.getLong(offset + BODY + 4);
+        }
+    }
+
+    // ADD and REPLACE: order quantity
+    // Executions: executed quantity
+    public int getQuantity() {
+        switch (type) {
+            case ADD:     return buffer.getInt(offset + BODY + 9);
+            case REPLACE: return buffer.getInt(offset + BODY + 8);
+            default:      return buffer.getInt(offset + BODY);
+        }
+    }
+
+    // PARTIAL_EXECUTE: still resting after the fill
+    // (0 for FULL_EXECUTE)
+    public int getLeavesQuantity() {
+        return type == MboMessageType.PARTIAL_EXECUTE
+            ? buffer.getInt(offset + BODY + 12)
+            : 0;
+    }
+}
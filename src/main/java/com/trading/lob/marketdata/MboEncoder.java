@@ -0,0 +1,69 @@
+package com.trading.lob.marketdata;
+
+import com.trading.lob.model.OrderSide;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes market-by-order messages straight into a
+ * caller's ByteBuffer - a flyweight: wrap once, then
+ * encode any number of messages with primitives only.
+ *
+ * Each call writes one message at the buffer's
+ * position and advances it by the message length.
+ * The caller makes sure there is room
+ * (MboMessageType.getLength()).
+ *
+ * Layouts: see MboMessageType.
+ */
+public final class MboEncoder {
+
+    private static final byte BID = 0;
+    private static final byte ASK = 1;
+
+    private ByteBuffer buffer;
+
+    public MboEncoder wrap(ByteBuffer buffer) {
+        this.buffer = buffer;
+        return this;
+    }
+
+    public void add(long sequence, long orderId, OrderSide side,
+                    long price, int quantity) {
+        header(MboMessageType.ADD, sequence, orderId);
+        buffer.put(side == OrderSide.BID ? BID : ASK)
+              .putLong(price)
+              .putInt(quantity);
+    }
+
+    // leaves = what is still resting after this fill
+    public void execute(long sequence, long orderId, int executedQuantity,
+                        long price, int leavesQuantity) {
+        if (leavesQuantity == 0) {
+            header(MboMessageType.FULL_EXECUTE, sequence, orderId);
+            buffer.putInt(executedQuantity).putLong(price);
+        } else {
+            header(MboMessageType.PARTIAL_EXECUTE, sequence, orderId);
+            buffer.putInt(executedQuantity).putLong(price)
+                  .putInt(leavesQuantity);
+        }
+    }
+
+    public void delete(long sequence, long orderId) {
+        header(MboMessageType.DELETE, sequence, orderId);
+    }
+
+    public void replace(long sequence, long orderId, long price,
+                        int quantity) {
+        header(MboMessageType.REPLACE, sequence, orderId);
+        buffer.putLong(price).putInt(quantity);
+    }
+
+    private void header(MboMessageType type, long sequence, long orderId) {
+        buffer.put(type.getCode()).putLong(sequence).putLong(orderId);
+    }
+
+    static OrderSide side(byte code) {
+        return code == BID ? OrderSide.BID : OrderSide.ASK;
+    }
+}
@@ -0,0 +1,60 @@
+package com.trading.lob.marketdata;
+
+/**
+ * Market-by-order (level 3) message types.
+ *
+ * Every message starts with the same 17-byte header:
+ * type:1 (code) sequence:8 orderId:8
+ * followed by a fixed body per type (big-endian):
+ *
+ * ADD              'A' side:1 price:8 quantity:4
+ * PARTIAL_EXECUTE  'E' execQty:4 price:8 leaves:4
+ * FULL_EXECUTE     'F' execQty:4 price:8
+ * DELETE           'D' (no body)
+ * REPLACE          'U' price:8 quantity:4
+ *
+ * Executions are always of resting orders, at the
+ * front of their level; the aggressor never rests
+ * until it is done matching, then shows up as ADD.
+ */
+public enum MboMessageType {
+
+    ADD            ('A', 30),
+    PARTIAL_EXECUTE('E', 33),
+    FULL_EXECUTE   ('F', 29),
+    DELETE         ('D', 17),
+    REPLACE        ('U', 29);
+
+    public static final int HEADER_BYTES = 17;
+
+    // Longest message, for sizing buffers
+    public static final int MAX_LENGTH = 33;
+
+    private final byte code;
+    private final int length;
+
+    MboMessageType(char code, int length) {
+        this.code   = (byte) code;
+        this.length = length;
+    }
+
+    // Type for a wire code; IllegalArgumentException
+    // if the code is unknown
+    public static MboMessageType fromCode(byte code) {
+        switch (code) {
+            case 'A': return ADD;
+            case 'E': return PARTIAL_EXECUTE;
+            case 'F': return FULL_EXECUTE;
+            case 'D': return DELETE;
+            case 'U': return REPLACE;
+            default:
+                throw new IllegalArgumentException(
+                    "Unknown message type: " + code
+                );
+        }
+    }
+
+    // Getters
+    public byte getCode()   { return code;   }
+    public int getLength()  { return length; }
+}
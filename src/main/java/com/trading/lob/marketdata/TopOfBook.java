@@ -0,0 +1,54 @@
+package com.trading.lob.marketdata;
+
+/**
+ * A reader's copy of one symbol's top of book, filled
+ * by TopOfBookSlot.read(). Reuse one per reader.
+ *
+ * Prices are ticks; 0 = that side is empty (or no
+ * trade yet, for last price).
+ */
+public class TopOfBook {
+
+    private String symbol;
+    private long update;
+    private long bidPrice;
+    private int  bidSize;
+    private long askPrice;
+    private int  askSize;
+    private long lastPrice;
+    private int  lastSize;
+    private long tradeCount;
+
+    void set(String symbol, long update,
+             long bidPrice, int bidSize, long askPrice, int askSize,
+             long lastPrice, int lastSize, long tradeCount) {
+        this.symbol     = symbol;
+        this.update     = update;
+        this.bidPrice   = bidPrice;
+        this.bidSize    = bidSize;
+        this.askPrice   = askPrice;
+        this.askSize    = askSize;
+        this.lastPrice  = lastPrice;
+        this.lastSize   = lastSize;
+        this.tradeCount = tradeCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s #%d bid %d x %d | ask %d x %d | last %d x %d",
+            symbol, update, bidPrice, bidSize, askPrice, askSize,
+            lastPrice, lastSize);
+    }
+
+    // Getters
+    public String getSymbol()   { return symbol;     }
+    public long getUpdate()     { return update;     }
+    public long getBidPrice()   { return bidPrice;   }
+    public int getBidSize()     { return bidSize;    }
+    public long getAskPrice()   { return askPrice;   }
+    public int getAskSize()     { return askSize;    }
+    public long getLastPrice()  { return lastPrice;  }
+    public int getLastSize()    { return lastSize;   }
+    public long getTradeCount() { return tradeCount; }
+}
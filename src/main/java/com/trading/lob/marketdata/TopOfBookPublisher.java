@@ -0,0 +1,39 @@
+package com.trading.lob.marketdata;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One conflated top-of-book slot per symbol.
+ *
+ * Matching side: give each engine its slot once
+ *   engine.setTopOfBook(publisher.slotFor("RELIANCE"));
+ *
+ * Reader side: poll whenever convenient
+ *   TopOfBook tob = new TopOfBook();
+ *   if (publisher.read("RELIANCE", tob) > lastSeen) ...
+ *
+ * Slots are created on first request and live for
+ * the publisher's lifetime. Lookups are the only map
+ * access; publishing goes straight to the slot.
+ */
+public class TopOfBookPublisher {
+
+    private final Map<String, TopOfBookSlot> slots = new ConcurrentHashMap<>();
+
+    public TopOfBookSlot slotFor(String symbol) {
+        return slots.computeIfAbsent(symbol, TopOfBookSlot::new);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Latest values for a symbol into target
+    // Returns the update number, or -1 if the symbol
+    // has no slot (target left alone)
+    // ─────────────────────────────────────────────────
+    public long read(String symbol, TopOfBook target) {
+        TopOfBookSlot slot = slots.get(symbol);
+        return slot == null ? -1 : slot.read(target);
+    }
+
+    public int getSymbolCount() { return slots.size(); }
+}
@@ -0,0 +1,123 @@
+package com.trading.lob.marketdata;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Latest top of book for one symbol: a single slot
+ * the matching thread overwrites and any number of
+ * readers copy out at their own pace.
+ *
+ * Conflating: a reader that falls behind skips
+ * straight to the newest values - it never sees a
+ * backlog, and the writer never waits for it.
+ *
+ * Seqlock (one writer):
+ *
+ *  writer: version → odd, write fields, version → even
+ *  reader: v1 = version (retry if odd), copy fields,
+ *          v2 = version; v1 != v2 → copy again
+ *
+ * A reader that raced a write retries; it can never
+ * return a mix of old and new fields. The writer
+ * takes no lock, never spins and allocates nothing.
+ *
+ * Written by MatchingEngine (setTopOfBook) after each
+ * command that changes best prices, sizes or trades.
+ */
+public class TopOfBookSlot {
+
+    private static final VarHandle VERSION;
+    static {
+        try {
+            VERSION = MethodHandles.lookup().findVarHandle(
+                TopOfBookSlot.class, "version", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String symbol;
+
+    // Even = stable, odd = write in progress
+    private volatile long version;
+
+    // Guarded by version; 0 = side empty / no trade
+    private long bidPrice;
+    private int  bidSize;
+    private long askPrice;
+    private int  askSize;
+    private long lastPrice;
+    private int  lastSize;
+    private long tradeCount;
+
+    public TopOfBookSlot(String symbol) {
+        this.symbol = symbol;
+    }
+
+    // ─────────────────────────────────────────────────
+    // WRITER (one thread) - skipped if nothing changed
+    // Returns true if a new version was published
+    // ─────────────────────────────────────────────────
+    public boolean publish(long bidPrice, int bidSize,
+                           long askPrice, int askSize,
+                           long lastPrice, int lastSize,
+                           long tradeCount) {
+        if (bidPrice == this.bidPrice && bidSize == this.bidSize
+                && askPrice == this.askPrice && askSize == this.askSize
+                && tradeCount == this.tradeCount) {
+            return false;
+        }
+
+        long v = (long) VERSION.getOpaque(this);
+        VERSION.setOpaque(this, v + 1);
+        VarHandle.storeStoreFence();
+
+        this.bidPrice   = bidPrice;
+        this.bidSize    = bidSize;
+        this.askPrice   = askPrice;
+        this.askSize    = askSize;
+        this.lastPrice  = lastPrice;
+        this.lastSize   = lastSize;
+        this.tradeCount = tradeCount;
+
+        VERSION.setRelease(this, v + 2);
+        return true;
+    }
+
+    // ─────────────────────────────────────────────────
+    // READER (any thread) - consistent copy into target
+    // Returns the update number (0 = nothing yet)
+    // ─────────────────────────────────────────────────
+    public long read(TopOfBook target) {
+        while (true) {
+            long before = (long) VERSION.getAcquire(this);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            long bp = bidPrice;
+            int  bs = bidSize;
+            long ap = askPrice;
+            int  as = askSize;
+            long lp = lastPrice;
+            int  ls = lastSize;
+            long tc = tradeCount;
+
+            VarHandle.loadLoadFence();
+            if ((long) VERSION.getOpaque(this) == before) {
+                long update = before >>> 1;
+                target.set(symbol, update, bp, bs, ap, as, lp, ls, tc);
+                return update;
+            }
+        }
+    }
+
+    // Update number now; cheap "anything new?" check
+    public long getUpdate() {
+        return ((long) VERSION.getAcquire(this)) >>> 1;
+    }
+
+    public String getSymbol() { return symbol; }
+}
@@ -0,0 +1,126 @@
+package com.trading.lob.metrics;
+
+import com.trading.lob.ingress.CommandType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Service-time histograms for one engine (one symbol),
+ * one per command type.
+ *
+ * Attach with MatchingEngine.setMetrics(). The engine
+ * then times each command with System.nanoTime(),
+ * from entry to return, under its CommandType:
+ *
+ * NEW     → submitOrder, both overloads; includes stop
+ *           triggers and peg repricing it sets off
+ * CANCEL  → cancelOrder, parked stops and unknown IDs
+ *           too; expireOrders records one per order
+ *           it expires
+ * REPLACE → replaceOrder, rejected replaces included
+ *
+ * Journal appends, matching, feeds and listener calls
+ * all count. Without metrics attached the engine
+ * skips timing altogether.
+ *
+ * Reading is by interval: each report returns what
+ * was recorded since the previous one and starts a
+ * new interval. Safe from any thread.
+ *
+ * Text report line per command type:
+ * RELIANCE NEW    count=51200 mean=412 p50=380 p90=610
+ *                 p99=1530 p99.9=4100 max=18230 (ns)
+ */
+public class EngineMetrics {
+
+    private static final CommandType[] TYPES = CommandType.values();
+
+    private final String symbol;
+    private final IntervalRecorder[] recorders;
+
+    // Reader-side scratch, reused every interval
+    private final LatencyHistogram[] interval;
+
+    public EngineMetrics(String symbol) {
+        this.symbol    = symbol;
+        this.recorders = new IntervalRecorder[TYPES.length];
+        this.interval  = new LatencyHistogram[TYPES.length];
+        for (int i = 0; i < TYPES.length; i++) {
+            recorders[i] = new IntervalRecorder();
+            interval[i]  = new LatencyHistogram();
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Matching thread
+    // ─────────────────────────────────────────────────
+    public void record(CommandType type, long nanos) {
+        recorders[type.ordinal()].record(nanos);
+    }
+
+    // ─────────────────────────────────────────────────
+    // Any thread - one command type's interval
+    // ─────────────────────────────────────────────────
+    public void intervalSnapshot(CommandType type,
+                                 LatencyHistogram target) {
+        recorders[type.ordinal()].getIntervalHistogram(target);
+    }
+
+    // ─────────────────────────────────────────────────
+    // TEXT - one summary line per command type seen
+    // this interval
+    // ─────────────────────────────────────────────────
+    public synchronized void writeIntervalReport(Appendable out) {
+        try {
+            for (int i = 0; i < TYPES.length; i++) {
+                recorders[i].getIntervalHistogram(interval[i]);
+                LatencyHistogram h = interval[i];
+                if (h.getTotalCount() == 0) continue;
+                out.append(String.format(
+                    "%s %-7s count=%d mean=%.0f p50=%d p90=%d " +
+                    "p99=%d p99.9=%d max=%d (ns)%n",
+                    symbol, TYPES[i], h.getTotalCount(), h.getMean(),
+                    h.getValueAtPercentile(50.0),
+                    h.getValueAtPercentile(90.0),
+                    h.getValueAtPercentile(99.0),
+                    h.getValueAtPercentile(99.9),
+                    h.getMax()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // BINARY - symbol, then every command type's
+    // interval histogram:
+    // symbolLen:2 symbol typeCount:1
+    // (typeOrdinal:1 LatencyHistogram.encode) × typeCount
+    //
+    // Returns bytes written; out must have room for
+    // maxIntervalBytes()
+    // ─────────────────────────────────────────────────
+    public synchronized int encodeInterval(ByteBuffer out) {
+        int start = out.position();
+        byte[] name = symbol.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) name.length).put(name)
+           .put((byte) TYPES.length);
+        for (int i = 0; i < TYPES.length; i++) {
+            recorders[i].getIntervalHistogram(interval[i]);
+            out.put((byte) i);
+            interval[i].encode(out);
+        }
+        return out.position() - start;
+    }
+
+    // Upper bound for encodeInterval, every bucket used
+    public int maxIntervalBytes() {
+        return 2 + symbol.getBytes(StandardCharsets.UTF_8).length + 1
+             + TYPES.length * (1 + LatencyHistogram.maxEncodedSize());
+    }
+
+    public String getSymbol() { return symbol; }
+}
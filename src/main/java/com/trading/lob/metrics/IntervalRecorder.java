@@ -0,0 +1,79 @@
+package com.trading.lob.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Record on the matching thread, read intervals from
+ * any other thread - without locks on the record path.
+ *
+ * Two histograms take turns. The writer records into
+ * the active one; the reader swaps them and waits for
+ * any record() already in flight to finish, then owns
+ * the old one outright:
+ *
+ *  writer: enter ─ active.record(v) ─ exit
+ *  reader: swap active/inactive
+ *          flip phase, wait for writers that entered
+ *          before the flip → copy inactive out, reset
+ *
+ * The enter/exit counters are a writer-reader phaser
+ * (as in HdrHistogram's Recorder): two uncontended
+ * atomic increments per record.
+ */
+public class IntervalRecorder {
+
+    private volatile LatencyHistogram active   = new LatencyHistogram();
+    private LatencyHistogram          inactive = new LatencyHistogram();
+
+    // Phaser: sign of startEpoch says which end counter
+    // writers of the current phase report to
+    private final AtomicLong startEpoch   = new AtomicLong(0);
+    private final AtomicLong evenEndEpoch = new AtomicLong(0);
+    private final AtomicLong oddEndEpoch  = new AtomicLong(Long.MIN_VALUE);
+
+    // ─────────────────────────────────────────────────
+    // Writer side
+    // ─────────────────────────────────────────────────
+    public void record(long value) {
+        long critical = startEpoch.getAndIncrement();
+        active.record(value);
+        if (critical < 0) {
+            oddEndEpoch.getAndIncrement();
+        } else {
+            evenEndEpoch.getAndIncrement();
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Reader side - everything recorded since the last
+    // call goes into target (replacing its contents)
+    // ─────────────────────────────────────────────────
+    public synchronized void getIntervalHistogram(LatencyHistogram target) {
+        inactive.reset();
+
+        LatencyHistogram previous = active;
+        active   = inactive;
+        inactive = previous;
+
+        flipPhase();
+
+        inactive.copyInto(target);
+    }
+
+    private void flipPhase() {
+        boolean nextPhaseIsEven = startEpoch.get() < 0;
+        long initial = nextPhaseIsEven ? 0 : Long.MIN_VALUE;
+
+        // Reset the end counter the next phase will use
+        AtomicLong nextEnd = nextPhaseIsEven ? evenEndEpoch : oddEndEpoch;
+        nextEnd.set(initial);
+
+        long startAtFlip = startEpoch.getAndSet(initial);
+
+        // Wait for writers that entered the old phase
+        AtomicLong oldEnd = nextPhaseIsEven ? oddEndEpoch : evenEndEpoch;
+        while (oldEnd.get() != startAtFlip) {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.trading.lob.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Log-linear histogram of non-negative long values
+ * (nanoseconds), in the style of HdrHistogram.
+ *
+ * Values below 128 get one bucket each. Above that,
+ * every power-of-two range is split into 64 equal
+ * buckets, so any recorded value is off by < 1/64
+ * (~1.6%) whatever its magnitude:
+ *
+ *  value range        bucket width
+ *  0 .. 127           1 ns
+ *  128 .. 255         2 ns
+ *  256 .. 511         4 ns
+ *  ...
+ *  2^35 .. 2^36-1     2^29 ns   (~34 s .. ~69 s)
+ *
+ * → record() is a few shifts and one array increment,
+ *   no allocation, no branches on the bucket layout
+ * → Values above MAX_VALUE are clamped and counted
+ * → ~16 KB per histogram
+ *
+ * Not thread-safe. See IntervalRecorder for recording
+ * on one thread and reading on another.
+ */
+public class LatencyHistogram {
+
+    // 2^7 buckets below 128, then 2^6 per power of two
+    private static final int SUB_BUCKET_BITS  = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF  = SUB_BUCKET_COUNT >> 1;
+
+    // Largest value kept exactly (~68.7 s in ns)
+    public static final long MAX_VALUE = (1L << 36) - 1;
+
+    private static final int BUCKETS = indexOf(MAX_VALUE) + 1;
+
+    private static final int MAGIC = 0x4C484953; // "LHIS"
+
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private long clamped;
+
+    // ─────────────────────────────────────────────────
+    // RECORD one value
+    // ─────────────────────────────────────────────────
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        } else if (value > MAX_VALUE) {
+            value = MAX_VALUE;
+            clamped++;
+        }
+        counts[indexOf(value)]++;
+        totalCount++;
+        sum += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Bucket index for a value in 0..MAX_VALUE
+    //
+    // Below 128: the value itself.
+    // Above: exponent e = how far the top 7 bits are
+    // shifted; index = e * 64 + (value >>> e), where
+    // value >>> e is always in 64..127.
+    // ─────────────────────────────────────────────────
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value)
+                     - (SUB_BUCKET_BITS - 1);
+        return exponent * SUB_BUCKET_HALF + (int) (value >>> exponent);
+    }
+
+    // Largest value that falls in a bucket
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_HALF - 1;
+        long sub     = index - (long) exponent * SUB_BUCKET_HALF;
+        return ((sub + 1) << exponent) - 1;
+    }
+
+    // ─────────────────────────────────────────────────
+    // PERCENTILE, e.g. 99.9 → value at or below which
+    // 99.9% of recorded values fall (bucket upper bound,
+    // capped at the true max)
+    // ─────────────────────────────────────────────────
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double p    = Math.min(Math.max(percentile, 0.0), 100.0);
+        long target = Math.max(1, (long) Math.ceil(p / 100.0 * totalCount));
+
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestValueAt(i), max);
+            }
+        }
+        return max;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0.0 : (double) sum / totalCount;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Combine / copy / clear
+    // ─────────────────────────────────────────────────
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum        += other.sum;
+        clamped    += other.clamped;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public void copyInto(LatencyHistogram target) {
+        target.reset();
+        target.add(this);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum        = 0;
+        clamped    = 0;
+        min        = Long.MAX_VALUE;
+        max        = 0;
+    }
+
+    // ─────────────────────────────────────────────────
+    // TEXT export - one line per percentile
+    //
+    //     Value   Percentile   TotalCount
+    //       412    50.000000       500000
+    //      1203    99.000000       990000
+    // ─────────────────────────────────────────────────
+    private static final double[] REPORTED = {
+        0.0, 50.0, 75.0, 90.0, 99.0, 99.9, 99.99, 100.0
+    };
+
+    public void writeText(Appendable out) {
+        try {
+            out.append(String.format("%10s %12s %12s%n",
+                "Value(ns)", "Percentile", "TotalCount"));
+            for (double p : REPORTED) {
+                long value = getValueAtPercentile(p);
+                out.append(String.format("%10d %12.6f %12d%n",
+                    value, p, countAtOrBelow(value)));
+            }
+            out.append(String.format(
+                "#[Mean = %.1f, Max = %d, Count = %d, Clamped = %d]%n",
+                getMean(), max, totalCount, clamped));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long countAtOrBelow(long value) {
+        long seen = 0;
+        for (int i = 0; i <= indexOf(Math.min(value, MAX_VALUE)); i++) {
+            seen += counts[i];
+        }
+        return seen;
+    }
+
+    // ─────────────────────────────────────────────────
+    // BINARY export - only non-empty buckets
+    //
+    // magic:4 totalCount:8 sum:8 min:8 max:8 clamped:8
+    // nonEmpty:4 then (index:4 count:8) × nonEmpty
+    // ─────────────────────────────────────────────────
+    public int encodedSize() {
+        int nonEmpty = 0;
+        for (long c : counts) {
+            if (c != 0) nonEmpty++;
+        }
+        return 4 + 8 * 5 + 4 + nonEmpty * 12;
+    }
+
+    // Upper bound for encodedSize(), every bucket used
+    public static int maxEncodedSize() {
+        return 4 + 8 * 5 + 4 + BUCKETS * 12;
+    }
+
+    public void encode(ByteBuffer out) {
+        out.putInt(MAGIC)
+           .putLong(totalCount).putLong(sum)
+           .putLong(min).putLong(max).putLong(clamped);
+        int countPos = out.position();
+        out.putInt(0);
+        int nonEmpty = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                out.putInt(i).putLong(counts[i]);
+                nonEmpty++;
+            }
+        }
+        out.putInt(countPos, nonEmpty);
+    }
+
+    public static LatencyHistogram decode(ByteBuffer in) {
+        if (in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a latency histogram");
+        }
+        LatencyHistogram h = new LatencyHistogram();
+        h.totalCount = in.getLong();
+        h.sum        = in.getLong();
+        h.min        = in.getLong();
+        h.max        = in.getLong();
+        h.clamped    = in.getLong();
+        int nonEmpty = in.getInt();
+        for (int i = 0; i < nonEmpty; i++) {
+            int index = in.getInt();
+            if (index < 0 || index >= BUCKETS) {
+                throw new IllegalArgumentException(
+                    "Bucket index out of range: " + index);
+            }
+            h.counts[index] = in.getLong();
+        }
+        return h;
+    }
+
+    // Getters
+    public long getTotalCount()   { return totalCount; }
+    public long getMax()          { return max;        }
+    public long getClampedCount() { return clamped;    }
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+}
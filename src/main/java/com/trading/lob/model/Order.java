@@ -1,5 +1,7 @@
 package com.trading.lob.model;
 
+import com.trading.lob.book.PriceLevel;
+
 import java.time.LocalDateTime;
 
 /**
@@ -10,13 +12,44 @@ import java.time.LocalDateTime;
  * symbol     → stock ticker e.g. "RELIANCE"
  * side       → BID (buy) or ASK (sell)
  * type       → LIMIT or MARKET
- * price      → limit price (0 for market orders)
+ * price      → limit price in ticks (0 for market orders)
  * quantity   → total shares requested
  * filledQty  → shares already traded
+ * tif        → time in force: DAY (default), GTC,
+ *              GTD, IOC or FOK
+ * expireTime → GTD only, in the caller's clock
+ *              (e.g. epoch millis)
+ * display    → iceberg peak size (0 = show it all)
+ * stopPrice  → STOP / STOP_LIMIT trigger, in ticks
+ * pegOffset  → PEG_* only: ticks added to the peg's
+ *              reference price (may be negative)
+ * ownerId    → participant / account, for self-trade
+ *              prevention (0 = anonymous)
+ * postOnly   → NONE, or REJECT / SLIDE if it would
+ *              take liquidity
+ * selfTrade  → what to do on meeting an own resting
+ *              order, see SelfTradePrevention
  * timestamp  → when order was placed (for priority)
  *
  * Example:
  * Order #1001: BUY 500 RELIANCE @ ₹2500 LIMIT
+ *
+ * Prices are whole ticks, see {@link PriceScale}.
+ *
+ * While resting, an order is also a node in its
+ * PriceLevel's FIFO queue (prev/next links plus a
+ * pointer back to the level). The links live on the
+ * order itself so cancel is an O(1) unlink with no
+ * list node to allocate or search for.
+ *
+ * Iceberg: once resting, quantity is only the shown
+ * slice and the rest waits hidden in reserve. When
+ * the slice trades away the next one is cut from the
+ * reserve and joins the back of the queue:
+ *
+ *  BUY 1000 show 100  → shown 100 + reserve 900
+ *  slice fills        → shown 100 + reserve 800
+ *                       (back of the level)
  */
 public class Order {
 
@@ -24,14 +57,119 @@ public class Order {
     private final String symbol;
     private final OrderSide side;
     private final OrderType type;
-    private final double price;
-    private int quantity;        // remaining quantity
-    private int filledQuantity;  // how much has been filled
+    private long price;                    // limit price in ticks
+    private int quantity;                  // remaining (shown) quantity
+    private int filledQuantity;            // how much has been filled
+    private final TimeInForce timeInForce;
+    private final long expireTime;         // GTD only, else 0
+    private final int displayQuantity;     // iceberg peak, else 0
+    private int reserveQuantity;           // iceberg hidden remainder
+    private final long stopPrice;          // STOP / STOP_LIMIT, else 0
+    private final long pegOffset;          // PEG_* only, else 0
+    private final long ownerId;            // 0 = anonymous
+    private final PostOnly postOnly;
+    private final SelfTradePrevention selfTrade;
     private final LocalDateTime timestamp;
 
+    // Intrusive FIFO links, managed by PriceLevel only
+    private PriceLevel level;    // level this order rests in
+    private Order prevInLevel;   // order ahead in the queue
+    private Order nextInLevel;   // order behind in the queue
+
+    public Order(long orderId, String symbol,
+                 OrderSide side, OrderType type,
+                 long price, int quantity) {
+        this(orderId, symbol, side, type, price, quantity,
+             TimeInForce.DAY, 0);
+    }
+
+    public Order(long orderId, String symbol,
+                 OrderSide side, OrderType type,
+                 long price, int quantity,
+                 TimeInForce timeInForce, long expireTime) {
+        this(orderId, symbol, side, type, price, quantity,
+             timeInForce, expireTime, 0);
+    }
+
+    // STOP (price 0) or STOP_LIMIT
+    public Order(long orderId, String symbol,
+                 OrderSide side, OrderType type,
+                 long price, int quantity, long stopPrice) {
+        this(orderId, symbol, side, type, price, quantity,
+             TimeInForce.DAY, 0, 0, stopPrice);
+    }
+
+    // Owned, with maker-only / self-trade protections
+    public Order(long orderId, String symbol,
+                 OrderSide side, OrderType type,
+                 long price, int quantity, long ownerId,
+                 PostOnly postOnly, SelfTradePrevention selfTrade) {
+        this(orderId, symbol, side, type, price, quantity,
+             TimeInForce.DAY, 0, 0, 0, 0,
+             ownerId, postOnly, selfTrade);
+    }
+
+    // displayQuantity > 0 makes an iceberg
+    public Order(long orderId, String symbol,
+                 OrderSide side, OrderType type,
+                 long price, int quantity,
+                 TimeInForce timeInForce, long expireTime,
+                 int displayQuantity) {
+        this(orderId, symbol, side, type, price, quantity,
+             timeInForce, expireTime, displayQuantity, 0);
+    }
+
+    public Order(long orderId, String symbol,
+                 OrderSide side, OrderType type,
+                 long price, int quantity,
+                 TimeInForce timeInForce, long expireTime,
+                 int displayQuantity, long stopPrice) {
+        this(orderId, symbol, side, type, price, quantity,
+             timeInForce, expireTime, displayQuantity, stopPrice, 0);
+    }
+
+    // PEG_*: price is set by the engine from the peg
     public Order(long orderId, String symbol,
                  OrderSide side, OrderType type,
-                 double price, int quantity) {
+                 long price, int quantity,
+                 TimeInForce timeInForce, long expireTime,
+                 int displayQuantity, long stopPrice,
+                 long pegOffset) {
+        this(orderId, symbol, side, type, price, quantity,
+             timeInForce, expireTime, displayQuantity, stopPrice,
+             pegOffset, 0, PostOnly.NONE, SelfTradePrevention.NONE);
+    }
+
+    public Order(long orderId, String symbol,
+                 OrderSide side, OrderType type,
+                 long price, int quantity,
+                 TimeInForce timeInForce, long expireTime,
+                 int displayQuantity, long stopPrice,
+                 long pegOffset, long ownerId,
+                 PostOnly postOnly, SelfTradePrevention selfTrade) {
+        if (postOnly != PostOnly.NONE
+                && ((type != OrderType.LIMIT && type != OrderType.STOP_LIMIT)
+                    || timeInForce.isImmediate())) {
+            throw new IllegalArgumentException(
+                "Post-only needs a resting limit order: " +
+                type + " " + timeInForce
+            );
+        }
+        if (type.isPegged() && timeInForce.isImmediate()) {
+            throw new IllegalArgumentException(
+                "Pegged orders must rest, not " + timeInForce
+            );
+        }
+        if (type.isStop() && stopPrice <= 0) {
+            throw new IllegalArgumentException(
+                "Stop price must be positive: " + stopPrice
+            );
+        }
+        if (displayQuantity < 0) {
+            throw new IllegalArgumentException(
+                "Display quantity must not be negative: " + displayQuantity
+            );
+        }
         this.orderId         = orderId;
         this.symbol          = symbol;
         this.side            = side;
@@ -39,6 +177,14 @@ public class Order {
         this.price           = price;
         this.quantity        = quantity;
         this.filledQuantity  = 0;
+        this.timeInForce     = timeInForce;
+        this.expireTime      = expireTime;
+        this.displayQuantity = displayQuantity;
+        this.stopPrice       = stopPrice;
+        this.pegOffset       = pegOffset;
+        this.ownerId         = ownerId;
+        this.postOnly        = postOnly;
+        this.selfTrade       = selfTrade;
         this.timestamp       = LocalDateTime.now();
     }
 
@@ -57,6 +203,68 @@ public class Order {
         this.quantity       -= fillQty;
     }
 
+    // ─────────────────────────────────────────────────
+    // New terms after a replace
+    // newQuantity is the new remaining quantity
+    // Only OrderBook / PriceLevel should call this,
+    // and never change the price of a resting order
+    // ─────────────────────────────────────────────────
+    public void amend(long newPrice, int newQuantity) {
+        if (newQuantity <= 0) {
+            throw new IllegalArgumentException(
+                "Replace quantity must be positive: " + newQuantity
+            );
+        }
+        this.price           = newPrice;
+        this.quantity        = newQuantity;
+        this.reserveQuantity = 0;    // re-hidden when it rests
+    }
+
+    // ─────────────────────────────────────────────────
+    // PEG / post-only slide: move to a new price
+    // Only the engine or OrderBook should call this,
+    // with the order out of its level
+    // ─────────────────────────────────────────────────
+    public void reprice(long newPrice) {
+        this.price = newPrice;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Cut remaining quantity, reserve first
+    // Only PriceLevel should call this
+    // ─────────────────────────────────────────────────
+    public void reduceTo(int newRemaining) {
+        int cut = getRemainingQuantity() - newRemaining;
+        int fromReserve = Math.min(cut, reserveQuantity);
+        this.reserveQuantity -= fromReserve;
+        this.quantity        -= cut - fromReserve;
+    }
+
+    // ─────────────────────────────────────────────────
+    // ICEBERG: show one slice, hide the rest
+    // Called as the order rests; no-op for a plain
+    // order or one already showing a slice
+    // ─────────────────────────────────────────────────
+    public void hideReserve() {
+        if (displayQuantity > 0 && quantity > displayQuantity) {
+            reserveQuantity += quantity - displayQuantity;
+            quantity         = displayQuantity;
+        }
+    }
+
+    // Next slice from the reserve, once the shown one
+    // has traded away
+    public void replenish() {
+        int slice = Math.min(displayQuantity, reserveQuantity);
+        quantity        += slice;
+        reserveQuantity -= slice;
+    }
+
+    // Reload a saved iceberg's reserve (snapshot)
+    public void setReserveQuantity(int reserveQuantity) {
+        this.reserveQuantity = reserveQuantity;
+    }
+
     // ─────────────────────────────────────────────────
     // Check if order is completely filled
     // ─────────────────────────────────────────────────
@@ -71,21 +279,55 @@ public class Order {
         return filledQuantity > 0 && quantity > 0;
     }
 
+    // Shown plus hidden
+    public int getRemainingQuantity() {
+        return quantity + reserveQuantity;
+    }
+
+    public boolean isIceberg() {
+        return displayQuantity > 0;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Queue links - only PriceLevel should set these
+    // ─────────────────────────────────────────────────
+    public void setLevelLinks(PriceLevel level,
+                              Order prev, Order next) {
+        this.level       = level;
+        this.prevInLevel = prev;
+        this.nextInLevel = next;
+    }
+
+    public void setPrevInLevel(Order prev) { this.prevInLevel = prev; }
+    public void setNextInLevel(Order next) { this.nextInLevel = next; }
+
     // Getters
-    public long getOrderId()        { return orderId;        }
-    public String getSymbol()       { return symbol;         }
-    public OrderSide getSide()      { return side;           }
-    public OrderType getType()      { return type;           }
-    public double getPrice()        { return price;          }
-    public int getQuantity()        { return quantity;       }
-    public int getFilledQuantity()  { return filledQuantity; }
-    public LocalDateTime getTimestamp() { return timestamp;  }
+    public long getOrderId()                  { return orderId;         }
+    public String getSymbol()                 { return symbol;          }
+    public OrderSide getSide()                { return side;            }
+    public OrderType getType()                { return type;            }
+    public long getPrice()                    { return price;           }
+    public int getQuantity()                  { return quantity;        }
+    public int getFilledQuantity()            { return filledQuantity;  }
+    public TimeInForce getTimeInForce()       { return timeInForce;     }
+    public long getExpireTime()               { return expireTime;      }
+    public int getDisplayQuantity()           { return displayQuantity; }
+    public int getReserveQuantity()           { return reserveQuantity; }
+    public long getStopPrice()                { return stopPrice;       }
+    public long getPegOffset()                { return pegOffset;       }
+    public long getOwnerId()                  { return ownerId;         }
+    public PostOnly getPostOnly()             { return postOnly;        }
+    public SelfTradePrevention getSelfTrade() { return selfTrade;       }
+    public LocalDateTime getTimestamp()       { return timestamp;       }
+    public PriceLevel getLevel()              { return level;           }
+    public Order getPrevInLevel()             { return prevInLevel;     }
+    public Order getNextInLevel()             { return nextInLevel;     }
 
     @Override
     public String toString() {
         return String.format(
-            "Order{id=%d, %s, %s, %s, price=%.2f, qty=%d, filled=%d}",
-            orderId, symbol, side, type, price,
+            "Order{id=%d, %s, %s, %s %s, price=%d, qty=%d, filled=%d}",
+            orderId, symbol, side, type, timeInForce, price,
             quantity, filledQuantity
         );
     }
@@ -13,5 +13,10 @@ package com.trading.lob.model;
  */
 public enum OrderSide {
     BID,  // Buy side
-    ASK   // Sell side
+    ASK;  // Sell side
+
+    // The side this one trades against
+    public OrderSide opposite() {
+        return this == BID ? ASK : BID;
+    }
 }
\ No newline at end of file
@@ -10,8 +10,53 @@ package com.trading.lob.model;
  * MARKET = Execute immediately at best available price
  *          Never goes into book - always fills instantly
  *          Example: "BUY at whatever current price is"
+ *
+ * STOP       = Waits off the book until the last trade
+ *              reaches its stop price, then goes in as
+ *              a MARKET order
+ *              Example: "SELL if it trades at ₹2450 or lower"
+ *
+ * STOP_LIMIT = Same trigger, then goes in as a LIMIT
+ *              order at its limit price
+ *
+ * PEG_PRIMARY = Rests at the best price on its own
+ *               side, plus its peg offset
+ *               Example: "BUY at the best bid - 1 tick"
+ * PEG_MID     = Rests at the mid price plus offset
+ *               (buys round down, sells round up)
+ * PEG_MARKET  = Rests at the best price on the other
+ *               side plus offset, held one tick short
+ *               of crossing
+ *
+ * Pegged orders rest in the book like limit orders
+ * but the engine moves them when the touch moves;
+ * see PegBook.
  */
 public enum OrderType {
-    LIMIT,   // Wait for specific price
-    MARKET   // Execute immediately
+    LIMIT,       // Wait for specific price
+    MARKET,      // Execute immediately
+    STOP,        // Market once triggered
+    STOP_LIMIT,  // Limit once triggered
+    PEG_PRIMARY, // Follows own side's best
+    PEG_MID,     // Follows the mid
+    PEG_MARKET;  // Follows other side's best
+
+    // Parked in the StopBook until triggered
+    public boolean isStop() {
+        return this == STOP || this == STOP_LIMIT;
+    }
+
+    // Price follows the touch, kept in the PegBook
+    public boolean isPegged() {
+        return this == PEG_PRIMARY || this == PEG_MID || this == PEG_MARKET;
+    }
+
+    // What a triggered stop becomes
+    public OrderType triggered() {
+        switch (this) {
+            case STOP:       return MARKET;
+            case STOP_LIMIT: return LIMIT;
+            default:         return this;
+        }
+    }
 }
\ No newline at end of file
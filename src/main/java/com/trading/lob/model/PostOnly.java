@@ -0,0 +1,23 @@
+package com.trading.lob.model;
+
+/**
+ * What a post-only (maker-only) limit order does if
+ * it would trade on arrival.
+ *
+ * NONE   = Not post-only, trades like any order
+ * REJECT = Refused (WOULD_CROSS), nothing happens
+ * SLIDE  = Repriced one tick short of the other
+ *          side's best, then rests
+ *
+ * Book: ASK ₹2501 best
+ * BUY post-only @ ₹2502 → REJECT: refused
+ *                       → SLIDE:  rests @ ₹2500.95
+ *                                 (one tick below)
+ *
+ * Also applied to a replace that would cross.
+ */
+public enum PostOnly {
+    NONE,    // May take liquidity
+    REJECT,  // Refuse if crossing
+    SLIDE    // Reprice to just inside the spread
+}
@@ -0,0 +1,162 @@
+package com.trading.lob.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Converts between decimal prices and integer ticks
+ * for one symbol.
+ *
+ * Inside the book every price is a whole number of
+ * ticks (long). Decimal prices only exist at the edges:
+ * reading orders in, and printing the book out.
+ *
+ * Example: tick size ₹0.05
+ * ₹2500.00 → 50000 ticks
+ * ₹2500.05 → 50001 ticks
+ * 50002 ticks → ₹2500.10
+ *
+ * Integer ticks make price equality exact
+ * (no 2500.005 vs 2500.00499999 surprises) and
+ * avoid boxing a Double on every book lookup.
+ *
+ * Parsers that already hold the digits should call
+ * toTicks(mantissa, decimals): the tick size is also
+ * kept as an integer over a power of ten (0.05 →
+ * 5 / 10^2), so that path never touches a double.
+ */
+public class PriceScale {
+
+    // Default scale: one tick = ₹0.01 (one paisa)
+    public static final PriceScale DEFAULT = new PriceScale(0.01);
+
+    // Allowed rounding error when checking a price is on a tick
+    private static final double TICK_EPSILON = 1e-6;
+
+    // Powers of ten that fit a long
+    private static final int MAX_DECIMALS = 18;
+    private static final long[] POW10 = new long[MAX_DECIMALS + 1];
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i <= MAX_DECIMALS; i++) POW10[i] = POW10[i - 1] * 10;
+    }
+
+    private final double tickSize;
+
+    // tickSize == tickUnits / 10^tickDecimals, exactly
+    private final long tickUnits;
+    private final int  tickDecimals;
+
+    public PriceScale(double tickSize) {
+        if (!(tickSize > 0.0)) {
+            throw new IllegalArgumentException(
+                "Tick size must be positive: " + tickSize
+            );
+        }
+        this.tickSize = tickSize;
+
+        // Shortest decimal that reads back as tickSize
+        BigDecimal exact = BigDecimal.valueOf(tickSize).stripTrailingZeros();
+        if (exact.scale() < 0) {
+            exact = exact.setScale(0);
+        }
+        if (exact.scale() > MAX_DECIMALS || exact.precision() > MAX_DECIMALS) {
+            throw new IllegalArgumentException(
+                "Tick size has too many digits: " + tickSize
+            );
+        }
+        this.tickUnits    = exact.unscaledValue().longValueExact();
+        this.tickDecimals = exact.scale();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Decimal price → ticks
+    // Rejects prices that are not on the tick grid
+    // ─────────────────────────────────────────────────
+    public long toTicks(double price) {
+        double ticks   = price / tickSize;
+        long   rounded = Math.round(ticks);
+        if (Math.abs(ticks - rounded) > TICK_EPSILON) {
+            throw new IllegalArgumentException(
+                "Price " + price +
+                " is not a multiple of tick size " + tickSize
+            );
+        }
+        return rounded;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Decimal digits → ticks, in integer arithmetic
+    // price = mantissa / 10^decimals, e.g. (250005, 2)
+    // for 2500.05. Rejects prices off the tick grid.
+    // ─────────────────────────────────────────────────
+    public long toTicks(long mantissa, int decimals) {
+        if (mantissa < 0 || decimals < 0 || decimals > MAX_DECIMALS) {
+            throw new IllegalArgumentException(
+                "Bad price: " + mantissa + " / 10^" + decimals
+            );
+        }
+
+        // ticks = mantissa * 10^tickDecimals
+        //       / (tickUnits * 10^decimals)
+        // Scale up whichever side has fewer decimals
+        long numerator   = mantissa;
+        long denominator = tickUnits;
+        if (decimals <= tickDecimals) {
+            long scale = POW10[tickDecimals - decimals];
+            if (mantissa > Long.MAX_VALUE / scale) {
+                throw new IllegalArgumentException(
+                    "Price out of range: " + text(mantissa, decimals)
+                );
+            }
+            numerator = mantissa * scale;
+        } else {
+            long scale = POW10[decimals - tickDecimals];
+            if (tickUnits > Long.MAX_VALUE / scale) {
+                // The tick dwarfs any mantissa: only 0 is on it
+                if (mantissa == 0) return 0;
+                throw offTick(mantissa, decimals);
+            }
+            denominator = tickUnits * scale;
+        }
+
+        if (numerator % denominator != 0) {
+            throw offTick(mantissa, decimals);
+        }
+        return numerator / denominator;
+    }
+
+    private IllegalArgumentException offTick(long mantissa, int decimals) {
+        return new IllegalArgumentException(
+            "Price " + text(mantissa, decimals) +
+            " is not a multiple of tick size " + tickSize
+        );
+    }
+
+    // Error messages only
+    private static String text(long mantissa, int decimals) {
+        return BigDecimal.valueOf(mantissa, decimals).toPlainString();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Ticks → decimal price (for display only)
+    // ─────────────────────────────────────────────────
+    public double toPrice(long ticks) {
+        return ticks * tickSize;
+    }
+
+    // ─────────────────────────────────────────────────
+    // Fractional ticks → decimal price
+    // Used for mid price, which can fall between ticks
+    // ─────────────────────────────────────────────────
+    public double toPrice(double ticks) {
+        return ticks * tickSize;
+    }
+
+    // Getters
+    public double getTickSize() { return tickSize; }
+
+    @Override
+    public String toString() {
+        return "PriceScale{tickSize=" + tickSize + "}";
+    }
+}
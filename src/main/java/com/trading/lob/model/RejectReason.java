@@ -0,0 +1,21 @@
+package com.trading.lob.model;
+
+/**
+ * Why the engine refused a request.
+ *
+ * UNKNOWN_ORDER = cancel or replace for an order ID
+ *                 that is not resting in the book (never existed,
+ *                 already filled or already cancelled)
+ * NOT_FILLABLE  = FOK order the book could not fill
+ *                 in full; nothing traded
+ * NO_PEG_PRICE  = Pegged order arrived with nothing to
+ *                 peg to (its reference side is empty)
+ * WOULD_CROSS   = Post-only order (or replace) that
+ *                 would have traded on arrival
+ */
+public enum RejectReason {
+    UNKNOWN_ORDER,  // Cancel / replace miss
+    NOT_FILLABLE,   // Fill-or-kill killed
+    NO_PEG_PRICE,   // Peg reference missing
+    WOULD_CROSS     // Post-only would take
+}
@@ -0,0 +1,28 @@
+package com.trading.lob.model;
+
+/**
+ * What happens when an incoming order would trade
+ * with a resting order of the same owner. Set on the
+ * incoming (newest) order; checked in the match loop
+ * against the front of each level.
+ *
+ * NONE          = Trades as normal (wash trade)
+ * CANCEL_NEWEST = Incoming order's remainder is
+ *                 cancelled, resting order stays
+ * CANCEL_OLDEST = Resting order is cancelled, the
+ *                 incoming one keeps matching
+ * CANCEL_BOTH   = Both are cancelled
+ * DECREMENT     = Both shrink by the smaller one's
+ *                 remaining quantity; whichever hits
+ *                 zero is gone, no trade is printed
+ *
+ * Orders with owner ID 0 are anonymous and never
+ * match as "the same owner".
+ */
+public enum SelfTradePrevention {
+    NONE,           // Allow
+    CANCEL_NEWEST,  // Drop the incoming remainder
+    CANCEL_OLDEST,  // Drop the resting order
+    CANCEL_BOTH,    // Drop both
+    DECREMENT       // Shrink both, no trade
+}
@@ -0,0 +1,32 @@
+package com.trading.lob.model;
+
+/**
+ * How long an order's unfilled part may live.
+ *
+ * DAY = Rests until cancelled or the session ends
+ *       (the default)
+ * GTC = Good till cancelled - rests until cancelled,
+ *       survives session end
+ * GTD = Good till date - rests until its expire time
+ * IOC = Immediate or cancel - trades what it can at
+ *       once, the rest is dropped, never rests
+ * FOK = Fill or kill - trades the whole quantity at
+ *       once or nothing at all, never rests
+ *
+ * Resting orders leave by MatchingEngine.expireOrders
+ * (DAY at session end, GTD once their time is up).
+ * Market orders behave as IOC whatever is set, and
+ * can be FOK.
+ */
+public enum TimeInForce {
+    DAY,   // Until session end
+    GTC,   // Until cancelled
+    GTD,   // Until expire time
+    IOC,   // Fill what you can, drop the rest
+    FOK;   // All or nothing, right now
+
+    // Never rests in the book
+    public boolean isImmediate() {
+        return this == IOC || this == FOK;
+    }
+}
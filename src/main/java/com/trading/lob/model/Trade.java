@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
  *   sellOrderId = Trader B's order ID
  *   quantity    = 300 (the matched amount)
  *   price       = ₹2500 (the matched price)
+ *
+ * Price is in ticks, see {@link PriceScale}.
  */
 public class Trade {
 
@@ -23,27 +25,38 @@ public class Trade {
     private final String symbol;
     private final long buyOrderId;
     private final long sellOrderId;
-    private final double price;
+    private final long price;    // in ticks
     private final int quantity;
     private final LocalDateTime timestamp;
 
     public Trade(String symbol, long buyOrderId,
-                 long sellOrderId, double price,
+                 long sellOrderId, long price,
                  int quantity) {
-        this.tradeId     = tradeCounter++;
+        this(tradeCounter++, symbol, buyOrderId, sellOrderId,
+             price, quantity, LocalDateTime.now());
+    }
+
+    // Rebuild a trade that was recorded earlier
+    // (e.g. read back from TradeHistory)
+    public Trade(long tradeId, String symbol,
+                 long buyOrderId, long sellOrderId,
+                 long price, int quantity,
+                 LocalDateTime timestamp) {
+        this.tradeId     = tradeId;
         this.symbol      = symbol;
         this.buyOrderId  = buyOrderId;
         this.sellOrderId = sellOrderId;
         this.price       = price;
         this.quantity    = quantity;
-        this.timestamp   = LocalDateTime.now();
+        this.timestamp   = timestamp;
     }
 
     // ─────────────────────────────────────────────────
     // Calculate total value of this trade
-    // Value = price * quantity
+    // Value = price * quantity (in ticks)
+    // Convert with PriceScale.toPrice() for display
     // ─────────────────────────────────────────────────
-    public double getValue() {
+    public long getValue() {
         return price * quantity;
     }
 
@@ -52,7 +65,7 @@ public class Trade {
     public String getSymbol()     { return symbol;      }
     public long getBuyOrderId()   { return buyOrderId;  }
     public long getSellOrderId()  { return sellOrderId; }
-    public double getPrice()      { return price;       }
+    public long getPrice()        { return price;       }
     public int getQuantity()      { return quantity;    }
     public LocalDateTime getTimestamp() { return timestamp; }
 
@@ -60,7 +73,7 @@ public class Trade {
     public String toString() {
         return String.format(
             "Trade{id=%d, %s, buyOrder=%d, sellOrder=%d, " +
-            "price=%.2f, qty=%d, value=%.2f}",
+            "price=%d, qty=%d, value=%d}",
             tradeId, symbol, buyOrderId, sellOrderId,
             price, quantity, getValue()
         );
@@ -0,0 +1,281 @@
+package com.trading.lob.snapshot;
+
+import com.trading.lob.book.BookSide;
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.book.PriceLevel;
+import com.trading.lob.book.TradeSink;
+import com.trading.lob.journal.Journal;
+import com.trading.lob.journal.OrderCodec;
+import com.trading.lob.model.Order;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Point-in-time binary image of a book.
+ *
+ * Stores every resting order, level by level from the
+ * best price outwards, each level in FIFO order - so
+ * loading it back restores exact time priority. Parked
+ * stop orders follow in trigger order, with the last
+ * trade they are measured against. Pegged orders are
+ * saved at the price they rest at and re-join the
+ * PegBook on load.
+ *
+ * File layout (big-endian):
+ * ┌───────┬─────────┬────────┬──────────┬────────────┐
+ * │ magic │ version │ symbol │ journal  │ nextOrder  │
+ * │ 4     │ 2       │ 2+n    │ seq 8    │ Id 8       │
+ * ├───────┴─────────┴────────┴──────────┴────────────┤
+ * │ last trade price 8 │ last trade quantity 4        │
+ * ├──────────────┬─────┴──────────────────────────────┤
+ * │ orderCount 4 │ orders (OrderCodec) × orderCount  │
+ * ├──────────────┼───────────────────────────────────┤
+ * │ stopCount 4  │ stops (OrderCodec) × stopCount    │
+ * ├──────────────┴────────────────────────────────────┤
+ * │ crc32 of everything before it, 8                  │
+ * └───────────────────────────────────────────────────┘
+ *
+ * journal seq is the last journal record already in
+ * the image. Restart = load snapshot + replay journal
+ * records after it (see restore), so restart time
+ * depends on book size, not session length.
+ */
+public final class BookSnapshot {
+
+    public static final int MAGIC   = 0x4C4F4253; // "LOBS"
+    public static final short VERSION = 6;
+
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+
+    private BookSnapshot() { }
+
+    // ─────────────────────────────────────────────────
+    // Bytes encode() needs for this engine's book
+    // ─────────────────────────────────────────────────
+    public static int encodedSize(MatchingEngine engine) {
+        OrderBook book = engine.getOrderBook();
+        byte[] symbol = book.getSymbol().getBytes(StandardCharsets.UTF_8);
+        return 4 + 2 + 2 + symbol.length + 8 + 8 + 8 + 4 + 4
+             + book.getTotalOrders() * OrderCodec.ORDER_BYTES
+             + 4 + engine.getStopBook().size() * OrderCodec.ORDER_BYTES
+             + 8;
+    }
+
+    // ─────────────────────────────────────────────────
+    // ENCODE the engine's book into out
+    //
+    // Runs on the matching thread; cost is one pass
+    // over resting orders copying 65 bytes each - no
+    // I/O. out must have encodedSize() bytes left.
+    // ─────────────────────────────────────────────────
+    public static void encode(MatchingEngine engine, ByteBuffer out) {
+        OrderBook book = engine.getOrderBook();
+        Journal journal = engine.getJournal();
+        byte[] symbol = book.getSymbol().getBytes(StandardCharsets.UTF_8);
+
+        int start = out.position();
+        out.putInt(MAGIC)
+           .putShort(VERSION)
+           .putShort((short) symbol.length)
+           .put(symbol)
+           .putLong(journal == null ? 0 : journal.getLastSequence())
+           .putLong(engine.peekNextOrderId())
+           .putLong(engine.getLastTradePrice())
+           .putInt(engine.getLastTradeQuantity())
+           .putInt(book.getTotalOrders());
+
+        putSide(book.getBids(), out);
+        putSide(book.getAsks(), out);
+
+        out.putInt(engine.getStopBook().size());
+        engine.getStopBook().forEach(o -> OrderCodec.put(out, o));
+
+        out.putLong(crc(out, start, out.position()));
+    }
+
+    private static void putSide(BookSide side, ByteBuffer out) {
+        for (PriceLevel level = side.getBestLevel(); level != null;
+             level = side.nextLevel(level.getPrice())) {
+            for (Order o = level.peek(); o != null; o = o.getNextInLevel()) {
+                OrderCodec.put(out, o);
+            }
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // DECODE into a fresh engine
+    // Returns the journal sequence the image covers
+    // ─────────────────────────────────────────────────
+    public static long decode(ByteBuffer in, MatchingEngine engine) {
+        int start = in.position();
+        if (in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a book snapshot");
+        }
+        short version = in.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException(
+                "Unsupported snapshot version: " + version
+            );
+        }
+        byte[] symbolBytes = new byte[in.getShort()];
+        in.get(symbolBytes);
+        String symbol = new String(symbolBytes, StandardCharsets.UTF_8);
+
+        OrderBook book = engine.getOrderBook();
+        if (!symbol.equals(book.getSymbol())) {
+            throw new IllegalArgumentException(
+                "Snapshot is for " + symbol + ", book is " + book.getSymbol()
+            );
+        }
+        if (book.getTotalOrders() != 0) {
+            throw new IllegalStateException(
+                "Load a snapshot into an empty book only"
+            );
+        }
+
+        long journalSequence = in.getLong();
+        long nextOrderId     = in.getLong();
+        long lastTradePrice  = in.getLong();
+        int  lastTradeQty    = in.getInt();
+        int  orderCount      = in.getInt();
+
+        // Verify before touching the book
+        int ordersStart = in.position();
+        int ordersEnd   = ordersStart + orderCount * OrderCodec.ORDER_BYTES;
+        int stopCount   = in.getInt(ordersEnd);
+        int stopsEnd    = ordersEnd + 4 + stopCount * OrderCodec.ORDER_BYTES;
+        long expected   = in.getLong(stopsEnd);
+        if (crc(in, start, stopsEnd) != expected) {
+            throw new IllegalArgumentException("Snapshot checksum mismatch");
+        }
+
+        // Saved best-first, FIFO: re-adding keeps priority
+        for (int i = 0; i < orderCount; i++) {
+            Order order = OrderCodec.getOrder(in, symbol);
+            book.addOrder(order);
+            if (order.getType().isPegged()) {
+                engine.getPegBook().add(order);
+            }
+        }
+        engine.getPegBook().refresh(book);
+        in.getInt();
+        for (int i = 0; i < stopCount; i++) {
+            engine.getStopBook().add(OrderCodec.getOrder(in, symbol));
+        }
+        in.position(stopsEnd + 8);
+
+        engine.reserveOrderIds(nextOrderId - 1);
+        engine.restoreLastTrade(lastTradePrice, lastTradeQty);
+        return journalSequence;
+    }
+
+    private static long crc(ByteBuffer buffer, int from, int to) {
+        CRC32 crc = new CRC32();
+        ByteBuffer view = buffer.duplicate();
+        view.limit(to).position(from);
+        crc.update(view);
+        return crc.getValue();
+    }
+
+    // ─────────────────────────────────────────────────
+    // FILES - written to a temp file, fsynced, then
+    // renamed, so a crash never leaves half a snapshot
+    // ─────────────────────────────────────────────────
+    static void writeFile(Path directory, long journalSequence,
+                          ByteBuffer encoded) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(fileName(journalSequence));
+        Path temp   = directory.resolve(fileName(journalSequence) + ".tmp");
+
+        try (FileChannel ch = FileChannel.open(temp,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (encoded.hasRemaining()) {
+                ch.write(encoded);
+            }
+            ch.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+                   StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // Synchronous snapshot, for tools and tests
+    public static Path write(Path directory, MatchingEngine engine) {
+        ByteBuffer buffer = ByteBuffer.allocate(encodedSize(engine));
+        encode(engine, buffer);
+        buffer.flip();
+        long seq = engine.getJournal() == null
+            ? 0 : engine.getJournal().getLastSequence();
+        try {
+            writeFile(directory, seq, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Snapshot write failed", e);
+        }
+        return directory.resolve(fileName(seq));
+    }
+
+    public static long load(Path file, MatchingEngine engine) {
+        try {
+            return decode(ByteBuffer.wrap(Files.readAllBytes(file)), engine);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                "Cannot read snapshot " + file, e);
+        }
+    }
+
+    // Newest snapshot in a directory, or null
+    public static Path latest(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(p -> {
+                    String n = p.getFileName().toString();
+                    return n.startsWith(PREFIX) && n.endsWith(SUFFIX);
+                })
+                .max(Path::compareTo)
+                .orElse(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                "Cannot list snapshots in " + directory, e);
+        }
+    }
+
+    static String fileName(long journalSequence) {
+        return String.format("%s%020d%s", PREFIX, journalSequence, SUFFIX);
+    }
+
+    // ─────────────────────────────────────────────────
+    // RESTORE = newest snapshot + journal tail
+    //
+    // Works with no snapshot (full replay) and with
+    // no journal (snapshot only). The engine must be
+    // fresh and have no journal attached.
+    // Returns the last journal sequence applied.
+    // ─────────────────────────────────────────────────
+    public static long restore(Path snapshotDirectory,
+                               Path journalDirectory,
+                               MatchingEngine engine) {
+        long sequence = 0;
+        Path snapshot = latest(snapshotDirectory);
+        if (snapshot != null) {
+            sequence = load(snapshot, engine);
+        }
+        TradeSink ignore = (b, s, p, q) -> { };
+        return Journal.rebuild(journalDirectory, sequence, engine, ignore);
+    }
+}
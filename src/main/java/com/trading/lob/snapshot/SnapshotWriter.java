@@ -0,0 +1,176 @@
+package com.trading.lob.snapshot;
+
+import com.trading.lob.book.MatchingEngine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Takes periodic snapshots without blocking matching
+ * on disk I/O.
+ *
+ * The matching thread only copies the book into a
+ * reused buffer (BookSnapshot.encode). That copy is
+ * O(resting orders) at 65 bytes per order, so it is
+ * not free: a book of 1M orders is ~65 MB, tens of
+ * milliseconds during which no command is matched.
+ * Take snapshots at a quiet moment, or size the
+ * interval to the book. Writing, fsync and rename
+ * happen on a background thread:
+ *
+ *  matching thread            snapshot-writer thread
+ *  ───────────────            ──────────────────────
+ *  snapshot(engine)
+ *    encode → buffer  ──────→ write temp file, fsync,
+ *    return                   rename to snapshot-<seq>
+ *
+ * One snapshot in flight at a time: calling snapshot()
+ * while the previous one is still being written skips
+ * it and returns false. If encoding or the hand-off
+ * fails, the slot is freed again and the failure is
+ * kept in getLastError before it is rethrown, so the
+ * next snapshot still runs.
+ *
+ * The buffer grows off the matching thread: after each
+ * write, if the image used more than two thirds of the
+ * buffer, the writer thread allocates a spare twice the
+ * image size, and the next snapshot() swaps it in. Only
+ * a book that outgrows that headroom between two
+ * snapshots (or the first one, unless initialBytes is
+ * sized for it) still allocates on the matching thread.
+ */
+public class SnapshotWriter implements AutoCloseable {
+
+    private final Path directory;
+    private final ExecutorService writer;
+    private final AtomicBoolean busy = new AtomicBoolean();
+
+    // Reused between snapshots; owned by the matching
+    // thread
+    private ByteBuffer buffer;
+
+    // Bigger buffer allocated by the writer thread, taken
+    // by the next snapshot()
+    private volatile ByteBuffer spare;
+
+    private volatile Path lastWritten;
+    private volatile Exception lastError;
+
+    public SnapshotWriter(Path directory) {
+        this(directory, 64 * 1024);
+    }
+
+    // initialBytes: pre-size for the expected book, e.g.
+    // orders × 65, so the first snapshot does not grow
+    public SnapshotWriter(Path directory, int initialBytes) {
+        if (initialBytes <= 0) {
+            throw new IllegalArgumentException(
+                "initialBytes must be positive: " + initialBytes);
+        }
+        this.directory = directory;
+        this.buffer    = ByteBuffer.allocate(initialBytes);
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "snapshot-writer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // ─────────────────────────────────────────────────
+    // SNAPSHOT - call from the engine's matching thread,
+    // between commands. Returns false if skipped.
+    // ─────────────────────────────────────────────────
+    public boolean snapshot(MatchingEngine engine) {
+        if (!busy.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            int needed = BookSnapshot.encodedSize(engine);
+            ByteBuffer grown = spare;
+            if (grown != null) {
+                spare = null;
+                if (grown.capacity() > buffer.capacity()) {
+                    buffer = grown;
+                }
+            }
+            if (buffer.capacity() < needed) {
+                // Outgrew the spare: no choice but to allocate here
+                buffer = ByteBuffer.allocate(Math.max(needed,
+                                                      buffer.capacity() * 2));
+            }
+            buffer.clear();
+            BookSnapshot.encode(engine, buffer);
+            buffer.flip();
+
+            long sequence = engine.getJournal() == null
+                ? 0 : engine.getJournal().getLastSequence();
+            ByteBuffer encoded = buffer;
+            writer.execute(() -> write(sequence, encoded));
+            return true;
+        } catch (RejectedExecutionException e) {
+            busy.set(false);
+            lastError = e;
+            throw new IllegalStateException("SnapshotWriter is closed", e);
+        } catch (RuntimeException e) {
+            // Nothing was handed off: free the slot here
+            busy.set(false);
+            lastError = e;
+            throw e;
+        }
+    }
+
+    private void write(long sequence, ByteBuffer encoded) {
+        try {
+            BookSnapshot.writeFile(directory, sequence, encoded);
+            lastWritten = directory.resolve(BookSnapshot.fileName(sequence));
+            lastError   = null;
+            growSpare(encoded);
+        } catch (IOException e) {
+            lastError = e;
+        } finally {
+            busy.set(false);
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Writer thread: if the image filled more than two
+    // thirds of the buffer, allocate the next one here
+    // rather than on the matching thread
+    // ─────────────────────────────────────────────────
+    private void growSpare(ByteBuffer encoded) {
+        int used = encoded.limit();
+        if (used > encoded.capacity() / 3 * 2) {
+            int size = (int) Math.min(Integer.MAX_VALUE - 8, (long) used * 2);
+            if (size > encoded.capacity()) {
+                spare = ByteBuffer.allocate(size);
+            }
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Wait for the snapshot in flight, stop the thread
+    // ─────────────────────────────────────────────────
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Getters
+    public Path getDirectory()      { return directory;         }
+    public Path getLastWritten()    { return lastWritten;       }
+    public Exception getLastError() { return lastError;         }
+    public boolean isWriting()      { return busy.get();        }
+    public int getBufferCapacity()  { return buffer.capacity(); }
+}
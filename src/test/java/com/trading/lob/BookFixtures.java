@@ -0,0 +1,116 @@
+package com.trading.lob;
+
+import com.trading.lob.book.BookSide;
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.book.PriceLevel;
+import com.trading.lob.journal.Journal;
+import com.trading.lob.marketdata.MarketByOrderBook;
+import com.trading.lob.marketdata.MarketByOrderFeed;
+import com.trading.lob.marketdata.MarketByPriceBook;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared fixtures for the consistency tests
+ *
+ * One place for the check every feature repeats: the
+ * live book against what its feeds and its journal
+ * rebuilt.
+ *
+ *  live engine ─┬─→ MBO feed  → L3 book  ┐
+ *               ├─→ levels    → L2 book  ├─ same book?
+ *               └─→ journal   → rebuilt  ┘
+ */
+final class BookFixtures {
+
+    private BookFixtures() {
+    }
+
+    // Random adds, crosses and cancels around 2500.00
+    static void runSession(MatchingEngine engine, int commands, long seed) {
+        Random random = new Random(seed);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < commands; i++) {
+            if (!ids.isEmpty() && random.nextInt(4) == 0) {
+                engine.cancelOrder(ids.remove(random.nextInt(ids.size())));
+                continue;
+            }
+            long id = engine.getNextOrderId();
+            OrderSide side = random.nextBoolean()
+                ? OrderSide.BID : OrderSide.ASK;
+            OrderType type = random.nextInt(20) == 0
+                ? OrderType.MARKET : OrderType.LIMIT;
+            long price = type == OrderType.MARKET
+                ? 0 : 250_000 + random.nextInt(41) - 20;
+            engine.submitOrder(new Order(id, "RELIANCE", side, type,
+                price, 1 + random.nextInt(500)), (b, s, p, q) -> { });
+            ids.add(id);
+        }
+    }
+
+    // Every level's price, volume and FIFO order IDs
+    static String describe(OrderBook book) {
+        StringBuilder sb = new StringBuilder();
+        for (BookSide side : new BookSide[] {book.getBids(), book.getAsks()}) {
+            sb.append(side.getSide()).append(':');
+            for (PriceLevel level = side.getBestLevel(); level != null;
+                 level = side.nextLevel(level.getPrice())) {
+                sb.append(' ').append(level.getPrice())
+                  .append('x').append(level.getTotalVolume()).append('[');
+                for (Order o = level.peek(); o != null; o = o.getNextInLevel()) {
+                    sb.append(o.getOrderId()).append('/')
+                      .append(o.getQuantity()).append(',');
+                }
+                sb.append(']');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    // ─────────────────────────────────────────────────
+    // Same levels, volumes and FIFO queues
+    // ─────────────────────────────────────────────────
+    static void assertSameBook(MatchingEngine expected, MatchingEngine actual) {
+        assertEquals(describe(expected.getOrderBook()),
+                     describe(actual.getOrderBook()));
+    }
+
+    // ─────────────────────────────────────────────────
+    // Flush the MBO feed, then check the L3 book order
+    // by order and the L2 book's best prices. l2 may
+    // be null when the test only has an L3 feed.
+    // ─────────────────────────────────────────────────
+    static void assertFeedsMatch(MatchingEngine live, MarketByOrderFeed feed,
+                                 MarketByOrderBook l3, MarketByPriceBook l2) {
+        feed.flush();
+        l3.verifyAgainst(live.getOrderBook());
+        if (l2 != null) {
+            assertEquals(live.getOrderBook().getBestBid(),
+                         l2.getBestPrice(OrderSide.BID));
+            assertEquals(live.getOrderBook().getBestAsk(),
+                         l2.getBestPrice(OrderSide.ASK));
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // Rebuild a fresh engine from the journal in dir
+    // and check it matches live; returns it for any
+    // further checks
+    // ─────────────────────────────────────────────────
+    static MatchingEngine assertReplayMatches(MatchingEngine live, Path dir) {
+        MatchingEngine rebuilt = new MatchingEngine(
+            new OrderBook(live.getOrderBook().getSymbol()));
+        Journal.rebuild(dir, rebuilt);
+        assertSameBook(live, rebuilt);
+        return rebuilt;
+    }
+}
@@ -0,0 +1,245 @@
+package com.trading.lob;
+
+import com.trading.lob.book.ArrayBookSide;
+import com.trading.lob.book.BookConfig;
+import com.trading.lob.book.BookSide;
+import com.trading.lob.book.BookSideType;
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.book.PriceLevel;
+import com.trading.lob.book.TreeBookSide;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit Tests for BookSide implementations
+ *
+ * Tests the array ladder against the TreeMap side:
+ * - Best price on each side
+ * - Priority-order iteration
+ * - Far prices falling back to the sparse map
+ * - Window recentering when the touch moves away,
+ *   even with a stale level left behind
+ */
+class BookSideTest {
+
+    // Small ladder so tests can step outside the window
+    private static final int LADDER = 16;
+
+    // ─────────────────────────────────────────────────
+    // BEST PRICE TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Array ask side should track lowest price")
+    void testArrayAskBestPrice() {
+        BookSide asks = new ArrayBookSide(OrderSide.ASK, LADDER);
+
+        asks.getOrCreateLevel(250300);
+        asks.getOrCreateLevel(250100);
+        asks.getOrCreateLevel(250200);
+
+        assertEquals(250100, asks.getBestPrice());
+        assertEquals(3, asks.size());
+    }
+
+    @Test
+    @DisplayName("Array bid side should track highest price")
+    void testArrayBidBestPrice() {
+        BookSide bids = new ArrayBookSide(OrderSide.BID, LADDER);
+
+        bids.getOrCreateLevel(249800);
+        bids.getOrCreateLevel(250000);
+        bids.getOrCreateLevel(249900);
+
+        assertEquals(250000, bids.getBestPrice());
+    }
+
+    @Test
+    @DisplayName("Removing best level should scan to next level")
+    void testRemoveBestScansToNext() {
+        BookSide asks = new ArrayBookSide(OrderSide.ASK, LADDER);
+
+        PriceLevel best = asks.getOrCreateLevel(100);
+        asks.getOrCreateLevel(103);
+        asks.getOrCreateLevel(105);
+
+        asks.removeLevel(best);
+
+        assertEquals(103, asks.getBestPrice());
+        assertNull(asks.getLevel(100));
+        assertEquals(2, asks.size());
+    }
+
+    @Test
+    @DisplayName("Empty array side should return zero best price")
+    void testEmptyArraySide() {
+        BookSide bids = new ArrayBookSide(OrderSide.BID, LADDER);
+
+        assertTrue(bids.isEmpty());
+        assertEquals(0, bids.getBestPrice());
+        assertNull(bids.getBestLevel());
+    }
+
+    // ─────────────────────────────────────────────────
+    // SPARSE FALLBACK AND RECENTER TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Far price better than window should be best")
+    void testFarBetterPriceInSparseMap() {
+        BookSide asks = new ArrayBookSide(OrderSide.ASK, LADDER);
+
+        asks.getOrCreateLevel(1000);
+        // Far below the window (LADDER = 16 ticks)
+        asks.getOrCreateLevel(500);
+
+        assertEquals(500, asks.getBestPrice());
+        assertEquals(2, asks.size());
+    }
+
+    @Test
+    @DisplayName("Window should recenter when touch moves away")
+    void testRecenterAfterWindowDrains() {
+        BookSide bids = new ArrayBookSide(OrderSide.BID, LADDER);
+
+        PriceLevel near = bids.getOrCreateLevel(1000);
+        bids.getOrCreateLevel(900);
+        bids.getOrCreateLevel(895);
+
+        bids.removeLevel(near);
+
+        // Window moved onto 900, 895 pulled in with it
+        assertEquals(900, bids.getBestPrice());
+        assertEquals(895, bids.nextLevel(900).getPrice());
+
+        PriceLevel level = bids.getOrCreateLevel(901);
+        assertEquals(901, bids.getBestPrice());
+        assertSame(level, bids.getLevel(901));
+    }
+
+    @Test
+    @DisplayName("Stale level should not pin the window as the touch drifts")
+    void testDriftPastStaleLevel() {
+        ArrayBookSide bids = new ArrayBookSide(OrderSide.BID, LADDER);
+        PriceLevel stale = bids.getOrCreateLevel(1000);
+
+        // Touch walks up 200 ticks, one level at a time
+        PriceLevel touch = bids.getOrCreateLevel(1001);
+        for (long price = 1002; price <= 1200; price++) {
+            PriceLevel next = bids.getOrCreateLevel(price);
+            bids.removeLevel(touch);
+            touch = next;
+            assertTrue(bids.isInWindow(price), "Touch left the window");
+        }
+
+        assertEquals(1200, bids.getBestPrice());
+        assertFalse(bids.isInWindow(1000));
+        assertSame(stale, bids.getLevel(1000));
+        assertEquals(List.of(1200L, 1000L), prices(bids));
+
+        // And back down onto the stale level
+        bids.removeLevel(touch);
+        assertEquals(1000, bids.getBestPrice());
+        assertTrue(bids.isInWindow(1000));
+    }
+
+    // ─────────────────────────────────────────────────
+    // ITERATION TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("nextLevel should walk window and sparse in order")
+    void testIterationMixesWindowAndSparse() {
+        BookSide asks = new ArrayBookSide(OrderSide.ASK, LADDER);
+
+        asks.getOrCreateLevel(1000);
+        asks.getOrCreateLevel(1003);
+        asks.getOrCreateLevel(5000);
+        asks.getOrCreateLevel(10);
+
+        assertEquals(List.of(10L, 1000L, 1003L, 5000L), prices(asks));
+    }
+
+    @Test
+    @DisplayName("Array ladder should match TreeMap on random flow")
+    void testArrayMatchesTreeOnRandomFlow() {
+        Random random = new Random(42);
+
+        for (OrderSide side : OrderSide.values()) {
+            BookSide tree  = new TreeBookSide(side);
+            BookSide array = new ArrayBookSide(side, LADDER);
+
+            for (int i = 0; i < 5_000; i++) {
+                // Mostly near 1000, sometimes far away
+                long price = random.nextInt(10) == 0
+                    ? 900 + random.nextInt(200)
+                    : 995 + random.nextInt(10);
+
+                if (random.nextBoolean()) {
+                    tree.getOrCreateLevel(price);
+                    array.getOrCreateLevel(price);
+                } else {
+                    PriceLevel t = tree.getLevel(price);
+                    PriceLevel a = array.getLevel(price);
+                    assertEquals(t == null, a == null);
+                    if (t != null) {
+                        tree.removeLevel(t);
+                        array.removeLevel(a);
+                    }
+                }
+
+                assertEquals(tree.getBestPrice(), array.getBestPrice());
+                assertEquals(tree.size(), array.size());
+            }
+            assertEquals(prices(tree), prices(array));
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // ENGINE ON ARRAY LADDER
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Engine should match on an array ladder book")
+    void testEngineOnArrayLadder() {
+        OrderBook book = new OrderBook("RELIANCE",
+            BookConfig.defaults().withArrayLadder(LADDER));
+        MatchingEngine engine = new MatchingEngine(book);
+
+        engine.submitOrder(new Order(engine.getNextOrderId(),
+            "RELIANCE", OrderSide.ASK, OrderType.LIMIT, 250100, 300));
+        engine.submitOrder(new Order(engine.getNextOrderId(),
+            "RELIANCE", OrderSide.ASK, OrderType.LIMIT, 250200, 500));
+        engine.submitOrder(new Order(engine.getNextOrderId(),
+            "RELIANCE", OrderSide.BID, OrderType.LIMIT, 250100, 300));
+
+        assertEquals(250200, book.getBestAsk());
+        assertEquals(1, book.getTotalOrders());
+
+        // The ladder is also what a plain book gets
+        assertEquals(BookSideType.ARRAY,
+                     BookConfig.defaults().getSideType());
+        assertTrue(new OrderBook("RELIANCE").getBids()
+            instanceof ArrayBookSide);
+    }
+
+    // Walk a side best-first and collect its prices
+    private static List<Long> prices(BookSide side) {
+        List<Long> prices = new ArrayList<>();
+        for (PriceLevel level = side.getBestLevel();
+             level != null;
+             level = side.nextLevel(level.getPrice())) {
+            prices.add(level.getPrice());
+        }
+        return prices;
+    }
+}
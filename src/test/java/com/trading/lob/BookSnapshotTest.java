@@ -0,0 +1,136 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.journal.FsyncPolicy;
+import com.trading.lob.journal.Journal;
+import com.trading.lob.snapshot.BookSnapshot;
+import com.trading.lob.snapshot.SnapshotWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit Tests for BookSnapshot and SnapshotWriter
+ *
+ * Tests fast restart:
+ * - Snapshot + journal tail equals the live book
+ * - Background writer produces a loadable file, and
+ *   a failed hand-off does not wedge it
+ * - A nearly full buffer is grown by the writer thread
+ * - Corrupt snapshots are refused
+ */
+class BookSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    private Path journalDir;
+    private Path snapshotDir;
+
+    @BeforeEach
+    void setUp() {
+        journalDir  = dir.resolve("journal");
+        snapshotDir = dir.resolve("snapshots");
+    }
+
+    @Test
+    @DisplayName("Snapshot plus journal tail should restore the live book")
+    void testRestoreFromSnapshotAndTail() {
+        MatchingEngine live = new MatchingEngine(new OrderBook("RELIANCE"));
+        try (Journal journal = new Journal(journalDir, FsyncPolicy.none());
+             SnapshotWriter snapshots = new SnapshotWriter(snapshotDir)) {
+            live.setJournal(journal);
+            BookFixtures.runSession(live, 3_000, 7L);
+            assertTrue(snapshots.snapshot(live));
+            BookFixtures.runSession(live, 1_000, 8L);
+        }
+
+        Path snapshot = BookSnapshot.latest(snapshotDir);
+        assertNotNull(snapshot);
+
+        MatchingEngine restored = new MatchingEngine(new OrderBook("RELIANCE"));
+        long last = BookSnapshot.restore(snapshotDir, journalDir, restored);
+
+        assertEquals(4_000, last);
+        BookFixtures.assertSameBook(live, restored);
+        assertEquals(live.peekNextOrderId(), restored.peekNextOrderId());
+    }
+
+    @Test
+    @DisplayName("Snapshot alone should keep FIFO order and next ID")
+    void testSnapshotRoundTrip() {
+        MatchingEngine live = new MatchingEngine(new OrderBook("RELIANCE"));
+        BookFixtures.runSession(live, 2_000, 3L);
+        Path file = BookSnapshot.write(snapshotDir, live);
+
+        MatchingEngine loaded = new MatchingEngine(new OrderBook("RELIANCE"));
+        assertEquals(0, BookSnapshot.load(file, loaded));
+        BookFixtures.assertSameBook(live, loaded);
+        assertEquals(live.getOrderBook().getTotalOrders(),
+                     loaded.getOrderBook().getTotalOrders());
+        assertEquals(live.peekNextOrderId(), loaded.peekNextOrderId());
+    }
+
+    @Test
+    @DisplayName("Corrupt snapshot should be refused")
+    void testCorruptSnapshot() throws IOException {
+        MatchingEngine live = new MatchingEngine(new OrderBook("RELIANCE"));
+        BookFixtures.runSession(live, 500, 5L);
+        Path file = BookSnapshot.write(snapshotDir, live);
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(file, bytes);
+
+        MatchingEngine target = new MatchingEngine(new OrderBook("RELIANCE"));
+        assertThrows(IllegalArgumentException.class,
+            () -> BookSnapshot.load(file, target));
+        assertEquals(0, target.getOrderBook().getTotalOrders(),
+            "Nothing should be loaded from a bad file");
+    }
+
+    @Test
+    @DisplayName("Failed hand-off should free the writer and be recorded")
+    void testFailedHandOff() {
+        MatchingEngine live = new MatchingEngine(new OrderBook("RELIANCE"));
+        BookFixtures.runSession(live, 500, 9L);
+        SnapshotWriter snapshots = new SnapshotWriter(snapshotDir);
+        snapshots.close();
+
+        assertThrows(IllegalStateException.class,
+            () -> snapshots.snapshot(live));
+        assertFalse(snapshots.isWriting(), "Busy flag must be cleared");
+        assertNotNull(snapshots.getLastError());
+        assertThrows(IllegalStateException.class,
+            () -> snapshots.snapshot(live), "Not skipped as busy");
+    }
+
+    @Test
+    @DisplayName("Writer thread should grow a nearly full buffer for the next snapshot")
+    void testBufferGrownOffMatchingThread() throws InterruptedException {
+        MatchingEngine live = new MatchingEngine(new OrderBook("RELIANCE"));
+        BookFixtures.runSession(live, 500, 4L);
+        int size = BookSnapshot.encodedSize(live);
+
+        try (SnapshotWriter snapshots = new SnapshotWriter(snapshotDir, size)) {
+            assertTrue(snapshots.snapshot(live));
+            while (snapshots.isWriting()) {
+                Thread.sleep(1);
+            }
+            assertEquals(size, snapshots.getBufferCapacity(),
+                "Exact fit: no growth on the matching thread");
+
+            assertTrue(snapshots.snapshot(live));
+            assertEquals(size * 2, snapshots.getBufferCapacity(),
+                "Spare from the writer thread should be swapped in");
+            assertNull(snapshots.getLastError());
+        }
+    }
+}
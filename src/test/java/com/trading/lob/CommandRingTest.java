@@ -0,0 +1,216 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.ingress.CommandHandler;
+import com.trading.lob.ingress.CommandRing;
+import com.trading.lob.ingress.CommandType;
+import com.trading.lob.ingress.EngineIngress;
+import com.trading.lob.ingress.OrderCommand;
+import com.trading.lob.ingress.WaitStrategy;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit Tests for CommandRing and EngineIngress
+ *
+ * Tests the lock-free command handoff:
+ * - Batches arrive in sequence order
+ * - Many producers lose and reorder nothing
+ * - A throwing last command still closes the batch
+ * - Engine behind the ring matches correctly; a
+ *   failing command is counted and skipped
+ */
+class CommandRingTest {
+
+    // ─────────────────────────────────────────────────
+    // RING TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Consumer should see published commands as one batch")
+    void testSingleProducerBatch() {
+        CommandRing ring = new CommandRing(8, false, WaitStrategy.BUSY_SPIN);
+        for (long id = 1; id <= 5; id++) {
+            long seq = ring.next();
+            ring.get(seq).setCancel(id);
+            ring.publish(seq);
+        }
+
+        long[] seen = new long[5];
+        int[]  endOfBatch = new int[1];
+        int handled = ring.poll((cmd, seq, end) -> {
+            assertEquals(CommandType.CANCEL, cmd.getType());
+            seen[(int) seq] = cmd.getOrderId();
+            if (end) endOfBatch[0]++;
+        });
+
+        assertEquals(5, handled);
+        assertArrayEquals(new long[] {1, 2, 3, 4, 5}, seen);
+        assertEquals(1, endOfBatch[0], "Only the last is end of batch");
+        assertEquals(0, ring.poll((cmd, seq, end) -> fail()));
+    }
+
+    @Test
+    @DisplayName("Consumer should stop at an unpublished gap")
+    void testStopsAtGap() {
+        CommandRing ring = new CommandRing(8, true, WaitStrategy.BUSY_SPIN);
+        long first  = ring.next();
+        long second = ring.next();
+        ring.get(second).setCancel(2L);
+        ring.publish(second);
+
+        assertEquals(0, ring.poll((cmd, seq, end) -> fail()));
+
+        ring.get(first).setCancel(1L);
+        ring.publish(first);
+        assertEquals(2, ring.poll((cmd, seq, end) -> { }));
+    }
+
+    @Test
+    @DisplayName("Throwing last command should still close the batch")
+    void testEndOfBatchAfterFailure() {
+        CommandRing ring = new CommandRing(8, false, WaitStrategy.BUSY_SPIN);
+        for (long id = 1; id <= 3; id++) {
+            long seq = ring.next();
+            ring.get(seq).setCancel(id);
+            ring.publish(seq);
+        }
+
+        int[] closed = new int[1];
+        CommandHandler failLast = new CommandHandler() {
+            @Override
+            public void onCommand(OrderCommand cmd, long seq, boolean end) {
+                if (cmd.getOrderId() >= 2) {
+                    throw new IllegalStateException("bad " + seq);
+                }
+            }
+
+            @Override
+            public void endOfBatch() {
+                closed[0]++;
+            }
+        };
+
+        // Middle command fails: the batch is not over yet
+        assertThrows(IllegalStateException.class, () -> ring.poll(failLast));
+        assertEquals(0, closed[0]);
+
+        // Last command fails: the ring closes the batch
+        assertThrows(IllegalStateException.class, () -> ring.poll(failLast));
+        assertEquals(1, closed[0]);
+        assertEquals(3, ring.getConsumedSequence());
+    }
+
+    @Test
+    @DisplayName("Many producers should deliver every command in order")
+    void testMultiProducer() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 50_000;
+        CommandRing ring = new CommandRing(64, true, WaitStrategy.YIELD);
+
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            final long base = (long) p << 32;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    long seq = ring.next();
+                    ring.get(seq).setCancel(base | i);
+                    ring.publish(seq);
+                }
+            });
+            threads[p].start();
+        }
+
+        // Per-producer counter must rise by exactly one each time
+        long[] nextExpected = new long[producers];
+        long total = 0;
+        while (total < (long) producers * perProducer) {
+            total += ring.poll((cmd, seq, end) -> {
+                int p = (int) (cmd.getOrderId() >>> 32);
+                long i = cmd.getOrderId() & 0xFFFF_FFFFL;
+                assertEquals(nextExpected[p], i);
+                nextExpected[p]++;
+            });
+        }
+        for (Thread t : threads) t.join();
+
+        for (int p = 0; p < producers; p++) {
+            assertEquals(perProducer, nextExpected[p]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a capacity that is not a power of two")
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new CommandRing(100, false, WaitStrategy.PARK));
+    }
+
+    // ─────────────────────────────────────────────────
+    // ENGINE INGRESS TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Gateway threads should trade through the ring")
+    void testIngressMatchesFromManyThreads() throws InterruptedException {
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        AtomicLong filled = new AtomicLong();
+        EngineIngress ingress = new EngineIngress(engine,
+            new CommandRing(1024, true, WaitStrategy.PARK),
+            (buyId, sellId, price, qty) -> filled.addAndGet(qty));
+
+        int perThread = 10_000;
+        Thread sellers = new Thread(() -> {
+            for (int i = 0; i < perThread; i++) {
+                ingress.submitNew(1_000_000 + i, OrderSide.ASK,
+                    OrderType.LIMIT, 250_100, 10);
+            }
+        });
+        Thread buyers = new Thread(() -> {
+            for (int i = 0; i < perThread; i++) {
+                ingress.submitNew(2_000_000 + i, OrderSide.BID,
+                    OrderType.LIMIT, 250_100, 10);
+            }
+        });
+        sellers.start();
+        buyers.start();
+        sellers.join();
+        buyers.join();
+        ingress.close();
+
+        assertEquals(perThread * 10L, filled.get());
+        assertEquals(0, engine.getOrderBook().getTotalOrders());
+    }
+
+    @Test
+    @DisplayName("Replace should move a resting order to its new price")
+    void testIngressReplace() {
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        List<Throwable> errors = new ArrayList<>();
+        EngineIngress ingress = new EngineIngress(engine,
+            new CommandRing(16, false, WaitStrategy.BUSY_SPIN),
+            (buyId, sellId, price, qty) -> { }, errors::add);
+
+        ingress.submitNew(1L, OrderSide.BID, OrderType.LIMIT, 250_000, 100);
+        ingress.replace(1L, 249_900, 0);     // throws, counted, skipped
+        ingress.replace(1L, 249_900, 40);
+        ingress.replace(99L, 249_900, 40);   // unknown, ignored
+        ingress.close();
+
+        assertEquals(1, ingress.getFailureCount());
+        assertTrue(errors.get(0) instanceof IllegalArgumentException);
+
+        OrderBook book = engine.getOrderBook();
+        assertEquals(249_900, book.getBestBid());
+        assertEquals(40, book.getBestBidLevel().getTotalVolume());
+        assertEquals(1, book.getTotalOrders());
+    }
+}
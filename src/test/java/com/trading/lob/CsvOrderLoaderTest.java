@@ -0,0 +1,148 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.csv.CsvOrderLoader;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.PriceScale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit Tests for the streaming CSV order loader
+ *
+ * Tests:
+ * - data/sample_orders.csv loads into one book per symbol
+ * - Lines split across buffer refills, CRLF, no header
+ * - Bad lines and off-tick prices name the line
+ * - Prices convert exactly past double precision
+ */
+class CsvOrderLoaderTest {
+
+    private final Map<String, MatchingEngine> engines = new HashMap<>();
+
+    private MatchingEngine engineFor(String symbol) {
+        return engines.computeIfAbsent(symbol,
+            s -> new MatchingEngine(new OrderBook(s)));
+    }
+
+    private long load(String csv, int bufferBytes) throws IOException {
+        CsvOrderLoader loader = new CsvOrderLoader(this::engineFor,
+            (b, s, p, q) -> { }, bufferBytes);
+        return loader.load(new ByteArrayInputStream(
+            csv.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    // ─────────────────────────────────────────────────
+    // LOAD TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Sample file should load into one book per symbol")
+    void testSampleFile() throws IOException {
+        CsvOrderLoader loader = new CsvOrderLoader(this::engineFor);
+        assertEquals(10, loader.load(Paths.get("data/sample_orders.csv")));
+        assertEquals(2, loader.getSymbolCount());
+
+        // Market buy 200 took from 2501.00, market sell
+        // 300 from 2500.00
+        MatchingEngine reliance = engines.get("RELIANCE");
+        OrderBook book = reliance.getOrderBook();
+        assertEquals(2, reliance.getTotalTrades());
+        assertEquals(250_000, book.getBestBid());
+        assertEquals(200, book.getBestBidLevel().getTotalVolume());
+        assertEquals(250_100, book.getBestAsk());
+        assertEquals(100, book.getBestAskLevel().getTotalVolume());
+        assertEquals(9, reliance.peekNextOrderId());
+
+        OrderBook tcs = engines.get("TCS").getOrderBook();
+        assertEquals(380_000, tcs.getBestBid());
+        assertEquals(380_200, tcs.getBestAsk());
+    }
+
+    @Test
+    @DisplayName("Tiny buffer and CRLF should build the same book")
+    void testBufferBoundaries() throws IOException {
+        MatchingEngine direct = new MatchingEngine(new OrderBook("RELIANCE"));
+        StringBuilder csv = new StringBuilder();
+        Random random = new Random(5);
+        for (int id = 1; id <= 2_000; id++) {
+            OrderSide side = random.nextBoolean()
+                ? OrderSide.BID : OrderSide.ASK;
+            OrderType type = random.nextInt(20) == 0
+                ? OrderType.MARKET : OrderType.LIMIT;
+            long price = type == OrderType.MARKET
+                ? 0 : 250_000 + random.nextInt(41) - 20;
+            int qty = 1 + random.nextInt(500);
+            direct.submitOrder(new Order(id, "RELIANCE", side, type,
+                price, qty), (b, s, p, q) -> { });
+
+            if (id > 1) csv.append("\r\n");
+            csv.append(id).append(",RELIANCE,").append(side).append(',')
+               .append(type).append(',').append(price / 100).append('.')
+               .append(String.format("%02d", price % 100)).append(',')
+               .append(qty);
+            if (id % 3 == 0) csv.append(",note, with a comma");
+        }
+
+        assertEquals(2_000, load(csv.toString(), 16));
+        BookFixtures.assertSameBook(direct, engines.get("RELIANCE"));
+    }
+
+    // ─────────────────────────────────────────────────
+    // ERROR TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Bad lines should be rejected with their line number")
+    void testBadLines() {
+        String header = "order_id,symbol,side,type,price,quantity,notes\n";
+
+        IllegalArgumentException side = assertThrows(
+            IllegalArgumentException.class,
+            () -> load(header + "1,RELIANCE,BUY,LIMIT,2500.00,5,x\n", 64));
+        assertTrue(side.getMessage().startsWith("Line 2: Unknown side"),
+            side.getMessage());
+
+        IllegalArgumentException tick = assertThrows(
+            IllegalArgumentException.class,
+            () -> load("1,RELIANCE,BID,LIMIT,2500.00,5\n" +
+                       "2,RELIANCE,BID,LIMIT,2500.005,5\n", 64));
+        assertTrue(tick.getMessage().startsWith("Line 2:"),
+            tick.getMessage());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> load("3,RELIANCE,ASK,LIMIT,,5\n", 64));
+    }
+
+    @Test
+    @DisplayName("Prices should convert to ticks exactly, past 2^53")
+    void testExactPrices() throws IOException {
+        // 9007199254740993 ticks = 2^53 + 1: no double holds it
+        load("1,RELIANCE,BID,LIMIT,90071992547409.93,5\n", 64);
+        assertEquals(9_007_199_254_740_993L,
+                     engines.get("RELIANCE").getOrderBook().getBestBid());
+
+        // 1e-9 off the tick: inside the old epsilon, still refused
+        assertThrows(IllegalArgumentException.class,
+            () -> load("2,RELIANCE,ASK,LIMIT,2500.000000001,5\n", 64));
+
+        PriceScale nickel = new PriceScale(0.05);
+        assertEquals(50_001L, nickel.toTicks(250_005L, 2));
+        assertEquals(50_001L, nickel.toTicks(2_500_050_000L, 6));
+        assertEquals(2L, nickel.toTicks(1L, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> nickel.toTicks(250_003L, 2));
+    }
+}
@@ -0,0 +1,144 @@
+package com.trading.lob;
+
+import com.trading.lob.book.DepthSnapshot;
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Unit Tests for level-2 depth reads
+ *
+ * Tests:
+ * - Top levels best first, with volume and order count
+ * - Cached depth is refreshed after every kind of change
+ * - Repeated reads of an unchanged book allocate nothing
+ */
+class DepthSnapshotTest {
+
+    private MatchingEngine engine;
+    private OrderBook book;
+
+    @BeforeEach
+    void setUp() {
+        book   = new OrderBook("RELIANCE");
+        engine = new MatchingEngine(book);
+    }
+
+    private long submit(OrderSide side, OrderType type, long price, int qty) {
+        long id = engine.getNextOrderId();
+        engine.submitOrder(new Order(id, "RELIANCE", side, type, price, qty));
+        return id;
+    }
+
+    // ─────────────────────────────────────────────────
+    // DEPTH TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Depth should list top levels best first")
+    void testTopLevels() {
+        submit(OrderSide.BID, OrderType.LIMIT, 250_000, 500);
+        submit(OrderSide.BID, OrderType.LIMIT, 250_000, 300);
+        submit(OrderSide.BID, OrderType.LIMIT, 249_900, 1000);
+        submit(OrderSide.BID, OrderType.LIMIT, 249_800, 750);
+        submit(OrderSide.ASK, OrderType.LIMIT, 250_100, 300);
+
+        DepthSnapshot depth = new DepthSnapshot(2);
+        assertTrue(book.getDepth(depth));
+
+        assertEquals(2, depth.getBidLevels());
+        assertEquals(250_000, depth.getBidPrice(0));
+        assertEquals(800, depth.getBidVolume(0));
+        assertEquals(2, depth.getBidOrderCount(0));
+        assertEquals(249_900, depth.getBidPrice(1));
+
+        assertEquals(1, depth.getAskLevels());
+        assertEquals(250_100, depth.getAskPrice(0));
+        assertEquals(300, depth.getAskVolume(0));
+
+        // Deeper read after a shallow one sees more
+        long[] prices = new long[5];
+        int[] volumes = new int[5];
+        int[] counts  = new int[5];
+        assertEquals(3, book.getDepth(OrderSide.BID, 5, prices, volumes, counts));
+        assertEquals(249_800, prices[2]);
+        assertEquals(750, volumes[2]);
+    }
+
+    @Test
+    @DisplayName("Depth should follow adds, fills and cancels")
+    void testRefreshAfterChanges() {
+        long bid = submit(OrderSide.BID, OrderType.LIMIT, 250_000, 500);
+        submit(OrderSide.ASK, OrderType.LIMIT, 250_100, 300);
+
+        DepthSnapshot depth = new DepthSnapshot(5);
+        assertTrue(book.getDepth(depth));
+        assertFalse(book.getDepth(depth), "Unchanged book");
+
+        // Partial fill of the best ask
+        submit(OrderSide.BID, OrderType.MARKET, 0, 100);
+        assertTrue(book.getDepth(depth));
+        assertEquals(200, depth.getAskVolume(0));
+
+        // Fill that empties the level
+        submit(OrderSide.BID, OrderType.MARKET, 0, 200);
+        assertTrue(book.getDepth(depth));
+        assertEquals(0, depth.getAskLevels());
+
+        // Cancel that empties the bid side
+        engine.cancelOrder(bid);
+        assertTrue(book.getDepth(depth));
+        assertEquals(0, depth.getBidLevels());
+
+        // A second snapshot is filled regardless
+        DepthSnapshot other = new DepthSnapshot(1);
+        assertTrue(book.getDepth(other));
+        assertFalse(book.getDepth(depth));
+    }
+
+    @Test
+    @DisplayName("Unchanged book should be read without allocating")
+    void testRepeatedReadsAllocateNothing() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return; // Allocation counter not available on this JVM
+        }
+        com.sun.management.ThreadMXBean counter =
+            (com.sun.management.ThreadMXBean) threads;
+
+        for (int i = 0; i < 50; i++) {
+            engine.submitOrder(new Order(i + 1, "RELIANCE",
+                OrderSide.BID, OrderType.LIMIT, 240_000 + i * 100, 10));
+        }
+
+        long[] prices = new long[20];
+        int[] volumes = new int[20];
+        int[] counts  = new int[20];
+        DepthSnapshot depth = new DepthSnapshot(20);
+        int reads = 200_000;
+        for (int i = 0; i < reads; i++) {   // Warm up
+            book.getDepth(OrderSide.BID, 20, prices, volumes, counts);
+            book.getDepth(depth);
+        }
+
+        long tid = Thread.currentThread().getId();
+        long before = counter.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < reads; i++) {
+            book.getDepth(OrderSide.BID, 20, prices, volumes, counts);
+            book.getDepth(depth);
+        }
+        long allocated = counter.getThreadAllocatedBytes(tid) - before;
+
+        assertEquals(244_900, prices[0]);
+        assertTrue(allocated < reads,
+            "Depth reads should not allocate, got " + allocated + " bytes");
+    }
+}
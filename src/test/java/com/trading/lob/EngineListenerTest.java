@@ -0,0 +1,180 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.event.AsyncEngineListener;
+import com.trading.lob.event.EngineListener;
+import com.trading.lob.event.ErrorHandler;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.RejectReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit Tests for EngineListener events
+ *
+ * Tests the event stream the engine produces:
+ * - Accept, trade, level change and rest order
+ * - Cancel and cancel-miss rejection
+ * - Async listener delivers the same stream
+ * - A throwing delegate is counted and reported,
+ *   and later events still arrive
+ */
+class EngineListenerTest {
+
+    // Records every event as a short string
+    static class RecordingListener implements EngineListener {
+        final List<String> events =
+            Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onOrderAccepted(long orderId, OrderSide side,
+                                    OrderType type, long price,
+                                    int quantity) {
+            events.add("ACCEPT #" + orderId + " " + side +
+                       " " + price + "x" + quantity);
+        }
+
+        @Override
+        public void onOrderRested(long orderId, OrderSide side,
+                                  long price, int quantity) {
+            events.add("REST #" + orderId + " " + price +
+                       "x" + quantity);
+        }
+
+        @Override
+        public void onTrade(long buyOrderId, long sellOrderId,
+                            OrderSide aggressorSide,
+                            long price, int quantity) {
+            events.add("TRADE " + buyOrderId + "/" + sellOrderId +
+                       " " + aggressorSide + " " + price +
+                       "x" + quantity);
+        }
+
+        @Override
+        public void onOrderCancelled(long orderId, OrderSide side,
+                                     long price, int cancelledQuantity) {
+            events.add("CANCEL #" + orderId + " " + cancelledQuantity);
+        }
+
+        @Override
+        public void onOrderRejected(long orderId, RejectReason reason) {
+            events.add("REJECT #" + orderId + " " + reason);
+        }
+
+        @Override
+        public void onLevelChanged(OrderSide side, long price,
+                                   int volume, int orderCount) {
+            events.add("LEVEL " + side + " " + price + " " +
+                       volume + "/" + orderCount);
+        }
+    }
+
+    // Sell 300 @ 250100, buy 500 @ 250200, cancel twice
+    private static void runScenario(MatchingEngine engine) {
+        engine.submitOrder(new Order(1L, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, 250100, 300));
+        engine.submitOrder(new Order(2L, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, 250200, 500));
+        engine.cancelOrder(2L);
+        engine.cancelOrder(2L);
+    }
+
+    private static final List<String> EXPECTED = List.of(
+        "ACCEPT #1 ASK 250100x300",
+        "REST #1 250100x300",
+        "LEVEL ASK 250100 300/1",
+        "ACCEPT #2 BID 250200x500",
+        "TRADE 2/1 BID 250100x300",
+        "LEVEL ASK 250100 0/0",
+        "REST #2 250200x200",
+        "LEVEL BID 250200 200/1",
+        "LEVEL BID 250200 0/0",
+        "CANCEL #2 200",
+        "REJECT #2 UNKNOWN_ORDER"
+    );
+
+    @Test
+    @DisplayName("Engine should report events in execution order")
+    void testSynchronousEventOrder() {
+        RecordingListener recorder = new RecordingListener();
+        MatchingEngine engine = new MatchingEngine(
+            new OrderBook("RELIANCE"), recorder);
+
+        runScenario(engine);
+
+        assertEquals(EXPECTED, recorder.events);
+    }
+
+    @Test
+    @DisplayName("Async listener should deliver the same events")
+    void testAsyncListenerDeliversAllEvents() {
+        RecordingListener recorder = new RecordingListener();
+        AsyncEngineListener async =
+            new AsyncEngineListener(recorder, 1024);
+        MatchingEngine engine = new MatchingEngine(
+            new OrderBook("RELIANCE"), async);
+
+        runScenario(engine);
+        async.close();
+
+        assertEquals(EXPECTED, recorder.events);
+        assertEquals(0, async.getDroppedEvents());
+    }
+
+    @Test
+    @DisplayName("Full async ring should drop, not block")
+    void testAsyncListenerDropsWhenFull() throws Exception {
+        Object gate = new Object();
+        EngineListener slow = new EngineListener() {
+            @Override
+            public void onOrderRejected(long orderId,
+                                        RejectReason reason) {
+                synchronized (gate) { }   // blocks while test holds gate
+            }
+        };
+
+        AsyncEngineListener async = new AsyncEngineListener(slow, 4);
+        synchronized (gate) {
+            for (int i = 0; i < 100; i++) {
+                async.onOrderRejected(i, RejectReason.UNKNOWN_ORDER);
+            }
+            assertTrue(async.getDroppedEvents() > 0,
+                "Events beyond ring capacity should be dropped");
+        }
+        async.close();
+    }
+
+    @Test
+    @DisplayName("Failing delegate should be counted, not kill the drain")
+    void testAsyncListenerReportsFailures() {
+        RecordingListener recorder = new RecordingListener() {
+            @Override
+            public void onOrderRejected(long orderId, RejectReason reason) {
+                throw new IllegalStateException("boom #" + orderId);
+            }
+        };
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        ErrorHandler handler = errors::add;
+        AsyncEngineListener async =
+            new AsyncEngineListener(recorder, 1024, handler);
+        MatchingEngine engine = new MatchingEngine(
+            new OrderBook("RELIANCE"), async);
+
+        runScenario(engine);
+        engine.submitOrder(new Order(3L, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, 250300, 10));
+        async.close();
+
+        assertEquals(1, async.getFailureCount());
+        assertEquals("boom #2", errors.get(0).getMessage());
+        assertEquals("ACCEPT #3 ASK 250300x10", recorder.events.get(10));
+    }
+}
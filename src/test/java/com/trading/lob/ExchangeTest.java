@@ -0,0 +1,193 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.event.EngineListener;
+import com.trading.lob.event.ErrorHandler;
+import com.trading.lob.exchange.Exchange;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit Tests for Exchange
+ *
+ * Tests multi-symbol routing:
+ * - Orders reach their own symbol's book
+ * - Each book is only touched by one thread
+ * - Cancel is routed by symbol; a failing command
+ *   is counted and reported, the shard carries on
+ * - An order racing close() is matched or refused,
+ *   never lost
+ */
+class ExchangeTest {
+
+    private static final String[] SYMBOLS = {
+        "RELIANCE", "TCS", "INFY", "HDFCBANK", "SBIN", "ITC"
+    };
+
+    @Test
+    @DisplayName("Orders should match only within their symbol")
+    void testRoutesBySymbol() throws InterruptedException {
+        try (Exchange exchange = new Exchange(3)) {
+            for (String symbol : SYMBOLS) {
+                for (int i = 0; i < 100; i++) {
+                    exchange.submitOrder(new Order(
+                        exchange.getNextOrderId(), symbol,
+                        OrderSide.ASK, OrderType.LIMIT, 250_100, 10));
+                    exchange.submitOrder(new Order(
+                        exchange.getNextOrderId(), symbol,
+                        OrderSide.BID, OrderType.LIMIT, 250_100, 10));
+                }
+            }
+            exchange.awaitIdle();
+
+            assertEquals(SYMBOLS.length, exchange.getSymbolCount());
+            for (String symbol : SYMBOLS) {
+                MatchingEngine engine = exchange.getEngine(symbol);
+                assertEquals(symbol, engine.getOrderBook().getSymbol());
+                assertEquals(100, engine.getTotalTrades());
+                assertEquals(0, engine.getOrderBook().getTotalOrders());
+            }
+            assertNull(exchange.getEngine("WIPRO"));
+        }
+    }
+
+    @Test
+    @DisplayName("Each symbol should be matched on one thread")
+    void testSingleWriterPerSymbol() throws InterruptedException {
+        Map<String, Set<String>> threadsBySymbol =
+            new ConcurrentHashMap<>();
+
+        try (Exchange exchange = new Exchange(4, symbol ->
+                new MatchingEngine(new OrderBook(symbol),
+                    new EngineListener() {
+                        @Override
+                        public void onOrderAccepted(long id,
+                                OrderSide side, OrderType type,
+                                long price, int qty) {
+                            threadsBySymbol
+                                .computeIfAbsent(symbol,
+                                    s -> ConcurrentHashMap.newKeySet())
+                                .add(Thread.currentThread().getName());
+                        }
+                    }))) {
+
+            for (int i = 0; i < 1_000; i++) {
+                String symbol = SYMBOLS[i % SYMBOLS.length];
+                exchange.submitOrder(new Order(
+                    exchange.getNextOrderId(), symbol,
+                    OrderSide.BID, OrderType.LIMIT, 250_000 - i, 1));
+            }
+            exchange.awaitIdle();
+
+            for (String symbol : SYMBOLS) {
+                Set<String> threads = threadsBySymbol.get(symbol);
+                assertEquals(1, threads.size());
+                assertEquals("matching-" + exchange.shardFor(symbol),
+                             threads.iterator().next());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Cancel should reach the symbol's book")
+    void testCancelRoutedBySymbol() throws InterruptedException {
+        Exchange exchange = new Exchange(2);
+        exchange.submitOrder(new Order(1L, "TCS",
+            OrderSide.BID, OrderType.LIMIT, 350_000, 50));
+        exchange.submitOrder(new Order(2L, "INFY",
+            OrderSide.BID, OrderType.LIMIT, 150_000, 50));
+        exchange.cancelOrder("TCS", 1L);
+        exchange.close();
+
+        assertEquals(0, exchange.getEngine("TCS")
+            .getOrderBook().getTotalOrders());
+        assertEquals(1, exchange.getEngine("INFY")
+            .getOrderBook().getTotalOrders());
+        assertThrows(IllegalStateException.class,
+            () -> exchange.cancelOrder("TCS", 1L));
+    }
+
+    @Test
+    @DisplayName("Failing command should be counted, shard keeps going")
+    void testFailureReported() throws InterruptedException {
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        ErrorHandler handler = errors::add;
+        try (Exchange exchange = new Exchange(1, symbol -> {
+                if (symbol.equals("WIPRO")) {
+                    throw new IllegalArgumentException("Unlisted: " + symbol);
+                }
+                return new MatchingEngine(new OrderBook(symbol));
+            }, handler)) {
+
+            exchange.submitOrder(new Order(1L, "WIPRO",
+                OrderSide.BID, OrderType.LIMIT, 50_000, 10));
+            exchange.submitOrder(new Order(2L, "TCS",
+                OrderSide.BID, OrderType.LIMIT, 350_000, 10));
+            exchange.awaitIdle();
+
+            assertEquals(1, exchange.getFailureCount());
+            assertEquals("Unlisted: WIPRO", errors.get(0).getMessage());
+            assertNull(exchange.getEngine("WIPRO"));
+            assertEquals(1, exchange.getEngine("TCS")
+                .getOrderBook().getTotalOrders());
+        }
+    }
+
+    @Test
+    @DisplayName("Orders racing close should be matched or refused")
+    void testSubmitRacingClose() throws InterruptedException {
+        Exchange exchange = new Exchange(2);
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(4);
+        Thread[] gateways = new Thread[4];
+        for (int g = 0; g < gateways.length; g++) {
+            gateways[g] = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < 50_000; i++) {
+                    String symbol = SYMBOLS[i % SYMBOLS.length];
+                    try {
+                        // Distinct bids: nothing trades, all rest
+                        exchange.submitOrder(new Order(
+                            exchange.getNextOrderId(), symbol,
+                            OrderSide.BID, OrderType.LIMIT, 1 + i, 1));
+                    } catch (IllegalStateException e) {
+                        return;
+                    }
+                    accepted.incrementAndGet();
+                }
+            });
+            gateways[g].start();
+        }
+        started.await();
+        exchange.close();
+        for (Thread gateway : gateways) {
+            gateway.join();
+        }
+
+        int resting = 0;
+        for (String symbol : SYMBOLS) {
+            MatchingEngine engine = exchange.getEngine(symbol);
+            if (engine != null) {
+                resting += engine.getOrderBook().getTotalOrders();
+            }
+        }
+        assertEquals(accepted.get(), resting);
+        assertThrows(IllegalStateException.class,
+            () -> exchange.submitOrder(new Order(1L, "TCS",
+                OrderSide.BID, OrderType.LIMIT, 350_000, 50)));
+    }
+}
@@ -0,0 +1,154 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.book.PriceLevel;
+import com.trading.lob.event.EngineListener;
+import com.trading.lob.marketdata.MarketByOrderBook;
+import com.trading.lob.marketdata.MarketByOrderFeed;
+import com.trading.lob.marketdata.MarketByPriceBook;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.TimeInForce;
+import com.trading.lob.snapshot.BookSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit Tests for iceberg (reserve) orders
+ *
+ * Tests:
+ * - Only the shown slice counts in level volume
+ * - Each new slice joins the back of the level
+ * - Cancel, replace and FOK see the hidden reserve
+ * - Feeds and snapshots stay exact with icebergs
+ */
+class IcebergOrderTest {
+
+    // ─────────────────────────────────────────────────
+    // SLICE TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Iceberg should show one slice and requeue the next")
+    void testReplenishAtBack() {
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        OrderBook book = engine.getOrderBook();
+        engine.submitOrder(iceberg(1, OrderSide.BID, 250_000, 1000, 100));
+        engine.submitOrder(new Order(2, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, 250_000, 50));
+
+        PriceLevel level = book.getBestBidLevel();
+        assertEquals(150, level.getTotalVolume(), "Only 100 of #1 shows");
+        assertEquals(900, level.getHiddenVolume());
+
+        List<String> fills = new ArrayList<>();
+        engine.submitOrder(new Order(3, "RELIANCE", OrderSide.ASK,
+            OrderType.LIMIT, 250_000, 250),
+            (buyId, sellId, price, qty) -> fills.add(buyId + ":" + qty));
+
+        // #1's second slice queued behind #2
+        assertEquals(List.of("1:100", "2:50", "1:100"), fills);
+        Order iceberg = book.getOrderMap().get(1);
+        assertEquals(100, iceberg.getQuantity());
+        assertEquals(700, iceberg.getReserveQuantity());
+        assertEquals(100, level.getTotalVolume());
+        assertEquals(700, level.getHiddenVolume());
+        assertEquals(1, level.getOrderCount());
+    }
+
+    @Test
+    @DisplayName("Cancel, replace and FOK should see the reserve")
+    void testReserveVisibleToEngine() {
+        List<Integer> cancelled = new ArrayList<>();
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"),
+            new EngineListener() {
+                @Override
+                public void onOrderCancelled(long orderId, OrderSide side,
+                                             long price, int quantity) {
+                    cancelled.add(quantity);
+                }
+            });
+        OrderBook book = engine.getOrderBook();
+        engine.submitOrder(iceberg(1, OrderSide.ASK, 250_100, 1000, 100));
+        engine.submitOrder(new Order(2, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, 250_100, 50));
+
+        // Cut from the reserve: shown slice keeps its place
+        assertTrue(engine.replaceOrder(1, 250_100, 600));
+        assertEquals(1, book.getBestAskLevel().peek().getOrderId());
+        assertEquals(150, book.getBestAskLevel().getTotalVolume());
+        assertEquals(500, book.getBestAskLevel().getHiddenVolume());
+
+        // FOK for more than is shown, less than shown + hidden
+        assertEquals(7, engine.submitOrder(new Order(3, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, 250_100, 640,
+            TimeInForce.FOK, 0), (b, s, p, q) -> { }));
+        assertEquals(10, book.getOrderMap().get(1).getRemainingQuantity());
+
+        assertTrue(engine.cancelOrder(1));
+        assertEquals(List.of(10), cancelled);
+        assertFalse(book.hasAsks());
+    }
+
+    // ─────────────────────────────────────────────────
+    // CONSISTENCY TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Feeds and snapshots should stay exact with icebergs")
+    void testFeedsAndSnapshot(@TempDir Path dir) {
+        MatchingEngine live = new MatchingEngine(new OrderBook("RELIANCE"));
+        MarketByOrderBook l3 = new MarketByOrderBook("RELIANCE");
+        MarketByOrderFeed feed = new MarketByOrderFeed(l3);
+        MarketByPriceBook l2 = new MarketByPriceBook();
+        live.setOrderFeed(feed);
+        live.getOrderBook().setLevelUpdateListener(l2);
+
+        Random random = new Random(5L);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3_000; i++) {
+            int pick = random.nextInt(10);
+            if (!ids.isEmpty() && pick < 2) {
+                live.cancelOrder(ids.remove(random.nextInt(ids.size())));
+                continue;
+            }
+            if (!ids.isEmpty() && pick < 4) {
+                live.replaceOrder(ids.get(random.nextInt(ids.size())),
+                    250_000 + random.nextInt(21) - 10,
+                    1 + random.nextInt(2000), (b, s, p, q) -> { });
+                continue;
+            }
+            long id = live.getNextOrderId();
+            OrderSide side = random.nextBoolean() ? OrderSide.BID : OrderSide.ASK;
+            int display = random.nextInt(3) == 0 ? 1 + random.nextInt(100) : 0;
+            live.submitOrder(new Order(id, "RELIANCE", side, OrderType.LIMIT,
+                250_000 + random.nextInt(21) - 10, 1 + random.nextInt(2000),
+                TimeInForce.DAY, 0, display), (b, s, p, q) -> { });
+            ids.add(id);
+        }
+        BookFixtures.assertFeedsMatch(live, feed, l3, l2);
+        assertEquals(live.getOrderBook().getLevelSequence(), l2.getLastSequence());
+
+        Path file = BookSnapshot.write(dir, live);
+        MatchingEngine loaded = new MatchingEngine(new OrderBook("RELIANCE"));
+        BookSnapshot.load(file, loaded);
+        BookFixtures.assertSameBook(live, loaded);
+        assertEquals(live.getOrderBook().getBestBidLevel().getHiddenVolume(),
+            loaded.getOrderBook().getBestBidLevel().getHiddenVolume());
+    }
+
+    private static Order iceberg(long id, OrderSide side, long price,
+                                 int quantity, int display) {
+        return new Order(id, "RELIANCE", side, OrderType.LIMIT,
+                         price, quantity, TimeInForce.DAY, 0, display);
+    }
+}
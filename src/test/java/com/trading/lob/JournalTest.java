@@ -0,0 +1,136 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.ingress.CommandType;
+import com.trading.lob.journal.FsyncPolicy;
+import com.trading.lob.journal.Journal;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Unit Tests for Journal
+ *
+ * Tests the write-ahead log:
+ * - Replay rebuilds an identical book
+ * - Segments roll and sequences survive reopen
+ * - Replay can start after a given sequence
+ * - Other format versions and bad record lengths
+ *   are refused
+ */
+class JournalTest {
+
+    @TempDir
+    Path dir;
+
+    // ─────────────────────────────────────────────────
+    // REPLAY TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Replay should rebuild the identical book")
+    void testReplayRebuildsBook() {
+        MatchingEngine live = new MatchingEngine(new OrderBook("RELIANCE"));
+        try (Journal journal = new Journal(dir, 4096, FsyncPolicy.batch())) {
+            live.setJournal(journal);
+            BookFixtures.runSession(live, 5_000, 42L);
+            assertTrue(journal.getSegmentIndex() > 0,
+                "Small segments should have rolled");
+        }
+
+        MatchingEngine rebuilt = new MatchingEngine(new OrderBook("RELIANCE"));
+        long last = Journal.rebuild(dir, rebuilt);
+
+        assertEquals(5_000, last);
+        BookFixtures.assertSameBook(live, rebuilt);
+        assertEquals(live.getOrderBook().getTotalOrders(),
+                     rebuilt.getOrderBook().getTotalOrders());
+        assertEquals(live.getTotalTrades(), rebuilt.getTotalTrades());
+        assertEquals(live.getNextOrderId(), rebuilt.getNextOrderId());
+    }
+
+    @Test
+    @DisplayName("Reopened journal should continue the sequence")
+    void testReopenContinuesSequence() {
+        try (Journal journal = new Journal(dir, 4096, FsyncPolicy.none())) {
+            for (int i = 1; i <= 300; i++) {
+                journal.appendCancel(i);
+            }
+        }
+        try (Journal journal = new Journal(dir, 4096,
+                                           FsyncPolicy.everyMicros(100))) {
+            assertEquals(300, journal.getLastSequence());
+            assertEquals(301, journal.appendNew(301, OrderSide.BID,
+                OrderType.LIMIT, 250_000, 10));
+        }
+
+        List<Long> seqs = new ArrayList<>();
+        Journal.replay(dir, (cmd, seq, end) -> seqs.add(seq));
+        assertEquals(301, seqs.size());
+        for (int i = 0; i < seqs.size(); i++) {
+            assertEquals(i + 1, seqs.get(i).longValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Replay should skip records up to a sequence")
+    void testReplayAfterSequence() {
+        try (Journal journal = new Journal(dir, FsyncPolicy.none())) {
+            journal.appendNew(1, OrderSide.ASK, OrderType.LIMIT, 250_100, 5);
+            journal.appendReplace(1, 250_200, 3);
+            journal.appendCancel(1);
+        }
+
+        List<String> seen = new ArrayList<>();
+        long last = Journal.replay(dir, 1, (cmd, seq, end) ->
+            seen.add(seq + " " + cmd.getType()));
+
+        assertEquals(3, last);
+        assertEquals(List.of("2 " + CommandType.REPLACE,
+                             "3 " + CommandType.CANCEL), seen);
+    }
+
+    @Test
+    @DisplayName("Wrong version or record length should be refused")
+    void testFormatChecks() throws IOException {
+        try (Journal journal = new Journal(dir, 4096, FsyncPolicy.none())) {
+            journal.appendNew(1, OrderSide.ASK, OrderType.LIMIT, 250_100, 5);
+            journal.appendCancel(1);
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        byte[] good = Files.readAllBytes(segment);
+        assertEquals(Journal.MAGIC, ByteBuffer.wrap(good).getInt(0));
+        assertEquals(Journal.VERSION, ByteBuffer.wrap(good).getInt(4));
+
+        // Cancel's length field claims a REPLACE record
+        byte[] badLength = good.clone();
+        int cancelAt = 8 + 4 + ByteBuffer.wrap(good).getInt(8);
+        ByteBuffer.wrap(badLength).putInt(cancelAt, 1 + 8 + 8 + 8 + 4);
+        Files.write(segment, badLength);
+        assertThrows(IllegalStateException.class,
+            () -> Journal.replay(dir, (cmd, seq, end) -> { }));
+
+        byte[] badVersion = good.clone();
+        ByteBuffer.wrap(badVersion).putInt(4, Journal.VERSION + 1);
+        Files.write(segment, badVersion);
+        assertThrows(IllegalStateException.class,
+            () -> Journal.replay(dir, (cmd, seq, end) -> { }));
+        assertThrows(IllegalStateException.class,
+            () -> new Journal(dir, 4096, FsyncPolicy.none()));
+    }
+}
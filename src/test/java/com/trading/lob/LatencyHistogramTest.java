@@ -0,0 +1,146 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.ingress.CommandType;
+import com.trading.lob.metrics.EngineMetrics;
+import com.trading.lob.metrics.IntervalRecorder;
+import com.trading.lob.metrics.LatencyHistogram;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Unit Tests for latency instrumentation
+ *
+ * Tests the histogram and its recorders:
+ * - Percentiles within the bucket precision
+ * - Binary export round trip
+ * - Intervals lose nothing across threads
+ * - Engine records per command type
+ */
+class LatencyHistogramTest {
+
+    // ─────────────────────────────────────────────────
+    // HISTOGRAM TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Percentiles should be within bucket precision")
+    void testPercentiles() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (long v = 1; v <= 100_000; v++) {
+            h.record(v);
+        }
+
+        assertEquals(100_000, h.getTotalCount());
+        assertEquals(1, h.getMin());
+        assertEquals(100_000, h.getMax());
+        assertEquals(50_000.5, h.getMean(), 0.001);
+        assertEquals(50_000, h.getValueAtPercentile(50.0), 50_000 / 64.0);
+        assertEquals(99_000, h.getValueAtPercentile(99.0), 99_000 / 64.0);
+        assertEquals(100_000, h.getValueAtPercentile(100.0));
+    }
+
+    @Test
+    @DisplayName("Small values should be exact, huge ones clamped")
+    void testExactAndClamped() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.record(7);
+        h.record(7);
+        h.record(100);
+        assertEquals(7, h.getValueAtPercentile(50.0));
+        assertEquals(100, h.getValueAtPercentile(100.0));
+
+        h.record(Long.MAX_VALUE);
+        assertEquals(1, h.getClampedCount());
+        assertEquals(LatencyHistogram.MAX_VALUE, h.getMax());
+    }
+
+    @Test
+    @DisplayName("Binary export should round trip")
+    void testBinaryRoundTrip() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 0; i < 10_000; i++) {
+            h.record((i * 7919L) % 5_000_000);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(h.encodedSize());
+        h.encode(buffer);
+        assertEquals(h.encodedSize(), buffer.position());
+
+        buffer.flip();
+        LatencyHistogram copy = LatencyHistogram.decode(buffer);
+        assertEquals(h.getTotalCount(), copy.getTotalCount());
+        assertEquals(h.getMax(), copy.getMax());
+        for (double p : new double[] {10, 50, 90, 99, 99.9}) {
+            assertEquals(h.getValueAtPercentile(p),
+                         copy.getValueAtPercentile(p));
+        }
+    }
+
+    // ─────────────────────────────────────────────────
+    // RECORDER TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Intervals read while recording should lose nothing")
+    void testIntervalRecorderAcrossThreads() throws InterruptedException {
+        IntervalRecorder recorder = new IntervalRecorder();
+        int values = 2_000_000;
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < values; i++) {
+                recorder.record(i & 1023);
+            }
+        });
+        writer.start();
+
+        LatencyHistogram interval = new LatencyHistogram();
+        long seen = 0;
+        while (writer.isAlive()) {
+            recorder.getIntervalHistogram(interval);
+            seen += interval.getTotalCount();
+        }
+        writer.join();
+        recorder.getIntervalHistogram(interval);
+        seen += interval.getTotalCount();
+
+        assertEquals(values, seen);
+    }
+
+    @Test
+    @DisplayName("Engine should time submits and cancels separately")
+    void testEngineMetrics() {
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        EngineMetrics metrics = new EngineMetrics("RELIANCE");
+        engine.setMetrics(metrics);
+
+        for (int i = 0; i < 10; i++) {
+            engine.submitOrder(new Order(engine.getNextOrderId(), "RELIANCE",
+                OrderSide.BID, OrderType.LIMIT, 250_000 - i, 100));
+        }
+        engine.cancelOrder(1L);
+        engine.cancelOrder(2L);
+        engine.cancelOrder(99L);
+
+        LatencyHistogram h = new LatencyHistogram();
+        metrics.intervalSnapshot(CommandType.NEW, h);
+        assertEquals(10, h.getTotalCount());
+        assertTrue(h.getMax() > 0);
+        metrics.intervalSnapshot(CommandType.CANCEL, h);
+        assertEquals(3, h.getTotalCount());
+
+        // Intervals start over after each read
+        engine.cancelOrder(3L);
+        StringBuilder report = new StringBuilder();
+        metrics.writeIntervalReport(report);
+        assertTrue(report.toString().startsWith("RELIANCE CANCEL  count=1 "),
+            report.toString());
+        assertFalse(report.toString().contains("NEW"));
+    }
+}
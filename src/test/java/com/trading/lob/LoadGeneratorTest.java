@@ -0,0 +1,92 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.loadgen.LoadGenerator;
+import com.trading.lob.loadgen.LoadProfile;
+import com.trading.lob.loadgen.LoadReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests for the synthetic load generator
+ *
+ * Tests:
+ * - Same seed gives the same book and counts
+ * - Mix weights are respected, book never crosses
+ * - Paced runs measure response time from the
+ *   intended arrival
+ */
+class LoadGeneratorTest {
+
+    private static final LoadProfile SMALL = LoadProfile.defaults()
+        .withCommands(50_000)
+        .withWarmup(5_000);
+
+    // ─────────────────────────────────────────────────
+    // GENERATOR TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Same seed should produce the same book")
+    void testDeterministic() {
+        MatchingEngine a = new MatchingEngine(new OrderBook("RELIANCE"));
+        MatchingEngine b = new MatchingEngine(new OrderBook("RELIANCE"));
+        LoadReport ra = LoadGenerator.run(a, SMALL.withSeed(11));
+        LoadReport rb = LoadGenerator.run(b, SMALL.withSeed(11));
+
+        assertEquals(ra.getAdds(), rb.getAdds());
+        assertEquals(ra.getCancels(), rb.getCancels());
+        assertEquals(ra.getTrades(), rb.getTrades());
+        BookFixtures.assertSameBook(a, b);
+        assertEquals(a.peekNextOrderId(), b.peekNextOrderId());
+
+        MatchingEngine c = new MatchingEngine(new OrderBook("RELIANCE"));
+        LoadGenerator.run(c, SMALL.withSeed(12));
+        assertNotEquals(BookFixtures.describe(a.getOrderBook()),
+                        BookFixtures.describe(c.getOrderBook()));
+    }
+
+    @Test
+    @DisplayName("Command mix should follow the profile weights")
+    void testMix() {
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        LoadReport report = LoadGenerator.run(engine, SMALL);
+        OrderBook book = engine.getOrderBook();
+
+        assertEquals(50_000, report.getCommands());
+        assertEquals(50_000,
+            report.getAdds() + report.getCancels() + report.getMarkets());
+        assertEquals(0.05, report.getMarkets() / 50_000.0, 0.01);
+        // Cancels fall back to adds only while nothing rests
+        assertEquals(0.35, report.getCancels() / 50_000.0, 0.02);
+        assertTrue(report.getTrades() > 0);
+
+        assertTrue(book.hasBids() && book.hasAsks());
+        assertTrue(book.getBestBid() < book.getBestAsk());
+    }
+
+    // ─────────────────────────────────────────────────
+    // MEASUREMENT TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Paced run should time from the intended arrival")
+    void testCoordinatedOmission() {
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        LoadReport report = LoadGenerator.run(engine,
+            SMALL.withRate(500_000).withCommands(20_000));
+
+        assertEquals(20_000, report.getServiceTime().getTotalCount());
+        assertEquals(20_000, report.getResponseTime().getTotalCount());
+        for (double p : new double[] {50, 99, 100}) {
+            assertTrue(report.getResponseTime().getValueAtPercentile(p)
+                    >= report.getServiceTime().getValueAtPercentile(p));
+        }
+        // 20,000 at 500k/s is about 40 ms of schedule
+        assertTrue(report.getElapsedNanos() >= 30_000_000L,
+            report.toString());
+        assertTrue(report.toString().contains("response p50="));
+    }
+}
@@ -0,0 +1,157 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.marketdata.MarketByOrderBook;
+import com.trading.lob.marketdata.MarketByOrderFeed;
+import com.trading.lob.marketdata.MboDecoder;
+import com.trading.lob.marketdata.MboEncoder;
+import com.trading.lob.marketdata.MboMessageType;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+
+/**
+ * Unit Tests for the market-by-order (level 3) feed
+ *
+ * Tests:
+ * - Every message type round trips through the
+ *   flyweights, without allocating
+ * - A book rebuilt from the feed matches the source
+ *   order by order after a random session
+ * - Gaps and differences are reported
+ */
+class MarketByOrderTest {
+
+    // ─────────────────────────────────────────────────
+    // CODEC TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Every message type should round trip")
+    void testCodecRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        MboEncoder encoder = new MboEncoder().wrap(buffer);
+        encoder.add(1, 10, OrderSide.ASK, 250_100, 300);
+        encoder.execute(2, 10, 100, 250_100, 200);
+        encoder.execute(3, 10, 200, 250_100, 0);
+        encoder.delete(4, 11);
+        encoder.replace(5, 12, 249_900, 50);
+        buffer.flip();
+
+        MboDecoder d = new MboDecoder();
+        int at = 0;
+        d.wrap(buffer, at);
+        assertEquals(MboMessageType.ADD, d.getType());
+        assertEquals(1, d.getSequence());
+        assertEquals(10, d.getOrderId());
+        assertEquals(OrderSide.ASK, d.getSide());
+        assertEquals(250_100, d.getPrice());
+        assertEquals(300, d.getQuantity());
+
+        d.wrap(buffer, at += d.getLength());
+        assertEquals(MboMessageType.PARTIAL_EXECUTE, d.getType());
+        assertEquals(100, d.getQuantity());
+        assertEquals(250_100, d.getPrice());
+        assertEquals(200, d.getLeavesQuantity());
+
+        d.wrap(buffer, at += d.getLength());
+        assertEquals(MboMessageType.FULL_EXECUTE, d.getType());
+        assertEquals(200, d.getQuantity());
+        assertEquals(0, d.getLeavesQuantity());
+
+        d.wrap(buffer, at += d.getLength());
+        assertEquals(MboMessageType.DELETE, d.getType());
+        assertEquals(11, d.getOrderId());
+
+        d.wrap(buffer, at += d.getLength());
+        assertEquals(MboMessageType.REPLACE, d.getType());
+        assertEquals(12, d.getOrderId());
+        assertEquals(249_900, d.getPrice());
+        assertEquals(50, d.getQuantity());
+        assertEquals(buffer.limit(), at + d.getLength());
+    }
+
+    @Test
+    @DisplayName("Encoding and decoding should allocate nothing")
+    void testCodecAllocatesNothing() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return; // Allocation counter not available on this JVM
+        }
+        com.sun.management.ThreadMXBean counter =
+            (com.sun.management.ThreadMXBean) threads;
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(MboMessageType.MAX_LENGTH);
+        MboEncoder encoder = new MboEncoder().wrap(buffer);
+        MboDecoder decoder = new MboDecoder();
+        int rounds = 200_000;
+        long checksum = 0;
+        for (int pass = 0; pass < 2; pass++) {   // Warm-up pass first
+            long tid = Thread.currentThread().getId();
+            long before = counter.getThreadAllocatedBytes(tid);
+            for (int i = 0; i < rounds; i++) {
+                buffer.clear();
+                encoder.execute(i, i, 10, 250_000, i & 1);
+                decoder.wrap(buffer, 0);
+                checksum += decoder.getLeavesQuantity() + decoder.getPrice();
+            }
+            long allocated = counter.getThreadAllocatedBytes(tid) - before;
+            if (pass == 1) {
+                assertTrue(allocated < rounds,
+                    "Codec should not allocate, got " + allocated + " bytes");
+            }
+        }
+        assertTrue(checksum > 0);
+    }
+
+    // ─────────────────────────────────────────────────
+    // FEED TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Rebuilt book should match the source order by order")
+    void testRebuildFromFeed() {
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        MarketByOrderBook copy = new MarketByOrderBook("RELIANCE");
+        // Small frames: the feed flushes on its own too
+        MarketByOrderFeed feed = new MarketByOrderFeed(copy, 256);
+        engine.setOrderFeed(feed);
+
+        for (int round = 0; round < 10; round++) {
+            BookFixtures.runSession(engine, 500, round);
+            feed.flush();
+            copy.verifyAgainst(engine.getOrderBook());
+        }
+        assertEquals(feed.getSequence(), copy.getLastSequence());
+        assertEquals(engine.getOrderBook().getTotalOrders(),
+                     copy.getBook().getTotalOrders());
+    }
+
+    @Test
+    @DisplayName("Gaps and differences should be reported")
+    void testGapsAndDifferences() {
+        ByteBuffer frame = ByteBuffer.allocate(64);
+        MboEncoder encoder = new MboEncoder().wrap(frame);
+        encoder.add(1, 1, OrderSide.BID, 250_000, 100);
+        encoder.delete(3, 1);
+        frame.flip();
+        MarketByOrderBook copy = new MarketByOrderBook("RELIANCE");
+        IllegalStateException gap = assertThrows(IllegalStateException.class,
+            () -> copy.onFrame(frame));
+        assertTrue(gap.getMessage().contains("expected 2"), gap.getMessage());
+
+        // Source changes the feed never saw
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        engine.submitOrder(new Order(1, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, 250_000, 50));
+        assertThrows(IllegalStateException.class,
+            () -> copy.verifyAgainst(engine.getOrderBook()));
+    }
+}
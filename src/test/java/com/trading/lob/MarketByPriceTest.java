@@ -0,0 +1,126 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.marketdata.LevelAction;
+import com.trading.lob.marketdata.MarketByPriceBook;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit Tests for the market-by-price update stream
+ *
+ * Tests:
+ * - NEW / CHANGE / DELETE from adds, fills and cancels
+ * - A downstream book rebuilt from the stream matches
+ *   the source after a random session
+ * - Gaps and mismatched updates are refused
+ */
+class MarketByPriceTest {
+
+    // ─────────────────────────────────────────────────
+    // STREAM TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Adds, fills and cancels should emit sequenced updates")
+    void testUpdateStream() {
+        OrderBook book = new OrderBook("RELIANCE");
+        MatchingEngine engine = new MatchingEngine(book);
+        List<String> updates = new ArrayList<>();
+        book.setLevelUpdateListener((seq, action, side, price, vol, n) ->
+            updates.add(seq + " " + action + " " + side + " " +
+                        price + " " + vol + "/" + n));
+
+        engine.submitOrder(new Order(1, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, 250_000, 500));
+        engine.submitOrder(new Order(2, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, 250_000, 300));
+        engine.submitOrder(new Order(3, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, 250_000, 600));
+        engine.cancelOrder(2);
+
+        assertEquals(Arrays.asList(
+            "1 NEW BID 250000 500/1",
+            "2 CHANGE BID 250000 800/2",
+            "3 CHANGE BID 250000 300/1",      // #1 filled
+            "4 CHANGE BID 250000 200/1",      // #2 partly
+            "5 DELETE BID 250000 0/0"),       // #2 cancelled
+            updates);
+        assertEquals(5, book.getLevelSequence());
+    }
+
+    @Test
+    @DisplayName("Downstream book should match the source exactly")
+    void testRebuildFromStream() {
+        OrderBook book = new OrderBook("RELIANCE");
+        MatchingEngine engine = new MatchingEngine(book);
+        MarketByPriceBook copy = new MarketByPriceBook();
+        book.setLevelUpdateListener(copy);
+
+        for (int round = 0; round < 10; round++) {
+            BookFixtures.runSession(engine, 500, round);
+            for (OrderSide side : OrderSide.values()) {
+                assertEquals(depth(book, side), depth(copy, side));
+            }
+        }
+        assertEquals(book.getLevelSequence(), copy.getLastSequence());
+        assertEquals(book.getBestBid(), copy.getBestPrice(OrderSide.BID));
+        assertEquals(book.getBestAsk(), copy.getBestPrice(OrderSide.ASK));
+    }
+
+    private static String depth(OrderBook book, OrderSide side) {
+        long[] p = new long[1000];
+        int[] v = new int[1000];
+        int[] c = new int[1000];
+        int n = book.getDepth(side, 1000, p, v, c);
+        return render(n, p, v, c);
+    }
+
+    private static String depth(MarketByPriceBook book, OrderSide side) {
+        long[] p = new long[1000];
+        int[] v = new int[1000];
+        int[] c = new int[1000];
+        int n = book.getDepth(side, 1000, p, v, c);
+        return render(n, p, v, c);
+    }
+
+    private static String render(int n, long[] p, int[] v, int[] c) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            sb.append(p[i]).append('x').append(v[i])
+              .append('/').append(c[i]).append(' ');
+        }
+        return sb.toString();
+    }
+
+    // ─────────────────────────────────────────────────
+    // CONSISTENCY TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Gaps and mismatched updates should be refused")
+    void testGapDetection() {
+        MarketByPriceBook copy = new MarketByPriceBook();
+        assertThrows(IllegalStateException.class, () -> copy.onLevelUpdate(
+            2, LevelAction.NEW, OrderSide.BID, 250_000, 100, 1));
+
+        copy.onLevelUpdate(1, LevelAction.NEW, OrderSide.BID, 250_000, 100, 1);
+        assertThrows(IllegalStateException.class, () -> copy.onLevelUpdate(
+            2, LevelAction.NEW, OrderSide.BID, 250_000, 200, 2));
+        assertThrows(IllegalStateException.class, () -> copy.onLevelUpdate(
+            2, LevelAction.DELETE, OrderSide.ASK, 250_000, 0, 0));
+
+        copy.onLevelUpdate(2, LevelAction.DELETE, OrderSide.BID, 250_000, 0, 0);
+        assertEquals(0, copy.getLevelCount(OrderSide.BID));
+        assertEquals(2, copy.getLastSequence());
+    }
+}
@@ -1,15 +1,21 @@
 package com.trading.lob;
 
+import com.trading.lob.book.BookConfig;
 import com.trading.lob.book.MatchingEngine;
 import com.trading.lob.book.OrderBook;
+import com.trading.lob.book.PriceLevel;
+import com.trading.lob.book.TradeSink;
 import com.trading.lob.model.Order;
 import com.trading.lob.model.OrderSide;
 import com.trading.lob.model.OrderType;
+import com.trading.lob.model.PriceScale;
 import com.trading.lob.model.Trade;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.List;
 
 /**
@@ -21,6 +27,7 @@ import java.util.List;
  * - Partial match (partial fill)
  * - Market order matching
  * - Multiple fills at same price
+ * - A throwing trade sink leaves the book consistent
  */
 class MatchingEngineTest {
 
@@ -33,6 +40,11 @@ class MatchingEngineTest {
         engine = new MatchingEngine(book);
     }
 
+    // Decimal price → ticks at the default ₹0.01 tick
+    private static long px(double price) {
+        return PriceScale.DEFAULT.toTicks(price);
+    }
+
     // ─────────────────────────────────────────────────
     // NO MATCH TESTS
     // ─────────────────────────────────────────────────
@@ -43,12 +55,12 @@ class MatchingEngineTest {
         // Add sell at 2501
         engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 300));
 
         // Buy at 2500 - no match (2500 < 2501)
         List<Trade> trades = engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2500.00, 500));
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 500));
 
         assertTrue(trades.isEmpty(),
             "No trades should execute");
@@ -67,18 +79,18 @@ class MatchingEngineTest {
         // Add sell 300 @ 2501
         engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 300));
 
         // Buy 300 @ 2501 - full match!
         List<Trade> trades = engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.BID, OrderType.LIMIT, px(2501.00), 300));
 
         assertEquals(1, trades.size(),
             "One trade should execute");
         assertEquals(300, trades.get(0).getQuantity(),
             "Trade qty should be 300");
-        assertEquals(2501.00, trades.get(0).getPrice(),
+        assertEquals(px(2501.00), trades.get(0).getPrice(),
             "Trade price should be 2501");
 
         System.out.println(
@@ -90,11 +102,11 @@ class MatchingEngineTest {
     void testBookEmptyAfterFullMatch() {
         engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 300));
 
         engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.BID, OrderType.LIMIT, px(2501.00), 300));
 
         assertFalse(book.hasAsks(),
             "Ask side should be empty after full match");
@@ -112,13 +124,13 @@ class MatchingEngineTest {
         // Add sell 300 @ 2501
         engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 300));
 
         // Buy 500 @ 2501 - partial match
         // 300 fills, 200 remains in book
         List<Trade> trades = engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2501.00, 500));
+            OrderSide.BID, OrderType.LIMIT, px(2501.00), 500));
 
         assertEquals(1, trades.size(),
             "One trade should execute");
@@ -137,21 +149,43 @@ class MatchingEngineTest {
         // Sell at 2501
         engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 300));
 
         // Buy at 2505 - should match at 2501 (ask price)
         List<Trade> trades = engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2505.00, 300));
+            OrderSide.BID, OrderType.LIMIT, px(2505.00), 300));
 
         assertEquals(1, trades.size());
-        assertEquals(2501.00, trades.get(0).getPrice(),
+        assertEquals(px(2501.00), trades.get(0).getPrice(),
             "Trade should execute at ask price 2501");
 
         System.out.println(
             "Trade at ask price: " + trades.get(0).getPrice());
     }
 
+    @Test
+    @DisplayName("Sell sweeping resting bids should clear filled bids")
+    void testSellSweepsRestingBids() {
+        engine.submitOrder(new Order(
+            engine.getNextOrderId(), "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 300));
+        engine.submitOrder(new Order(
+            engine.getNextOrderId(), "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, px(2499.00), 400));
+
+        // Sell 500 @ 2499 fills 300 @ 2500 then 200 @ 2499
+        List<Trade> trades = engine.submitOrder(new Order(
+            engine.getNextOrderId(), "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, px(2499.00), 500));
+
+        assertEquals(2, trades.size());
+        assertEquals(px(2499.00), book.getBestBid());
+        assertEquals(200, book.getBestBidLevel().getTotalVolume(),
+            "Level volume should reflect the partial fill");
+        assertEquals(1, book.getTotalOrders());
+    }
+
     // ─────────────────────────────────────────────────
     // MARKET ORDER TESTS
     // ─────────────────────────────────────────────────
@@ -162,16 +196,16 @@ class MatchingEngineTest {
         // Add sell orders
         engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 300));
 
         // Market buy
         List<Trade> trades = engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.BID, OrderType.MARKET, 0.0, 300));
+            OrderSide.BID, OrderType.MARKET, 0, 300));
 
         assertEquals(1, trades.size(),
             "Market order should match immediately");
-        assertEquals(2501.00, trades.get(0).getPrice(),
+        assertEquals(px(2501.00), trades.get(0).getPrice(),
             "Should match at best ask price");
 
         System.out.println(
@@ -185,16 +219,16 @@ class MatchingEngineTest {
         // Add buy order
         engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2500.00, 500));
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 500));
 
         // Market sell
         List<Trade> trades = engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.ASK, OrderType.MARKET, 0.0, 200));
+            OrderSide.ASK, OrderType.MARKET, 0, 200));
 
         assertEquals(1, trades.size(),
             "Market sell should match immediately");
-        assertEquals(2500.00, trades.get(0).getPrice(),
+        assertEquals(px(2500.00), trades.get(0).getPrice(),
             "Should match at best bid price");
 
         System.out.println(
@@ -202,6 +236,114 @@ class MatchingEngineTest {
             trades.get(0).getPrice());
     }
 
+    // ─────────────────────────────────────────────────
+    // TRADE SINK TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Sink submit should report fills as primitives")
+    void testSubmitWithSinkReportsFills() {
+        engine.submitOrder(new Order(
+            engine.getNextOrderId(), "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 300));
+        engine.submitOrder(new Order(
+            engine.getNextOrderId(), "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, px(2502.00), 300));
+
+        long[] fill = new long[4];
+        int fills = engine.submitOrder(new Order(
+            engine.getNextOrderId(), "RELIANCE",
+            OrderSide.BID, OrderType.MARKET, 0, 400),
+            (buyId, sellId, price, qty) -> {
+                fill[0] = buyId;
+                fill[1] = sellId;
+                fill[2] = price;
+                fill[3] += qty;
+            });
+
+        assertEquals(2, fills);
+        assertEquals(3, fill[0], "Buy id should be the market order");
+        assertEquals(2, fill[1], "Last fill is against order #2");
+        assertEquals(px(2502.00), fill[2]);
+        assertEquals(400, fill[3]);
+        assertEquals(2, engine.getTotalTrades());
+        assertTrue(engine.getTradeHistory().isEmpty(),
+            "Sink path should not build Trade objects");
+    }
+
+    @Test
+    @DisplayName("Throwing sink should leave both sides of the fill applied")
+    void testThrowingSinkKeepsBookConsistent() {
+        engine.submitOrder(new Order(1L, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 100));
+        engine.submitOrder(new Order(2L, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 200));
+        engine.submitOrder(new Order(3L, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, px(2502.00), 50));
+
+        // Like a trade history whose spill write failed
+        assertThrows(IllegalStateException.class,
+            () -> engine.submitOrder(new Order(4L, "RELIANCE",
+                OrderSide.BID, OrderType.LIMIT, px(2501.00), 150),
+                (b, s, p, q) -> {
+                    throw new IllegalStateException("Spill failed");
+                }));
+
+        // #1 filled and gone, #2 not yet touched
+        PriceLevel level = book.getBestAskLevel();
+        int resting = 0;
+        for (Order o = level.peek(); o != null; o = o.getNextInLevel()) {
+            resting += o.getQuantity();
+        }
+        assertEquals(level.getTotalVolume(), resting);
+        assertEquals(200, resting);
+        assertNull(book.getOrderMap().get(1L));
+        assertEquals(2, book.getTotalOrders());
+    }
+
+    @Test
+    @DisplayName("Warm sink match loop should allocate nothing")
+    void testSinkMatchLoopAllocatesNothing() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return; // Allocation counter not available on this JVM
+        }
+        com.sun.management.ThreadMXBean counter =
+            (com.sun.management.ThreadMXBean) threads;
+
+        OrderBook ladder = new OrderBook("RELIANCE",
+            BookConfig.defaults().withArrayLadder(256));
+        MatchingEngine fast = new MatchingEngine(ladder);
+        TradeSink sink = (b, s, p, q) -> { };
+
+        int rounds = 20_000;
+        Order[] orders = new Order[rounds * 2];
+        for (int i = 0; i < rounds; i++) {
+            orders[2 * i] = new Order(2 * i + 1, "RELIANCE",
+                OrderSide.ASK, OrderType.LIMIT, px(2501.00), 100);
+            orders[2 * i + 1] = new Order(2 * i + 2, "RELIANCE",
+                OrderSide.BID, OrderType.LIMIT, px(2501.00), 100);
+        }
+
+        // Warm up, then measure the second half
+        for (int i = 0; i < rounds; i++) {
+            fast.submitOrder(orders[i], sink);
+        }
+        long tid    = Thread.currentThread().getId();
+        long before = counter.getThreadAllocatedBytes(tid);
+        for (int i = rounds; i < orders.length; i++) {
+            fast.submitOrder(orders[i], sink);
+        }
+        long allocated = counter.getThreadAllocatedBytes(tid) - before;
+
+        // Allow a few hundred bytes of JIT/runtime noise,
+        // but nothing that scales with order count
+        assertTrue(allocated < rounds,
+            "Match loop should not allocate per order, got " +
+            allocated + " bytes");
+        assertEquals(rounds, fast.getTotalTrades());
+    }
+
     // ─────────────────────────────────────────────────
     // CANCEL TESTS
     // ─────────────────────────────────────────────────
@@ -211,7 +353,7 @@ class MatchingEngineTest {
     void testCancelOrder() {
         Order order = new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2500.00, 500);
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 500);
 
         engine.submitOrder(order);
         boolean result = engine.cancelOrder(
@@ -233,11 +375,11 @@ class MatchingEngineTest {
     void testTradeHistoryRecorded() {
         engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 300));
 
         engine.submitOrder(new Order(
             engine.getNextOrderId(), "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.BID, OrderType.LIMIT, px(2501.00), 300));
 
         assertEquals(1, engine.getTotalTrades(),
             "One trade should be in history");
@@ -4,6 +4,7 @@ import com.trading.lob.book.OrderBook;
 import com.trading.lob.model.Order;
 import com.trading.lob.model.OrderSide;
 import com.trading.lob.model.OrderType;
+import com.trading.lob.model.PriceScale;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,11 @@ class OrderBookTest {
         book = new OrderBook("RELIANCE");
     }
 
+    // Decimal price → ticks at the default ₹0.01 tick
+    private static long px(double price) {
+        return PriceScale.DEFAULT.toTicks(price);
+    }
+
     // ─────────────────────────────────────────────────
     // ADD ORDER TESTS
     // ─────────────────────────────────────────────────
@@ -40,12 +46,12 @@ class OrderBookTest {
         Order order = new Order(
             1L, "RELIANCE",
             OrderSide.BID, OrderType.LIMIT,
-            2500.00, 500);
+            px(2500.00), 500);
 
         book.addOrder(order);
 
         assertEquals(1, book.getTotalOrders());
-        assertEquals(2500.00, book.getBestBid());
+        assertEquals(px(2500.00), book.getBestBid());
         assertTrue(book.hasBids());
         assertFalse(book.hasAsks());
     }
@@ -56,12 +62,12 @@ class OrderBookTest {
         Order order = new Order(
             1L, "RELIANCE",
             OrderSide.ASK, OrderType.LIMIT,
-            2501.00, 300);
+            px(2501.00), 300);
 
         book.addOrder(order);
 
         assertEquals(1, book.getTotalOrders());
-        assertEquals(2501.00, book.getBestAsk());
+        assertEquals(px(2501.00), book.getBestAsk());
         assertFalse(book.hasBids());
         assertTrue(book.hasAsks());
     }
@@ -70,14 +76,14 @@ class OrderBookTest {
     @DisplayName("Multiple bids should be sorted high to low")
     void testBidsAreSortedHighToLow() {
         book.addOrder(new Order(1L, "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2498.00, 100));
+            OrderSide.BID, OrderType.LIMIT, px(2498.00), 100));
         book.addOrder(new Order(2L, "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2500.00, 200));
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 200));
         book.addOrder(new Order(3L, "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2499.00, 300));
+            OrderSide.BID, OrderType.LIMIT, px(2499.00), 300));
 
         // Best bid should be highest price
-        assertEquals(2500.00, book.getBestBid());
+        assertEquals(px(2500.00), book.getBestBid());
         System.out.println("Best Bid: " + book.getBestBid());
     }
 
@@ -85,14 +91,14 @@ class OrderBookTest {
     @DisplayName("Multiple asks should be sorted low to high")
     void testAsksAreSortedLowToHigh() {
         book.addOrder(new Order(1L, "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2503.00, 100));
+            OrderSide.ASK, OrderType.LIMIT, px(2503.00), 100));
         book.addOrder(new Order(2L, "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2501.00, 200));
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 200));
         book.addOrder(new Order(3L, "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2502.00, 300));
+            OrderSide.ASK, OrderType.LIMIT, px(2502.00), 300));
 
         // Best ask should be lowest price
-        assertEquals(2501.00, book.getBestAsk());
+        assertEquals(px(2501.00), book.getBestAsk());
         System.out.println("Best Ask: " + book.getBestAsk());
     }
 
@@ -104,7 +110,7 @@ class OrderBookTest {
     @DisplayName("Cancelling existing order should remove it")
     void testCancelExistingOrder() {
         book.addOrder(new Order(1L, "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2500.00, 500));
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 500));
 
         assertTrue(book.cancelOrder(1L));
         assertEquals(0, book.getTotalOrders());
@@ -124,14 +130,14 @@ class OrderBookTest {
     @DisplayName("Cancelling one order should not affect others")
     void testCancelOneOrderLeavesOthers() {
         book.addOrder(new Order(1L, "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2500.00, 500));
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 500));
         book.addOrder(new Order(2L, "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2499.00, 300));
+            OrderSide.BID, OrderType.LIMIT, px(2499.00), 300));
 
         book.cancelOrder(1L);
 
         assertEquals(1, book.getTotalOrders());
-        assertEquals(2499.00, book.getBestBid());
+        assertEquals(px(2499.00), book.getBestBid());
     }
 
     // ─────────────────────────────────────────────────
@@ -142,11 +148,11 @@ class OrderBookTest {
     @DisplayName("Spread should be ask minus bid")
     void testSpreadCalculation() {
         book.addOrder(new Order(1L, "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2500.00, 500));
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 500));
         book.addOrder(new Order(2L, "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 300));
 
-        assertEquals(1.00, book.getSpread(), 0.001);
+        assertEquals(px(1.00), book.getSpread());
         System.out.println("Spread: " + book.getSpread());
     }
 
@@ -154,11 +160,11 @@ class OrderBookTest {
     @DisplayName("Mid price should be average of bid and ask")
     void testMidPriceCalculation() {
         book.addOrder(new Order(1L, "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2500.00, 500));
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 500));
         book.addOrder(new Order(2L, "RELIANCE",
-            OrderSide.ASK, OrderType.LIMIT, 2501.00, 300));
+            OrderSide.ASK, OrderType.LIMIT, px(2501.00), 300));
 
-        assertEquals(2500.50, book.getMidPrice(), 0.001);
+        assertEquals(px(2500.50), book.getMidPrice(), 0.001);
         System.out.println("Mid Price: " + book.getMidPrice());
     }
 
@@ -169,18 +175,51 @@ class OrderBookTest {
     @Test
     @DisplayName("Empty book should return zero for best bid")
     void testEmptyBookBestBid() {
-        assertEquals(0.0, book.getBestBid());
+        assertEquals(0, book.getBestBid());
     }
 
     @Test
     @DisplayName("Empty book should return zero for best ask")
     void testEmptyBookBestAsk() {
-        assertEquals(0.0, book.getBestAsk());
+        assertEquals(0, book.getBestAsk());
     }
 
     @Test
     @DisplayName("Empty book should return zero spread")
     void testEmptyBookSpread() {
-        assertEquals(0.0, book.getSpread());
+        assertEquals(0, book.getSpread());
+    }
+
+    // ─────────────────────────────────────────────────
+    // TICK PRICE TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Half-paisa prices should map to exact ticks")
+    void testSubPaisaTickPricesAreExact() {
+        PriceScale scale = new PriceScale(0.005);
+        OrderBook fine   = new OrderBook("RELIANCE", scale);
+
+        fine.addOrder(new Order(1L, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT,
+            scale.toTicks(2500.005), 100));
+        fine.addOrder(new Order(2L, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT,
+            scale.toTicks(2500.00 + 0.005), 200));
+
+        // Both prices land on the same level
+        assertEquals(500001L, fine.getBestAsk());
+        assertEquals(1, fine.getAsks().size());
+        assertEquals(300, fine.getBestAskLevel().getTotalVolume());
+    }
+
+    @Test
+    @DisplayName("Off-tick price should be rejected")
+    void testOffTickPriceRejected() {
+        PriceScale scale = new PriceScale(0.05);
+
+        assertEquals(50001L, scale.toTicks(2500.05));
+        assertThrows(IllegalArgumentException.class,
+            () -> scale.toTicks(2500.03));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.trading.lob;
+
+import com.trading.lob.book.OrderIndex;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit Tests for OrderIndex
+ *
+ * Tests the primitive long → Order hash map:
+ * - Put, get and remove
+ * - Backward-shift delete keeps probe chains intact
+ * - Preallocation from expected order count
+ */
+class OrderIndexTest {
+
+    private OrderIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OrderIndex(64);
+    }
+
+    private static Order order(long id) {
+        return new Order(id, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, 250000, 100);
+    }
+
+    @Test
+    @DisplayName("Put then get should return the same order")
+    void testPutAndGet() {
+        Order order = order(1001L);
+
+        assertNull(index.put(1001L, order));
+
+        assertSame(order, index.get(1001L));
+        assertEquals(1, index.size());
+        assertNull(index.get(1002L));
+    }
+
+    @Test
+    @DisplayName("Remove should return order and shrink size")
+    void testRemove() {
+        Order order = order(7L);
+        index.put(7L, order);
+
+        assertSame(order, index.remove(7L));
+        assertNull(index.remove(7L),
+            "Second remove should find nothing");
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Capacity should be preallocated from expected orders")
+    void testPreallocatedCapacity() {
+        OrderIndex sized = new OrderIndex(100_000);
+        int capacity = sized.capacity();
+
+        for (long id = 1; id <= 100_000; id++) {
+            sized.put(id, order(id));
+        }
+
+        assertEquals(capacity, sized.capacity(),
+            "Index should not rehash within expected size");
+        assertEquals(100_000, sized.size());
+    }
+
+    @Test
+    @DisplayName("Random churn should match java.util.HashMap")
+    void testRandomChurnMatchesHashMap() {
+        Random random = new Random(7);
+        Map<Long, Order> expected = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            long id = random.nextInt(200);
+            if (random.nextInt(3) == 0) {
+                assertSame(expected.remove(id), index.remove(id));
+            } else {
+                Order order = order(id);
+                assertSame(expected.put(id, order), index.put(id, order));
+            }
+        }
+
+        assertEquals(expected.size(), index.size());
+        for (long id = 0; id < 200; id++) {
+            assertSame(expected.get(id), index.get(id));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.event.EngineListener;
+import com.trading.lob.journal.FsyncPolicy;
+import com.trading.lob.journal.Journal;
+import com.trading.lob.marketdata.MarketByOrderBook;
+import com.trading.lob.marketdata.MarketByOrderFeed;
+import com.trading.lob.marketdata.MarketByPriceBook;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.RejectReason;
+import com.trading.lob.model.TimeInForce;
+import com.trading.lob.snapshot.BookSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit Tests for pegged orders
+ *
+ * Tests:
+ * - Primary, mid and market pegs price off the
+ *   non-peg touch and never cross
+ * - A touch change moves every affected peg in one
+ *   pass; pegs never follow pegs
+ * - Feeds, journal replay and snapshots move pegs
+ *   exactly as the live engine did
+ */
+class PegOrderTest {
+
+    // ─────────────────────────────────────────────────
+    // PRICING TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Pegs should price off the touch and never cross")
+    void testPegPrices() {
+        List<RejectReason> rejects = new ArrayList<>();
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"),
+            new EngineListener() {
+                @Override
+                public void onOrderRejected(long orderId, RejectReason reason) {
+                    rejects.add(reason);
+                }
+            });
+        OrderBook book = engine.getOrderBook();
+
+        // Nothing to peg to yet
+        engine.submitOrder(peg(1, OrderSide.BID, OrderType.PEG_PRIMARY, 100, 0));
+        assertEquals(List.of(RejectReason.NO_PEG_PRICE), rejects);
+        assertEquals(0, book.getTotalOrders());
+
+        limit(engine, 2, OrderSide.BID, 250_000, 100);
+        limit(engine, 3, OrderSide.ASK, 250_200, 100);
+        engine.submitOrder(peg(4, OrderSide.BID, OrderType.PEG_PRIMARY, 50, -1));
+        engine.submitOrder(peg(5, OrderSide.ASK, OrderType.PEG_MID, 50, 0));
+        engine.submitOrder(peg(6, OrderSide.BID, OrderType.PEG_MARKET, 50, 0));
+
+        assertEquals(249_999, book.getOrderMap().get(4).getPrice());
+        assertEquals(250_100, book.getOrderMap().get(5).getPrice());
+        // Ask ref is 250_200 but #5 is best ask: one tick short
+        assertEquals(250_099, book.getOrderMap().get(6).getPrice());
+        assertEquals(0, engine.getTotalTrades());
+        assertEquals(1, book.getBestBidLevel().getPeggedCount());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new Order(7, "RELIANCE", OrderSide.BID, OrderType.PEG_MID,
+                0, 10, TimeInForce.IOC, 0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Touch change should move pegs in one pass")
+    void testRepriceOnTouchChange() {
+        List<Long> repriced = new ArrayList<>();
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"),
+            new EngineListener() {
+                @Override
+                public void onOrderRepriced(long orderId, OrderSide side,
+                                            long newPrice) {
+                    repriced.add(orderId);
+                }
+            });
+        OrderBook book = engine.getOrderBook();
+        limit(engine, 1, OrderSide.BID, 250_000, 100);
+        limit(engine, 2, OrderSide.ASK, 250_200, 100);
+        engine.submitOrder(peg(3, OrderSide.BID, OrderType.PEG_PRIMARY, 50, 0));
+        engine.submitOrder(peg(4, OrderSide.ASK, OrderType.PEG_PRIMARY, 50, 0));
+        assertEquals(150, book.getBestBidLevel().getTotalVolume());
+
+        // Better bid: #3 follows it, #4's reference did not move
+        limit(engine, 5, OrderSide.BID, 250_100, 10);
+        assertEquals(List.of(3L), repriced);
+        assertEquals(5, book.getBestBidLevel().peek().getOrderId());
+        assertEquals(60, book.getBestBidLevel().getTotalVolume());
+        assertEquals(100, book.getSide(OrderSide.BID)
+            .nextLevel(250_100).getTotalVolume());
+
+        // Back again: #3 joins the back of 250_000
+        assertTrue(engine.cancelOrder(5));
+        assertEquals(List.of(3L, 3L), repriced);
+        assertEquals(1, book.getBestBidLevel().peek().getOrderId());
+        assertEquals(3, book.getBestBidLevel().getLastOrder().getOrderId());
+
+        // Only the peg is left at the touch: nothing to
+        // follow, so it stays rather than chase itself
+        assertTrue(engine.cancelOrder(1));
+        assertEquals(2, repriced.size());
+        assertEquals(250_000, book.getBestBid());
+
+        // A peg trades like any resting order; the
+        // filled one leaves the PegBook on the next pass
+        engine.submitOrder(new Order(6, "RELIANCE", OrderSide.ASK,
+            OrderType.LIMIT, 250_000, 50));
+        assertFalse(book.hasBids());
+        limit(engine, 7, OrderSide.ASK, 250_150, 10);
+        assertEquals(1, engine.getPegBook().size());
+        assertEquals(250_150, book.getOrderMap().get(4).getPrice());
+    }
+
+    // ─────────────────────────────────────────────────
+    // CONSISTENCY TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Feeds, replay and snapshots should follow peg moves")
+    void testFeedsReplayAndSnapshot(@TempDir Path dir) {
+        MatchingEngine live = new MatchingEngine(new OrderBook("RELIANCE"));
+        MarketByOrderBook l3 = new MarketByOrderBook("RELIANCE");
+        MarketByOrderFeed feed = new MarketByOrderFeed(l3);
+        MarketByPriceBook l2 = new MarketByPriceBook();
+        live.setOrderFeed(feed);
+        live.getOrderBook().setLevelUpdateListener(l2);
+
+        Random random = new Random(17L);
+        try (Journal journal = new Journal(dir, 4096, FsyncPolicy.none())) {
+            live.setJournal(journal);
+            runSessionWithPegs(live, random, 3_000);
+        }
+        live.setJournal(null);
+        BookFixtures.assertFeedsMatch(live, feed, l3, l2);
+        BookFixtures.assertReplayMatches(live, dir);
+
+        // A reloaded engine keeps moving pegs like the live one
+        Path file = BookSnapshot.write(dir, live);
+        MatchingEngine loaded = new MatchingEngine(new OrderBook("RELIANCE"));
+        BookSnapshot.load(file, loaded);
+        long seed = random.nextLong();
+        runSessionWithPegs(live, new Random(seed), 1_000);
+        runSessionWithPegs(loaded, new Random(seed), 1_000);
+        BookFixtures.assertSameBook(live, loaded);
+    }
+
+    // Random limits, pegs, cancels and replaces around 2500.00
+    private static void runSessionWithPegs(MatchingEngine engine,
+                                           Random random, int commands) {
+        OrderType[] pegTypes = {
+            OrderType.PEG_PRIMARY, OrderType.PEG_MID, OrderType.PEG_MARKET
+        };
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < commands; i++) {
+            int pick = random.nextInt(10);
+            if (!ids.isEmpty() && pick < 2) {
+                engine.cancelOrder(ids.remove(random.nextInt(ids.size())));
+                continue;
+            }
+            if (!ids.isEmpty() && pick < 3) {
+                engine.replaceOrder(ids.get(random.nextInt(ids.size())),
+                    250_000 + random.nextInt(21) - 10,
+                    1 + random.nextInt(500), (b, s, p, q) -> { });
+                continue;
+            }
+            long id = engine.getNextOrderId();
+            OrderSide side = random.nextBoolean() ? OrderSide.BID : OrderSide.ASK;
+            if (pick < 6) {
+                engine.submitOrder(new Order(id, "RELIANCE", side,
+                    pegTypes[random.nextInt(3)], 0, 1 + random.nextInt(500),
+                    TimeInForce.DAY, 0, 0, 0, random.nextInt(5) - 2),
+                    (b, s, p, q) -> { });
+            } else {
+                engine.submitOrder(new Order(id, "RELIANCE", side,
+                    OrderType.LIMIT, 250_000 + random.nextInt(21) - 10,
+                    1 + random.nextInt(500)), (b, s, p, q) -> { });
+            }
+            ids.add(id);
+        }
+    }
+
+    private static Order peg(long id, OrderSide side, OrderType type,
+                             int quantity, long offset) {
+        return new Order(id, "RELIANCE", side, type, 0, quantity,
+                         TimeInForce.DAY, 0, 0, 0, offset);
+    }
+
+    private static void limit(MatchingEngine engine, long id, OrderSide side,
+                              long price, int quantity) {
+        engine.submitOrder(new Order(id, "RELIANCE",
+            side, OrderType.LIMIT, price, quantity));
+    }
+}
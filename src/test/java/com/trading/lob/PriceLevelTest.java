@@ -4,6 +4,7 @@ import com.trading.lob.book.PriceLevel;
 import com.trading.lob.model.Order;
 import com.trading.lob.model.OrderSide;
 import com.trading.lob.model.OrderType;
+import com.trading.lob.model.PriceScale;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,7 +25,12 @@ class PriceLevelTest {
 
     @BeforeEach
     void setUp() {
-        level = new PriceLevel(2500.00);
+        level = new PriceLevel(px(2500.00));
+    }
+
+    // Decimal price → ticks at the default ₹0.01 tick
+    private static long px(double price) {
+        return PriceScale.DEFAULT.toTicks(price);
     }
 
     @Test
@@ -41,7 +47,7 @@ class PriceLevelTest {
         Order order = new Order(
             1L, "RELIANCE",
             OrderSide.BID, OrderType.LIMIT,
-            2500.00, 500);
+            px(2500.00), 500);
 
         level.addOrder(order);
 
@@ -56,15 +62,15 @@ class PriceLevelTest {
         Order first = new Order(
             1L, "RELIANCE",
             OrderSide.BID, OrderType.LIMIT,
-            2500.00, 100);
+            px(2500.00), 100);
         Order second = new Order(
             2L, "RELIANCE",
             OrderSide.BID, OrderType.LIMIT,
-            2500.00, 200);
+            px(2500.00), 200);
         Order third = new Order(
             3L, "RELIANCE",
             OrderSide.BID, OrderType.LIMIT,
-            2500.00, 300);
+            px(2500.00), 300);
 
         level.addOrder(first);
         level.addOrder(second);
@@ -87,7 +93,7 @@ class PriceLevelTest {
         Order order = new Order(
             1L, "RELIANCE",
             OrderSide.BID, OrderType.LIMIT,
-            2500.00, 500);
+            px(2500.00), 500);
 
         level.addOrder(order);
         level.removeOrder(order);
@@ -100,11 +106,11 @@ class PriceLevelTest {
     @DisplayName("Multiple orders total volume should be correct")
     void testTotalVolumeMultipleOrders() {
         level.addOrder(new Order(1L, "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2500.00, 100));
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 100));
         level.addOrder(new Order(2L, "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2500.00, 200));
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 200));
         level.addOrder(new Order(3L, "RELIANCE",
-            OrderSide.BID, OrderType.LIMIT, 2500.00, 300));
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 300));
 
         assertEquals(600, level.getTotalVolume(),
             "Total volume should be 100+200+300=600");
@@ -118,7 +124,7 @@ class PriceLevelTest {
         Order order = new Order(
             1L, "RELIANCE",
             OrderSide.BID, OrderType.LIMIT,
-            2500.00, 500);
+            px(2500.00), 500);
 
         level.addOrder(order);
         Order peeked = level.peek();
@@ -127,4 +133,62 @@ class PriceLevelTest {
         assertEquals(1, level.getOrderCount(),
             "Peek should not remove order");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Removing a middle order should keep FIFO of the rest")
+    void testRemoveMiddleOrderKeepsFIFO() {
+        Order first  = new Order(1L, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 100);
+        Order second = new Order(2L, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 200);
+        Order third  = new Order(3L, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 300);
+
+        level.addOrder(first);
+        level.addOrder(second);
+        level.addOrder(third);
+
+        assertTrue(level.removeOrder(second));
+        assertNull(second.getLevel(),
+            "Removed order should be unlinked");
+
+        assertEquals(2, level.getOrderCount());
+        assertEquals(400, level.getTotalVolume());
+        assertEquals(first, level.poll());
+        assertEquals(third, level.poll());
+        assertTrue(level.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Removing order from another level should fail")
+    void testRemoveOrderFromWrongLevel() {
+        PriceLevel other = new PriceLevel(px(2499.00));
+        Order order = new Order(1L, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, px(2499.00), 100);
+        other.addOrder(order);
+
+        assertFalse(level.removeOrder(order));
+        assertEquals(1, other.getOrderCount());
+    }
+
+    @Test
+    @DisplayName("Partial fill should reduce volume and keep position")
+    void testPartialFillKeepsQueuePosition() {
+        Order first  = new Order(1L, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 100);
+        Order second = new Order(2L, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, px(2500.00), 200);
+        level.addOrder(first);
+        level.addOrder(second);
+
+        level.fill(first, 40);
+        assertEquals(260, level.getTotalVolume());
+        assertEquals(first, level.peek(),
+            "Partially filled order keeps its place");
+
+        level.fill(first, 60);
+        assertEquals(200, level.getTotalVolume());
+        assertEquals(second, level.peek(),
+            "Fully filled order leaves the queue");
+    }
+}
@@ -0,0 +1,183 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.book.PriceLevel;
+import com.trading.lob.event.EngineListener;
+import com.trading.lob.journal.FsyncPolicy;
+import com.trading.lob.journal.Journal;
+import com.trading.lob.marketdata.MarketByOrderBook;
+import com.trading.lob.marketdata.MarketByOrderFeed;
+import com.trading.lob.marketdata.MarketByPriceBook;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.RejectReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit Tests for order replace (cancel/replace)
+ *
+ * Tests:
+ * - A quantity cut at the same price keeps the
+ *   order's place in the queue
+ * - A new price or more quantity goes to the back
+ * - A replace that crosses trades first
+ * - Feeds and journal replay follow replaces exactly
+ */
+class ReplaceOrderTest {
+
+    // ─────────────────────────────────────────────────
+    // PRIORITY TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Quantity cut should keep queue position")
+    void testReduceKeepsPriority() {
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        bid(engine, 1, 250_000, 100);
+        bid(engine, 2, 250_000, 100);
+
+        assertTrue(engine.replaceOrder(1, 250_000, 40));
+        PriceLevel level = engine.getOrderBook().getBestBidLevel();
+        assertEquals(1, level.peek().getOrderId());
+        assertEquals(140, level.getTotalVolume());
+
+        // #1 still trades first
+        engine.submitOrder(new Order(3, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, 250_000, 50));
+        assertEquals(2, level.peek().getOrderId());
+        assertEquals(90, level.getTotalVolume());
+        assertEquals(2, engine.getTotalTrades());
+    }
+
+    @Test
+    @DisplayName("New price or more quantity should requeue at the back")
+    void testRequeue() {
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        OrderBook book = engine.getOrderBook();
+        bid(engine, 1, 250_000, 100);
+        bid(engine, 2, 250_000, 100);
+
+        assertTrue(engine.replaceOrder(1, 250_000, 150));
+        assertEquals("2 1 ", queue(book.getBestBidLevel()));
+        assertEquals(250, book.getBestBidLevel().getTotalVolume());
+
+        assertTrue(engine.replaceOrder(2, 249_900, 100));
+        assertEquals("1 ", queue(book.getBestBidLevel()));
+        assertEquals(249_900, book.getSide(OrderSide.BID)
+            .nextLevel(250_000).getPrice());
+        assertEquals(2, book.getTotalOrders());
+        assertEquals(0, engine.getTotalTrades());
+    }
+
+    @Test
+    @DisplayName("Crossing replace should trade; unknown ID is rejected")
+    void testCrossingReplace() {
+        List<RejectReason> rejects = new ArrayList<>();
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"),
+            new EngineListener() {
+                @Override
+                public void onOrderRejected(long orderId, RejectReason reason) {
+                    rejects.add(reason);
+                }
+            });
+        OrderBook book = engine.getOrderBook();
+        bid(engine, 1, 250_000, 100);
+        engine.submitOrder(new Order(2, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, 250_100, 60));
+
+        assertTrue(engine.replaceOrder(1, 250_100, 100));
+        assertEquals(1, engine.getTotalTrades());
+        assertEquals(250_100, engine.getTradeHistory().get(0).getPrice());
+        assertEquals(60, engine.getTradeHistory().get(0).getQuantity());
+        assertFalse(book.hasAsks());
+        assertEquals(250_100, book.getBestBid());
+        assertEquals(40, book.getBestBidLevel().getTotalVolume());
+
+        assertFalse(engine.replaceOrder(99, 250_000, 10));
+        assertEquals(List.of(RejectReason.UNKNOWN_ORDER), rejects);
+        assertThrows(IllegalArgumentException.class,
+            () -> engine.replaceOrder(1, 250_100, 0));
+    }
+
+    // ─────────────────────────────────────────────────
+    // CONSISTENCY TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Feeds and journal replay should follow replaces")
+    void testFeedsAndReplay(@TempDir Path dir) {
+        MatchingEngine live = new MatchingEngine(new OrderBook("RELIANCE"));
+        MarketByOrderBook l3 = new MarketByOrderBook("RELIANCE");
+        MarketByOrderFeed feed = new MarketByOrderFeed(l3);
+        MarketByPriceBook l2 = new MarketByPriceBook();
+        live.setOrderFeed(feed);
+        live.getOrderBook().setLevelUpdateListener(l2);
+
+        try (Journal journal = new Journal(dir, 4096, FsyncPolicy.none())) {
+            live.setJournal(journal);
+            runSessionWithReplaces(live, 3_000, 11L);
+        }
+        BookFixtures.assertFeedsMatch(live, feed, l3, l2);
+
+        MatchingEngine rebuilt = BookFixtures.assertReplayMatches(live, dir);
+        assertEquals(live.getTotalTrades(), rebuilt.getTotalTrades());
+    }
+
+    // Random adds, cancels and replaces around 2500.00
+    private static void runSessionWithReplaces(MatchingEngine engine,
+                                               int commands, long seed) {
+        Random random = new Random(seed);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < commands; i++) {
+            int pick = random.nextInt(10);
+            if (!ids.isEmpty() && pick < 2) {
+                engine.cancelOrder(ids.remove(random.nextInt(ids.size())));
+                continue;
+            }
+            if (!ids.isEmpty() && pick < 5) {
+                long id = ids.get(random.nextInt(ids.size()));
+                Order order = engine.getOrderBook().getOrderMap().get(id);
+                // Mostly cuts, some moves and increases
+                long price = order == null || random.nextBoolean()
+                    ? 250_000 + random.nextInt(41) - 20
+                    : order.getPrice();
+                int quantity = order == null || random.nextInt(3) == 0
+                    ? 1 + random.nextInt(500)
+                    : 1 + random.nextInt(order.getQuantity());
+                engine.replaceOrder(id, price, quantity, (b, s, p, q) -> { });
+                continue;
+            }
+            long id = engine.getNextOrderId();
+            OrderSide side = random.nextBoolean()
+                ? OrderSide.BID : OrderSide.ASK;
+            engine.submitOrder(new Order(id, "RELIANCE", side, OrderType.LIMIT,
+                250_000 + random.nextInt(41) - 20, 1 + random.nextInt(500)),
+                (b, s, p, q) -> { });
+            ids.add(id);
+        }
+    }
+
+    private static void bid(MatchingEngine engine, long id,
+                            long price, int quantity) {
+        engine.submitOrder(new Order(id, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, price, quantity));
+    }
+
+    private static String queue(PriceLevel level) {
+        StringBuilder sb = new StringBuilder();
+        for (Order o = level.peek(); o != null; o = o.getNextInLevel()) {
+            sb.append(o.getOrderId()).append(' ');
+        }
+        return sb.toString();
+    }
+}
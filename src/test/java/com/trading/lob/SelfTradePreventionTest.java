@@ -0,0 +1,225 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.event.EngineListener;
+import com.trading.lob.journal.FsyncPolicy;
+import com.trading.lob.journal.Journal;
+import com.trading.lob.marketdata.MarketByOrderBook;
+import com.trading.lob.marketdata.MarketByOrderFeed;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.PostOnly;
+import com.trading.lob.model.RejectReason;
+import com.trading.lob.model.SelfTradePrevention;
+import com.trading.lob.model.TimeInForce;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit Tests for post-only orders and self-trade
+ * prevention
+ *
+ * Tests:
+ * - Post-only orders (and replaces) that would trade
+ *   are refused or slid one tick short
+ * - Each self-trade mode gives way as documented;
+ *   without a mode own orders still trade
+ * - Decrement keeps feeds and journal replay exact
+ */
+class SelfTradePreventionTest {
+
+    // ─────────────────────────────────────────────────
+    // POST-ONLY TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Post-only should be refused or slid, never take")
+    void testPostOnly() {
+        List<RejectReason> rejects = new ArrayList<>();
+        MatchingEngine engine = engine(rejects, new ArrayList<>());
+        OrderBook book = engine.getOrderBook();
+        engine.submitOrder(order(1, OrderSide.ASK, 250_100, 100, 0,
+            PostOnly.NONE, SelfTradePrevention.NONE));
+
+        engine.submitOrder(order(2, OrderSide.BID, 250_100, 50, 0,
+            PostOnly.REJECT, SelfTradePrevention.NONE));
+        assertEquals(List.of(RejectReason.WOULD_CROSS), rejects);
+        assertFalse(book.hasBids());
+
+        engine.submitOrder(order(3, OrderSide.BID, 250_300, 50, 0,
+            PostOnly.SLIDE, SelfTradePrevention.NONE));
+        assertEquals(250_099, book.getBestBid());
+        assertEquals(0, engine.getTotalTrades());
+
+        // Replace up through the ask: slid again
+        assertTrue(engine.replaceOrder(3, 250_200, 50));
+        assertEquals(250_099, book.getBestBid());
+        assertEquals(0, engine.getTotalTrades());
+
+        // REJECT on replace leaves the order as it was
+        engine.submitOrder(order(4, OrderSide.BID, 250_000, 50, 0,
+            PostOnly.REJECT, SelfTradePrevention.NONE));
+        assertFalse(engine.replaceOrder(4, 250_100, 50));
+        assertEquals(2, rejects.size());
+        assertEquals(250_000, book.getOrderMap().get(4).getPrice());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> order(5, OrderSide.BID, 0, 10, 0, PostOnly.REJECT,
+                        SelfTradePrevention.NONE, OrderType.MARKET));
+    }
+
+    // ─────────────────────────────────────────────────
+    // SELF-TRADE TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Self-trade modes should cancel newest, oldest or both")
+    void testCancelModes() {
+        List<Long> cancelled = new ArrayList<>();
+        MatchingEngine engine = engine(new ArrayList<>(), cancelled);
+        OrderBook book = engine.getOrderBook();
+        engine.submitOrder(order(1, OrderSide.ASK, 250_100, 100, 7,
+            PostOnly.NONE, SelfTradePrevention.NONE));
+        engine.submitOrder(order(2, OrderSide.ASK, 250_100, 100, 8,
+            PostOnly.NONE, SelfTradePrevention.NONE));
+        engine.submitOrder(order(3, OrderSide.ASK, 250_200, 100, 7,
+            PostOnly.NONE, SelfTradePrevention.NONE));
+
+        // Newest: stops at #1, nothing trades or rests
+        engine.submitOrder(order(4, OrderSide.BID, 250_200, 50, 7,
+            PostOnly.NONE, SelfTradePrevention.CANCEL_NEWEST));
+        assertEquals(List.of(4L), cancelled);
+        assertEquals(0, engine.getTotalTrades());
+        assertFalse(book.hasBids());
+
+        // Oldest: #1 goes, trades with #2, #3 goes too
+        engine.submitOrder(order(5, OrderSide.BID, 250_200, 150, 7,
+            PostOnly.NONE, SelfTradePrevention.CANCEL_OLDEST));
+        assertEquals(List.of(4L, 1L, 3L), cancelled);
+        assertEquals(1, engine.getTotalTrades());
+        assertFalse(book.hasAsks());
+        assertEquals(50, book.getBestBidLevel().getTotalVolume());
+
+        // Both: #5 and #6 cancel each other
+        engine.submitOrder(order(6, OrderSide.ASK, 250_000, 80, 7,
+            PostOnly.NONE, SelfTradePrevention.CANCEL_BOTH));
+        assertEquals(List.of(4L, 1L, 3L, 5L, 6L), cancelled);
+        assertEquals(0, book.getTotalOrders());
+
+        // No mode: own orders trade as before
+        engine.submitOrder(order(7, OrderSide.ASK, 250_000, 10, 7,
+            PostOnly.NONE, SelfTradePrevention.NONE));
+        engine.submitOrder(order(8, OrderSide.BID, 250_000, 10, 7,
+            PostOnly.NONE, SelfTradePrevention.NONE));
+        assertEquals(2, engine.getTotalTrades());
+    }
+
+    @Test
+    @DisplayName("Decrement should shrink both; feeds and replay follow")
+    void testDecrementAndReplay(@TempDir Path dir) {
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        OrderBook book = engine.getOrderBook();
+        engine.submitOrder(order(1, OrderSide.ASK, 250_100, 100, 7,
+            PostOnly.NONE, SelfTradePrevention.NONE));
+        engine.submitOrder(order(2, OrderSide.ASK, 250_100, 100, 8,
+            PostOnly.NONE, SelfTradePrevention.NONE));
+
+        // 30 vs 100: #1 keeps 70 and its place, #3 is gone
+        engine.submitOrder(order(3, OrderSide.BID, 250_100, 30, 7,
+            PostOnly.NONE, SelfTradePrevention.DECREMENT));
+        assertEquals(1, book.getBestAskLevel().peek().getOrderId());
+        assertEquals(170, book.getBestAskLevel().getTotalVolume());
+        assertFalse(book.hasBids());
+
+        // 120 vs 70: #1 is gone, #4 trades 50 with #2
+        engine.submitOrder(order(4, OrderSide.BID, 250_100, 120, 7,
+            PostOnly.NONE, SelfTradePrevention.DECREMENT));
+        assertEquals(1, engine.getTotalTrades());
+        assertEquals(50, book.getBestAskLevel().getTotalVolume());
+        assertFalse(book.hasBids());
+
+        MatchingEngine live = new MatchingEngine(new OrderBook("RELIANCE"));
+        MarketByOrderBook l3 = new MarketByOrderBook("RELIANCE");
+        MarketByOrderFeed feed = new MarketByOrderFeed(l3);
+        live.setOrderFeed(feed);
+        try (Journal journal = new Journal(dir, 4096, FsyncPolicy.none())) {
+            live.setJournal(journal);
+            runSessionWithOwners(live, 3_000, 23L);
+        }
+        BookFixtures.assertFeedsMatch(live, feed, l3, null);
+
+        MatchingEngine rebuilt = BookFixtures.assertReplayMatches(live, dir);
+        assertEquals(live.getTotalTrades(), rebuilt.getTotalTrades());
+    }
+
+    // Three owners, every mode, some post-only, around 2500.00
+    private static void runSessionWithOwners(MatchingEngine engine,
+                                             int commands, long seed) {
+        Random random = new Random(seed);
+        SelfTradePrevention[] modes = SelfTradePrevention.values();
+        PostOnly[] postOnly = PostOnly.values();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < commands; i++) {
+            int pick = random.nextInt(10);
+            if (!ids.isEmpty() && pick < 2) {
+                engine.cancelOrder(ids.remove(random.nextInt(ids.size())));
+                continue;
+            }
+            if (!ids.isEmpty() && pick < 3) {
+                engine.replaceOrder(ids.get(random.nextInt(ids.size())),
+                    250_000 + random.nextInt(21) - 10,
+                    1 + random.nextInt(500), (b, s, p, q) -> { });
+                continue;
+            }
+            long id = engine.getNextOrderId();
+            OrderSide side = random.nextBoolean() ? OrderSide.BID : OrderSide.ASK;
+            int display = random.nextInt(5) == 0 ? 1 + random.nextInt(100) : 0;
+            engine.submitOrder(new Order(id, "RELIANCE", side, OrderType.LIMIT,
+                250_000 + random.nextInt(21) - 10, 1 + random.nextInt(500),
+                TimeInForce.DAY, 0, display, 0, 0, 1 + random.nextInt(3),
+                postOnly[random.nextInt(postOnly.length)],
+                modes[random.nextInt(modes.length)]), (b, s, p, q) -> { });
+            ids.add(id);
+        }
+    }
+
+    private static MatchingEngine engine(List<RejectReason> rejects,
+                                         List<Long> cancelled) {
+        return new MatchingEngine(new OrderBook("RELIANCE"),
+            new EngineListener() {
+                @Override
+                public void onOrderRejected(long orderId, RejectReason reason) {
+                    rejects.add(reason);
+                }
+
+                @Override
+                public void onOrderCancelled(long orderId, OrderSide side,
+                                             long price, int quantity) {
+                    cancelled.add(orderId);
+                }
+            });
+    }
+
+    private static Order order(long id, OrderSide side, long price,
+                               int quantity, long ownerId, PostOnly postOnly,
+                               SelfTradePrevention selfTrade) {
+        return order(id, side, price, quantity, ownerId, postOnly,
+                     selfTrade, OrderType.LIMIT);
+    }
+
+    private static Order order(long id, OrderSide side, long price,
+                               int quantity, long ownerId, PostOnly postOnly,
+                               SelfTradePrevention selfTrade, OrderType type) {
+        return new Order(id, "RELIANCE", side, type, price, quantity,
+                         ownerId, postOnly, selfTrade);
+    }
+}
@@ -0,0 +1,170 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.event.EngineListener;
+import com.trading.lob.journal.FsyncPolicy;
+import com.trading.lob.journal.Journal;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.TimeInForce;
+import com.trading.lob.snapshot.BookSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit Tests for stop and stop-limit orders
+ *
+ * Tests:
+ * - Stops stay off the book until the last trade
+ *   reaches their stop price
+ * - A cascade of stops triggers in one command
+ * - Parked stops cancel, expire and survive journal
+ *   replay and snapshots
+ */
+class StopOrderTest {
+
+    // ─────────────────────────────────────────────────
+    // TRIGGER TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Stops should trigger when the last trade reaches them")
+    void testTrigger() {
+        List<Long> triggered = new ArrayList<>();
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"),
+            new EngineListener() {
+                @Override
+                public void onStopTriggered(long orderId, OrderSide side,
+                                            long lastPrice) {
+                    triggered.add(orderId);
+                }
+            });
+        OrderBook book = engine.getOrderBook();
+        limit(engine, 1, OrderSide.ASK, 250_100, 100);
+        limit(engine, 2, OrderSide.ASK, 250_200, 100);
+        limit(engine, 3, OrderSide.BID, 249_900, 100);
+
+        engine.submitOrder(stop(4, OrderSide.BID, OrderType.STOP,
+            0, 250_100, 50));
+        engine.submitOrder(stop(5, OrderSide.ASK, OrderType.STOP_LIMIT,
+            249_900, 249_900, 30));
+        assertEquals(2, engine.getStopBook().size());
+        assertEquals(3, book.getTotalOrders(), "Stops stay off the book");
+
+        // Trade at 250_100 sets off the buy stop
+        assertEquals(2, engine.submitOrder(new Order(6, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, 250_100, 10), (b, s, p, q) -> { }));
+        assertEquals(List.of(4L), triggered);
+        assertEquals(40, book.getBestAskLevel().getTotalVolume());
+
+        // Trade at 249_900 sets off the sell stop-limit,
+        // which rests once nothing is left to hit
+        limit(engine, 7, OrderSide.ASK, 249_900, 100);
+        assertEquals(List.of(4L, 5L), triggered);
+        assertEquals(0, engine.getStopBook().size());
+        assertEquals(249_900, book.getBestAsk());
+        assertEquals(5, book.getBestAskLevel().peek().getOrderId());
+        assertEquals(30, book.getBestAskLevel().getTotalVolume());
+    }
+
+    @Test
+    @DisplayName("Stop cascade should run within one command")
+    void testCascade() {
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        OrderBook book = engine.getOrderBook();
+        limit(engine, 1, OrderSide.BID, 250_000, 100);
+        limit(engine, 2, OrderSide.BID, 249_900, 100);
+        limit(engine, 3, OrderSide.BID, 249_800, 100);
+        engine.submitOrder(stop(4, OrderSide.ASK, OrderType.STOP,
+            0, 250_000, 100));
+        engine.submitOrder(stop(5, OrderSide.ASK, OrderType.STOP,
+            0, 249_900, 100));
+        engine.submitOrder(stop(6, OrderSide.ASK, OrderType.STOP,
+            0, 249_000, 100));
+
+        // 1 fill, then #4 takes 250_000 / 249_900 and
+        // #5 takes 249_900 / 249_800
+        assertEquals(5, engine.submitOrder(new Order(7, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, 250_000, 10), (b, s, p, q) -> { }));
+        assertEquals(5, engine.getTotalTrades());
+        assertEquals(249_800, engine.getLastTradePrice());
+        assertEquals(249_800, book.getBestBid());
+        assertEquals(90, book.getBestBidLevel().getTotalVolume());
+        assertEquals(1, engine.getStopBook().size(), "#6 not reached");
+
+        // Already through its stop: triggers on arrival
+        assertEquals(1, engine.submitOrder(stop(8, OrderSide.ASK,
+            OrderType.STOP, 0, 249_800, 10), (b, s, p, q) -> { }));
+        assertEquals(80, book.getBestBidLevel().getTotalVolume());
+        assertThrows(IllegalArgumentException.class,
+            () -> stop(9, OrderSide.ASK, OrderType.STOP, 0, 0, 10));
+    }
+
+    // ─────────────────────────────────────────────────
+    // LIFECYCLE TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Parked stops should cancel, expire, replay and snapshot")
+    void testLifecycle(@TempDir Path dir) {
+        MatchingEngine live = new MatchingEngine(new OrderBook("RELIANCE"));
+        try (Journal journal = new Journal(dir, 4096, FsyncPolicy.none())) {
+            live.setJournal(journal);
+            limit(live, 1, OrderSide.ASK, 250_100, 100);
+            limit(live, 2, OrderSide.BID, 250_100, 40);
+            live.submitOrder(stop(3, OrderSide.BID, OrderType.STOP_LIMIT,
+                250_500, 250_400, 50));
+            live.submitOrder(stop(4, OrderSide.BID, OrderType.STOP,
+                0, 250_300, 50));
+            live.submitOrder(stop(5, OrderSide.ASK, OrderType.STOP,
+                0, 249_000, 50));
+            live.submitOrder(new Order(6, "RELIANCE", OrderSide.ASK,
+                OrderType.STOP, 0, 50, TimeInForce.GTD, 1_000, 0, 248_000));
+
+            assertTrue(live.cancelOrder(4));
+            assertEquals(1, live.expireOrders(1_000, false));
+            assertEquals("3 5 ", stops(live));
+        }
+
+        // Replay rebuilds parked stops and the last trade
+        MatchingEngine rebuilt = BookFixtures.assertReplayMatches(live, dir);
+        assertEquals(stops(live), stops(rebuilt));
+        assertEquals(250_100, rebuilt.getLastTradePrice());
+
+        Path file = BookSnapshot.write(dir, live);
+        MatchingEngine loaded = new MatchingEngine(new OrderBook("RELIANCE"));
+        BookSnapshot.load(file, loaded);
+        assertEquals(stops(live), stops(loaded));
+        assertEquals(250_400,
+            loaded.getStopBook().get(3).getStopPrice());
+        assertEquals(OrderType.STOP_LIMIT,
+            loaded.getStopBook().get(3).getType());
+        assertEquals(250_100, loaded.getLastTradePrice());
+        assertEquals(40, loaded.getLastTradeQuantity());
+    }
+
+    private static Order stop(long id, OrderSide side, OrderType type,
+                              long price, long stopPrice, int quantity) {
+        return new Order(id, "RELIANCE", side, type, price, quantity, stopPrice);
+    }
+
+    private static void limit(MatchingEngine engine, long id, OrderSide side,
+                              long price, int quantity) {
+        engine.submitOrder(new Order(id, "RELIANCE",
+            side, OrderType.LIMIT, price, quantity));
+    }
+
+    private static String stops(MatchingEngine engine) {
+        StringBuilder sb = new StringBuilder();
+        engine.getStopBook().forEach(o -> sb.append(o.getOrderId()).append(' '));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,140 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.event.EngineListener;
+import com.trading.lob.journal.FsyncPolicy;
+import com.trading.lob.journal.Journal;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.RejectReason;
+import com.trading.lob.model.TimeInForce;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit Tests for time in force
+ *
+ * Tests:
+ * - IOC trades what it can and never rests
+ * - FOK fills in full or is killed without touching
+ *   the book
+ * - DAY / GTD orders expire, GTC stays; replay keeps
+ *   time in force
+ */
+class TimeInForceTest {
+
+    // ─────────────────────────────────────────────────
+    // IMMEDIATE TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("IOC should fill what it can and drop the rest")
+    void testImmediateOrCancel() {
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        ask(engine, 1, 250_100, 100);
+
+        int fills = engine.submitOrder(order(2, OrderSide.BID, 250_100, 300,
+            TimeInForce.IOC, 0), (b, s, p, q) -> { });
+
+        assertEquals(1, fills);
+        OrderBook book = engine.getOrderBook();
+        assertFalse(book.hasBids(), "IOC remainder must not rest");
+        assertFalse(book.hasAsks());
+        assertEquals(0, book.getTotalOrders());
+    }
+
+    @Test
+    @DisplayName("FOK should fill in full or be killed untouched")
+    void testFillOrKill() {
+        List<RejectReason> rejects = new ArrayList<>();
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"),
+            new EngineListener() {
+                @Override
+                public void onOrderRejected(long orderId, RejectReason reason) {
+                    rejects.add(reason);
+                }
+            });
+        OrderBook book = engine.getOrderBook();
+        ask(engine, 1, 250_100, 100);
+        ask(engine, 2, 250_200, 100);
+        ask(engine, 3, 250_300, 100);
+        long sequence = book.getLevelSequence();
+
+        // 250 wanted, only 200 up to 250_200
+        assertEquals(0, engine.submitOrder(order(4, OrderSide.BID,
+            250_200, 250, TimeInForce.FOK, 0), (b, s, p, q) -> { }));
+        assertEquals(List.of(RejectReason.NOT_FILLABLE), rejects);
+        assertEquals(sequence, book.getLevelSequence(), "Book must be untouched");
+        assertEquals(3, book.getTotalOrders());
+        assertEquals(0, engine.getTotalTrades());
+
+        // Enough once the limit reaches the third level
+        assertEquals(3, engine.submitOrder(order(5, OrderSide.BID,
+            250_300, 250, TimeInForce.FOK, 0), (b, s, p, q) -> { }));
+        assertEquals(250_300, book.getBestAsk());
+        assertEquals(50, book.getBestAskLevel().getTotalVolume());
+        assertFalse(book.hasBids());
+
+        // Market FOK: no price limit, volume only
+        assertEquals(0, engine.submitOrder(new Order(6, "RELIANCE",
+            OrderSide.BID, OrderType.MARKET, 0, 51, TimeInForce.FOK, 0),
+            (b, s, p, q) -> { }));
+        assertEquals(2, rejects.size());
+    }
+
+    // ─────────────────────────────────────────────────
+    // EXPIRY TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("DAY and GTD should expire, GTC should stay, replay keeps it")
+    void testExpiryAndReplay(@TempDir Path dir) {
+        MatchingEngine live = new MatchingEngine(new OrderBook("RELIANCE"));
+        try (Journal journal = new Journal(dir, 4096, FsyncPolicy.none())) {
+            live.setJournal(journal);
+            live.submitOrder(order(1, OrderSide.BID, 250_000, 100,
+                TimeInForce.DAY, 0));
+            live.submitOrder(order(2, OrderSide.BID, 249_900, 100,
+                TimeInForce.GTC, 0));
+            live.submitOrder(order(3, OrderSide.ASK, 250_100, 100,
+                TimeInForce.GTD, 1_000));
+            live.submitOrder(order(4, OrderSide.ASK, 250_200, 100,
+                TimeInForce.GTD, 2_000));
+
+            assertEquals(0, live.expireOrders(999, false));
+            assertEquals(1, live.expireOrders(1_000, false));
+            assertEquals(250_200, live.getOrderBook().getBestAsk());
+        }
+
+        // Replayed orders keep their time in force
+        MatchingEngine rebuilt = BookFixtures.assertReplayMatches(live, dir);
+
+        assertEquals(2, rebuilt.expireOrders(2_000, true));
+        OrderBook book = rebuilt.getOrderBook();
+        assertEquals(1, book.getTotalOrders());
+        assertEquals(TimeInForce.GTC,
+            book.getBestBidLevel().peek().getTimeInForce());
+        assertFalse(book.hasAsks());
+    }
+
+    private static Order order(long id, OrderSide side, long price,
+                               int quantity, TimeInForce tif,
+                               long expireTime) {
+        return new Order(id, "RELIANCE", side, OrderType.LIMIT,
+                         price, quantity, tif, expireTime);
+    }
+
+    private static void ask(MatchingEngine engine, long id,
+                            long price, int quantity) {
+        engine.submitOrder(new Order(id, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, price, quantity));
+    }
+}
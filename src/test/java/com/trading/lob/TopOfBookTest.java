@@ -0,0 +1,121 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.marketdata.TopOfBook;
+import com.trading.lob.marketdata.TopOfBookPublisher;
+import com.trading.lob.marketdata.TopOfBookSlot;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit Tests for the conflated top-of-book publisher
+ *
+ * Tests:
+ * - Engine publishes best prices, sizes and last trade
+ *   only when they change
+ * - Readers never see a torn update while the writer
+ *   runs flat out
+ */
+class TopOfBookTest {
+
+    // ─────────────────────────────────────────────────
+    // ENGINE TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Engine should publish top of book on change only")
+    void testEnginePublishes() {
+        TopOfBookPublisher publisher = new TopOfBookPublisher();
+        MatchingEngine engine = new MatchingEngine(new OrderBook("RELIANCE"));
+        engine.setTopOfBook(publisher.slotFor("RELIANCE"));
+        TopOfBook tob = new TopOfBook();
+
+        assertEquals(0, publisher.read("RELIANCE", tob));
+        assertEquals(-1, publisher.read("TCS", tob));
+
+        engine.submitOrder(new Order(1, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, 250_000, 500));
+        engine.submitOrder(new Order(2, "RELIANCE",
+            OrderSide.ASK, OrderType.LIMIT, 250_100, 300));
+        assertEquals(2, publisher.read("RELIANCE", tob));
+        assertEquals(250_000, tob.getBidPrice());
+        assertEquals(500, tob.getBidSize());
+        assertEquals(250_100, tob.getAskPrice());
+        assertEquals(300, tob.getAskSize());
+
+        // Behind the touch: nothing to publish
+        engine.submitOrder(new Order(3, "RELIANCE",
+            OrderSide.BID, OrderType.LIMIT, 249_000, 100));
+        assertEquals(2, publisher.read("RELIANCE", tob));
+
+        // Trade against the best ask
+        engine.submitOrder(new Order(4, "RELIANCE",
+            OrderSide.BID, OrderType.MARKET, 0, 100));
+        assertEquals(3, publisher.read("RELIANCE", tob));
+        assertEquals(200, tob.getAskSize());
+        assertEquals(250_100, tob.getLastPrice());
+        assertEquals(100, tob.getLastSize());
+        assertEquals(1, tob.getTradeCount());
+
+        engine.cancelOrder(2);
+        assertEquals(4, publisher.read("RELIANCE", tob));
+        assertEquals(0, tob.getAskPrice());
+        assertEquals("RELIANCE", tob.getSymbol());
+    }
+
+    // ─────────────────────────────────────────────────
+    // SEQLOCK TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Readers should never see a torn update")
+    void testNoTornReads() throws InterruptedException {
+        TopOfBookSlot slot = new TopOfBookSlot("RELIANCE");
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicLong torn = new AtomicLong();
+        AtomicLong reads = new AtomicLong();
+
+        // Every field derives from one counter
+        Runnable reader = () -> {
+            TopOfBook tob = new TopOfBook();
+            do {
+                if (slot.read(tob) == 0) {
+                    continue;   // Nothing published yet
+                }
+                long i = tob.getTradeCount();
+                if (tob.getBidPrice() != i || tob.getAskPrice() != i + 1
+                        || tob.getBidSize() != (int) i
+                        || tob.getAskSize() != (int) (i * 3)
+                        || tob.getLastPrice() != i * 7) {
+                    torn.incrementAndGet();
+                }
+                reads.incrementAndGet();
+            } while (!done.get());
+        };
+        Thread r1 = new Thread(reader);
+        Thread r2 = new Thread(reader);
+        r1.start();
+        r2.start();
+
+        int writes = 2_000_000;
+        for (long i = 1; i <= writes; i++) {
+            slot.publish(i, (int) i, i + 1, (int) (i * 3),
+                         i * 7, 1, i);
+        }
+        done.set(true);
+        r1.join();
+        r2.join();
+
+        assertEquals(0, torn.get());
+        assertTrue(reads.get() > 0);
+        assertEquals(writes, slot.getUpdate());
+    }
+}
@@ -0,0 +1,114 @@
+package com.trading.lob;
+
+import com.trading.lob.book.MatchingEngine;
+import com.trading.lob.book.OrderBook;
+import com.trading.lob.event.EngineListener;
+import com.trading.lob.history.TradeHistory;
+import com.trading.lob.model.Order;
+import com.trading.lob.model.OrderSide;
+import com.trading.lob.model.OrderType;
+import com.trading.lob.model.Trade;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Unit Tests for TradeHistory
+ *
+ * Tests the bounded trade ring:
+ * - Keeps only the newest trades in memory
+ * - Spills evicted trades to disk in order
+ * - Engine trade count stays exact past capacity
+ */
+class TradeHistoryTest {
+
+    // ─────────────────────────────────────────────────
+    // RING TESTS
+    // ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Ring should keep the newest trades, oldest first")
+    void testRingKeepsNewest() {
+        TradeHistory history = new TradeHistory("RELIANCE", 4);
+        for (int i = 1; i <= 10; i++) {
+            history.record(i, 100 + i, 250_000 + i, i);
+        }
+
+        assertEquals(10, history.size());
+        assertEquals(4, history.getRetainedCount());
+
+        List<Trade> retained = history.getRetained();
+        assertEquals(4, retained.size());
+        assertEquals(7,  retained.get(0).getTradeId());
+        assertEquals(10, retained.get(3).getTradeId());
+        assertEquals(250_010, retained.get(3).getPrice());
+
+        List<Trade> lastTwo = history.getRecent(2);
+        assertEquals(9,  lastTwo.get(0).getTradeId());
+        assertEquals(10, lastTwo.get(1).getTradeId());
+        assertEquals(10, history.getLast().getBuyOrderId());
+    }
+
+    @Test
+    @DisplayName("Evicted trades should be spilled to disk in order")
+    void testSpillToDisk() throws IOException {
+        Path file = Files.createTempFile("trades", ".bin");
+        try {
+            try (TradeHistory history =
+                     new TradeHistory("RELIANCE", 3, file)) {
+                for (int i = 1; i <= 2000; i++) {
+                    history.record(i, 10_000 + i, 250_000, 5);
+                }
+            }
+
+            assertEquals(1997L * TradeHistory.RECORD_BYTES,
+                         Files.size(file));
+
+            List<Trade> spilled =
+                TradeHistory.readSpillFile(file, "RELIANCE");
+            assertEquals(1997, spilled.size());
+            for (int i = 0; i < spilled.size(); i++) {
+                Trade t = spilled.get(i);
+                assertEquals(i + 1, t.getTradeId());
+                assertEquals(i + 1, t.getBuyOrderId());
+                assertEquals(10_001 + i, t.getSellOrderId());
+                assertEquals(5, t.getQuantity());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Engine should count every trade past history capacity")
+    void testEngineHistoryIsBounded() {
+        MatchingEngine engine = new MatchingEngine(
+            new OrderBook("RELIANCE"), EngineListener.NO_OP,
+            new TradeHistory("RELIANCE", 8));
+
+        for (int i = 0; i < 50; i++) {
+            engine.submitOrder(new Order(engine.getNextOrderId(),
+                "RELIANCE", OrderSide.ASK, OrderType.LIMIT, 250_100, 10));
+            List<Trade> trades = engine.submitOrder(new Order(
+                engine.getNextOrderId(), "RELIANCE",
+                OrderSide.BID, OrderType.LIMIT, 250_100, 10));
+            assertEquals(i + 1, trades.get(0).getTradeId());
+        }
+
+        assertEquals(50, engine.getTotalTrades());
+        assertEquals(8, engine.getTradeHistory().size());
+        assertEquals(50, engine.getTradeHistory(3).get(2).getTradeId());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive capacity")
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new TradeHistory("RELIANCE", 0));
+    }
+}